@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.benchmarks;
+
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.Score;
+import io.jenkins.pluginhealth.scoring.model.ScoreResult;
+import io.jenkins.pluginhealth.scoring.model.ScoringComponentResult;
+import io.jenkins.pluginhealth.scoring.scores.Scoring;
+import io.jenkins.pluginhealth.scoring.scores.ScoringComponent;
+
+/**
+ * Reproduces how a {@link Scoring} was applied on a plugin before the scorings were compiled into a plan:
+ * the components are re-created for each plugin, the probe results are copied for each component and the results
+ * are aggregated with streams.
+ * This is used as a baseline for {@link ScoringBenchmark}.
+ */
+final class LegacyScoring {
+    private LegacyScoring() {}
+
+    static Score score(List<Scoring> scorings, Plugin plugin) {
+        final Score score = new Score(plugin, ZonedDateTime.now());
+        scorings.stream().map(scoring -> apply(scoring, plugin)).forEach(score::addDetail);
+        return score;
+    }
+
+    private static ScoreResult apply(Scoring scoring, Plugin plugin) {
+        final Set<ScoringComponentResult> results = scoring.getComponents().stream()
+                .map(component -> evaluate(component, plugin))
+                .collect(Collectors.toCollection(HashSet::new));
+        final double sum = results.stream()
+                .flatMapToDouble(result -> DoubleStream.of(result.score() * result.weight()))
+                .sum();
+        final double weight = results.stream()
+                .flatMapToDouble(result -> DoubleStream.of(result.weight()))
+                .sum();
+        return new ScoreResult(
+                scoring.key(),
+                weight == 0 ? 100 : (int) Math.max(0, Math.round(sum / weight)),
+                scoring.weight(),
+                results,
+                scoring.version());
+    }
+
+    private static ScoringComponentResult evaluate(ScoringComponent component, Plugin plugin) {
+        try {
+            return component.getScore(plugin, Map.copyOf(plugin.getDetails()));
+        } catch (Throwable e) {
+            return new ScoringComponentResult(
+                    0,
+                    component.getWeight(),
+                    List.of("Could not run scoring because of " + e.getClass().getCanonicalName()));
+        }
+    }
+}
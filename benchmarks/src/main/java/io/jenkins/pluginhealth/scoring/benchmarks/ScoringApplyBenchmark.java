@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.scores.AdoptionScoring;
+import io.jenkins.pluginhealth.scoring.scores.DependencyManagementScoring;
+import io.jenkins.pluginhealth.scoring.scores.DeprecatedPluginScoring;
+import io.jenkins.pluginhealth.scoring.scores.DocumentationScoring;
+import io.jenkins.pluginhealth.scoring.scores.JUnit4BanScoring;
+import io.jenkins.pluginhealth.scoring.scores.PluginMaintenanceScoring;
+import io.jenkins.pluginhealth.scoring.scores.Scoring;
+import io.jenkins.pluginhealth.scoring.scores.SecurityWarningScoring;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Applies each {@link Scoring} implementation on its own to all the synthetic plugins.
+ * <p>
+ * Where {@link ScoringBenchmark} measures the scoring of a plugin as a whole, this benchmark tells which
+ * implementation is responsible for its cost. Each operation is the scoring of one plugin.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoringApplyBenchmark {
+    private static final int PLUGINS = 5_000;
+
+    @Param({"42"})
+    private long seed;
+
+    @Param({
+        "AdoptionScoring",
+        "DependencyManagementScoring",
+        "DeprecatedPluginScoring",
+        "DocumentationScoring",
+        "JUnit4BanScoring",
+        "PluginMaintenanceScoring",
+        "SecurityWarningScoring"
+    })
+    private String scoringName;
+
+    private Scoring scoring;
+    private List<Plugin> plugins;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scoring = Stream.of(
+                        new AdoptionScoring(),
+                        new DependencyManagementScoring(),
+                        new DeprecatedPluginScoring(),
+                        new DocumentationScoring(),
+                        new JUnit4BanScoring(),
+                        new PluginMaintenanceScoring(),
+                        new SecurityWarningScoring())
+                .filter(candidate -> candidate.name().equals(scoringName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scoring " + scoringName));
+        plugins = SyntheticPlugins.generate(PLUGINS, seed);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLUGINS)
+    public void apply(Blackhole blackhole) {
+        for (Plugin plugin : plugins) {
+            blackhole.consume(scoring.apply(plugin));
+        }
+    }
+}
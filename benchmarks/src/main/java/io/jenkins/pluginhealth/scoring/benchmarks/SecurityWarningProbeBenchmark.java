@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.updatecenter.SecurityWarning;
+import io.jenkins.pluginhealth.scoring.model.updatecenter.SecurityWarningVersion;
+import io.jenkins.pluginhealth.scoring.model.updatecenter.UpdateCenter;
+import io.jenkins.pluginhealth.scoring.probes.KnownSecurityVulnerabilityProbe;
+import io.jenkins.pluginhealth.scoring.probes.ProbeContext;
+
+import hudson.util.VersionNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Runs the {@link KnownSecurityVulnerabilityProbe} on all the synthetic plugins, against an update center with as
+ * many security warnings as the real one.
+ * <p>
+ * Each operation is the execution of the probe on one plugin, so the throughput is reported in plugins per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityWarningProbeBenchmark {
+    private static final int PLUGINS = 2_000;
+
+    @Param({"42"})
+    private long seed;
+
+    @Param({"1500"})
+    private int warnings;
+
+    private final KnownSecurityVulnerabilityProbe probe = new KnownSecurityVulnerabilityProbe();
+
+    private List<Plugin> plugins;
+    private List<ProbeContext> contexts;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(seed);
+        final UpdateCenter updateCenter = new UpdateCenter(
+                Map.of(),
+                Map.of(),
+                IntStream.range(0, warnings)
+                        .mapToObj(index -> warning(index, random))
+                        .toList());
+        plugins = SyntheticPlugins.generate(PLUGINS, seed);
+        contexts = plugins.stream()
+                .map(plugin -> new ProbeContext(plugin, updateCenter))
+                .toList();
+    }
+
+    /*
+     * Like in the update center, a warning targets the versions of a plugin up to a last version, or matching a
+     * pattern.
+     */
+    private static SecurityWarning warning(int index, Random random) {
+        final int major = 1 + random.nextInt(5);
+        return new SecurityWarning(
+                "SECURITY-" + index,
+                "plugin-" + random.nextInt(PLUGINS),
+                "https://www.jenkins.io/security/advisory/",
+                List.of(new SecurityWarningVersion(
+                        new VersionNumber("%d.%d".formatted(major, random.nextInt(500))),
+                        "%d[.]([0-9]|[1-9][0-9]|[1-4][0-9][0-9])(|[.-].*)".formatted(major))));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLUGINS)
+    public void knownSecurityVulnerability(Blackhole blackhole) {
+        for (int i = 0; i < PLUGINS; i++) {
+            blackhole.consume(probe.apply(plugins.get(i), contexts.get(i)));
+        }
+    }
+}
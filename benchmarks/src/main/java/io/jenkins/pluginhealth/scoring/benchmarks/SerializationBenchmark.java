@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.benchmarks;
+
+import java.lang.reflect.Type;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+import io.jenkins.pluginhealth.scoring.model.Resolution;
+import io.jenkins.pluginhealth.scoring.model.Score;
+import io.jenkins.pluginhealth.scoring.model.ScoreResult;
+import io.jenkins.pluginhealth.scoring.model.ScoringComponentResult;
+import io.jenkins.pluginhealth.scoring.scores.AdoptionScoring;
+import io.jenkins.pluginhealth.scoring.scores.DependencyManagementScoring;
+import io.jenkins.pluginhealth.scoring.scores.DeprecatedPluginScoring;
+import io.jenkins.pluginhealth.scoring.scores.DocumentationScoring;
+import io.jenkins.pluginhealth.scoring.scores.JUnit4BanScoring;
+import io.jenkins.pluginhealth.scoring.scores.PluginMaintenanceScoring;
+import io.jenkins.pluginhealth.scoring.scores.Scoring;
+import io.jenkins.pluginhealth.scoring.scores.SecurityWarningScoring;
+import io.jenkins.pluginhealth.scoring.service.ScoreService;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.hypersistence.utils.hibernate.type.util.JsonConfiguration;
+import io.hypersistence.utils.hibernate.type.util.ObjectMapperWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures the JSON (de)serialization of the probe results of the plugins, and of the score report.
+ * <p>
+ * The {@code details} benchmarks use the same mapper as the {@code jsonb} column of the plugins, and each of their
+ * operations is the (de)serialization of the probe results of one plugin. The {@code scoreReport} benchmarks use a
+ * Jackson 3 mapper, like the HTTP API, on the report of the scores of all the synthetic plugins, so each of their
+ * operations is a full report.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+    private static final int PLUGINS = 2_000;
+    private static final Type DETAILS_TYPE = new TypeReference<Map<String, ProbeResult>>() {}.getType();
+
+    @Param({"42"})
+    private long seed;
+
+    private final ObjectMapperWrapper detailsMapper = JsonConfiguration.INSTANCE.getObjectMapperWrapper();
+    private final JsonMapper reportMapper = JsonMapper.builder().build();
+
+    private List<Map<String, ProbeResult>> details;
+    private List<String> detailsJson;
+    private ScoreReport report;
+    private String reportJson;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final List<Plugin> plugins = SyntheticPlugins.generate(PLUGINS, seed);
+        details = plugins.stream().map(Plugin::getDetails).toList();
+        detailsJson = details.stream().map(detailsMapper::toString).toList();
+        report = report(plugins);
+        reportJson = reportMapper.writeValueAsString(report);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLUGINS)
+    public void serializeDetails(Blackhole blackhole) {
+        for (Map<String, ProbeResult> pluginDetails : details) {
+            blackhole.consume(detailsMapper.toString(pluginDetails));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLUGINS)
+    public void deserializeDetails(Blackhole blackhole) {
+        for (String json : detailsJson) {
+            blackhole.consume(detailsMapper.<Map<String, ProbeResult>>fromString(json, DETAILS_TYPE));
+        }
+    }
+
+    @Benchmark
+    public String serializeScoreReport() {
+        return reportMapper.writeValueAsString(report);
+    }
+
+    @Benchmark
+    public ScoreReport deserializeScoreReport() {
+        return reportMapper.readValue(reportJson, ScoreReport.class);
+    }
+
+    private static ScoreReport report(List<Plugin> plugins) {
+        final List<Scoring> scorings = List.of(
+                new AdoptionScoring(),
+                new DependencyManagementScoring(),
+                new DeprecatedPluginScoring(),
+                new DocumentationScoring(),
+                new JUnit4BanScoring(),
+                new PluginMaintenanceScoring(),
+                new SecurityWarningScoring());
+        final ZonedDateTime now = ZonedDateTime.now();
+        final Map<String, PluginScoreSummary> summaries = plugins.stream()
+                .collect(Collectors.toMap(Plugin::getName, plugin -> {
+                    final Score score = new Score(plugin, now);
+                    scorings.forEach(scoring -> score.addDetail(scoring.apply(plugin)));
+                    return new PluginScoreSummary(
+                            score.getValue(),
+                            score.getComputedAt(),
+                            score.getDetails().stream()
+                                    .collect(Collectors.toMap(ScoreResult::key, PluginScoreDetail::new)));
+                }));
+        return new ScoreReport(summaries, Optional.of(new ScoreService.ScoreStatistics(72.4, 0, 100, 61, 75, 86)));
+    }
+
+    /*
+     * The score report records of the HTTP API are not available from this module, which only depends on the core
+     * module. Those records reproduce the same JSON structure.
+     */
+    public record ScoreReport(
+            Map<String, PluginScoreSummary> plugins, Optional<ScoreService.ScoreStatistics> statistics) {}
+
+    public record PluginScoreSummary(long value, ZonedDateTime date, Map<String, PluginScoreDetail> details) {}
+
+    public record PluginScoreDetail(float value, float weight, List<PluginScoreDetailComponent> components) {
+        PluginScoreDetail(ScoreResult result) {
+            this(
+                    result.value(),
+                    result.weight(),
+                    result.componentsResults().stream()
+                            .map(PluginScoreDetailComponent::new)
+                            .toList());
+        }
+    }
+
+    public record PluginScoreDetailComponent(
+            int value, float weight, List<String> reasons, List<Resolution> resolutions) {
+        PluginScoreDetailComponent(ScoringComponentResult result) {
+            this(result.score(), result.weight(), result.reasons(), result.resolutions());
+        }
+    }
+}
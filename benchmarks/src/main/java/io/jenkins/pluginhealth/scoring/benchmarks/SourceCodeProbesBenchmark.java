@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+import io.jenkins.pluginhealth.scoring.model.updatecenter.UpdateCenter;
+import io.jenkins.pluginhealth.scoring.probes.CodeOwnershipProbe;
+import io.jenkins.pluginhealth.scoring.probes.HasUnreleasedProductionChangesProbe;
+import io.jenkins.pluginhealth.scoring.probes.JSR305Probe;
+import io.jenkins.pluginhealth.scoring.probes.ProbeContext;
+
+import hudson.util.VersionNumber;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the probes browsing the source code of a plugin on generated repositories of different sizes.
+ * <p>
+ * The repository is generated by {@link SyntheticRepositories} and cloned once per trial by the {@link ProbeContext},
+ * the same way the probe engine does. All its commits are more recent than the release of the plugin, so
+ * {@link HasUnreleasedProductionChangesProbe} walks the whole history.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SourceCodeProbesBenchmark {
+    private static final String PLUGIN = "benchmark";
+
+    @Param({"100", "1000", "10000"})
+    private int files;
+
+    private final JSR305Probe jsr305 = new JSR305Probe();
+    private final CodeOwnershipProbe codeOwnership = new CodeOwnershipProbe();
+    private final HasUnreleasedProductionChangesProbe unreleasedProductionChanges =
+            new HasUnreleasedProductionChangesProbe();
+
+    private Path origin;
+    private Plugin plugin;
+    private ProbeContext context;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, GitAPIException {
+        final ZonedDateTime release = ZonedDateTime.now().minusDays(30);
+        origin = SyntheticRepositories.generate(PLUGIN, files, release.plusDays(1));
+        plugin = new Plugin(PLUGIN, new VersionNumber("1.0"), origin.toUri().toString(), release);
+        context = new ProbeContext(plugin, new UpdateCenter(Map.of(), Map.of(), List.of()));
+        context.cloneRepository();
+        if (context.getScmRepository().isEmpty()) {
+            throw new IllegalStateException("Could not clone the generated repository " + origin);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        SyntheticRepositories.delete(origin);
+    }
+
+    @Benchmark
+    public ProbeResult jsr305() {
+        return jsr305.apply(plugin, context);
+    }
+
+    @Benchmark
+    public ProbeResult codeOwnership() {
+        return codeOwnership.apply(plugin, context);
+    }
+
+    @Benchmark
+    public ProbeResult unreleasedProductionChanges() {
+        return unreleasedProductionChanges.apply(plugin, context);
+    }
+}
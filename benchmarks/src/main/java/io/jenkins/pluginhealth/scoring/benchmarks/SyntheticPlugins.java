@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.benchmarks;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+import io.jenkins.pluginhealth.scoring.probes.CodeOwnershipProbe;
+import io.jenkins.pluginhealth.scoring.probes.ContinuousDeliveryProbe;
+import io.jenkins.pluginhealth.scoring.probes.ContributingGuidelinesProbe;
+import io.jenkins.pluginhealth.scoring.probes.DependabotProbe;
+import io.jenkins.pluginhealth.scoring.probes.DependabotPullRequestProbe;
+import io.jenkins.pluginhealth.scoring.probes.DeprecatedPluginProbe;
+import io.jenkins.pluginhealth.scoring.probes.DocumentationMigrationProbe;
+import io.jenkins.pluginhealth.scoring.probes.InstallationStatProbe;
+import io.jenkins.pluginhealth.scoring.probes.JenkinsfileProbe;
+import io.jenkins.pluginhealth.scoring.probes.KnownSecurityVulnerabilityProbe;
+import io.jenkins.pluginhealth.scoring.probes.LastCommitDateProbe;
+import io.jenkins.pluginhealth.scoring.probes.MavenDependenciesProbe;
+import io.jenkins.pluginhealth.scoring.probes.MavenPropertiesProbe;
+import io.jenkins.pluginhealth.scoring.probes.PluginDescriptionMigrationProbe;
+import io.jenkins.pluginhealth.scoring.probes.ReleaseDrafterProbe;
+import io.jenkins.pluginhealth.scoring.probes.RenovateProbe;
+import io.jenkins.pluginhealth.scoring.probes.RepositoryArchivedStatusProbe;
+import io.jenkins.pluginhealth.scoring.probes.UpForAdoptionProbe;
+import io.jenkins.pluginhealth.scoring.probes.UpdateCenterPluginPublicationProbe;
+
+import hudson.util.VersionNumber;
+
+/**
+ * Generates plugins with a realistic set of {@link ProbeResult}, as produced by the probe engine.
+ * The generation is deterministic for a given seed so that runs can be compared.
+ */
+public final class SyntheticPlugins {
+    private SyntheticPlugins() {}
+
+    public static List<Plugin> generate(int count, long seed) {
+        final Random random = new Random(seed);
+        final ZonedDateTime now = ZonedDateTime.now();
+        return IntStream.range(0, count)
+                .mapToObj(index -> generate(index, random, now))
+                .toList();
+    }
+
+    private static Plugin generate(int index, Random random, ZonedDateTime now) {
+        final ZonedDateTime release = now.minusDays(random.nextInt(3 * 365));
+        final ZonedDateTime lastCommit = release.plusDays(random.nextInt(2 * 365) - 365L);
+        final Plugin plugin = new Plugin(
+                "plugin-" + index,
+                new VersionNumber("%d.%d".formatted(1 + random.nextInt(5), random.nextInt(500))),
+                "https://github.com/jenkinsci/plugin-" + index,
+                release);
+
+        List.of(
+                        ProbeResult.success(
+                                UpForAdoptionProbe.KEY,
+                                random.nextInt(20) == 0
+                                        ? "This plugin is up for adoption."
+                                        : "This plugin is not up for adoption.",
+                                1),
+                        ProbeResult.success(
+                                LastCommitDateProbe.KEY, lastCommit.format(DateTimeFormatter.ISO_DATE_TIME), 1),
+                        ProbeResult.success(
+                                DeprecatedPluginProbe.KEY,
+                                random.nextInt(30) == 0
+                                        ? "This plugin is marked as deprecated."
+                                        : "This plugin is NOT deprecated.",
+                                1),
+                        ProbeResult.success(RepositoryArchivedStatusProbe.KEY, random.nextInt(50) == 0, 1),
+                        ProbeResult.success(
+                                UpdateCenterPluginPublicationProbe.KEY,
+                                "This plugin is still actively published by the update-center.",
+                                1),
+                        ProbeResult.success(
+                                ContributingGuidelinesProbe.KEY,
+                                random.nextBoolean()
+                                        ? "Contributing guidelines found."
+                                        : "Inherit from organization contributing guide.",
+                                1),
+                        ProbeResult.success(
+                                DocumentationMigrationProbe.KEY,
+                                random.nextInt(4) == 0
+                                        ? "Documentation is not located in the plugin repository."
+                                        : "Documentation is located in the plugin repository.",
+                                1),
+                        ProbeResult.success(
+                                ContinuousDeliveryProbe.KEY,
+                                random.nextBoolean()
+                                        ? "JEP-229 workflow definition found."
+                                        : "Could not find JEP-229 workflow definition.",
+                                1),
+                        ProbeResult.success(ReleaseDrafterProbe.KEY, "Release Drafter is configured.", 1),
+                        ProbeResult.success(
+                                PluginDescriptionMigrationProbe.KEY,
+                                "Plugin seems to have a correct description.",
+                                1),
+                        ProbeResult.success(
+                                MavenPropertiesProbe.KEY,
+                                Map.of("ban-junit4-imports.skip", String.valueOf(random.nextBoolean())),
+                                1),
+                        ProbeResult.success(
+                                JenkinsfileProbe.KEY,
+                                random.nextInt(10) == 0 ? "No Jenkinsfile found" : "Jenkinsfile found",
+                                1),
+                        ProbeResult.success(
+                                CodeOwnershipProbe.KEY,
+                                random.nextInt(3) == 0 ? "No CODEOWNERS file found." : "CODEOWNERS file is valid.",
+                                1),
+                        ProbeResult.success(
+                                KnownSecurityVulnerabilityProbe.KEY,
+                                random.nextInt(25) == 0
+                                        ? "SECURITY-%d|https://www.jenkins.io/security/advisory/".formatted(index)
+                                        : "No known security vulnerabilities.",
+                                1),
+                        ProbeResult.success(
+                                DependabotProbe.KEY,
+                                random.nextBoolean() ? "Dependabot is configured." : "Dependabot is not configured.",
+                                1),
+                        ProbeResult.success(RenovateProbe.KEY, "Renovate is configured.", 1),
+                        ProbeResult.success(DependabotPullRequestProbe.KEY, random.nextInt(6), 1),
+                        ProbeResult.success(
+                                MavenDependenciesProbe.KEY,
+                                IntStream.range(0, random.nextInt(12))
+                                        .mapToObj(i -> "org.jenkins-ci.plugins:dependency-" + i)
+                                        .toList(),
+                                1),
+                        ProbeResult.success(InstallationStatProbe.KEY, random.nextInt(500_000), 1))
+                .forEach(plugin::addDetails);
+        return plugin;
+    }
+}
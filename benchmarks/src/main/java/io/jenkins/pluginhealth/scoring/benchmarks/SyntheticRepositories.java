@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.PersonIdent;
+
+/**
+ * Generates Git repositories shaped like the source code of a plugin, to be analyzed by the probes.
+ * <p>
+ * The repositories contain a {@code pom.xml}, a {@code CODEOWNERS} file and the requested number of Java files, split
+ * between production and test code. One Java file out of twenty still imports the {@code javax.annotation}
+ * annotations. The files are committed {@value #FILES_PER_COMMIT} at a time, so the history grows with the size of
+ * the repository.
+ */
+public final class SyntheticRepositories {
+    static final int FILES_PER_COMMIT = 50;
+
+    private SyntheticRepositories() {}
+
+    /**
+     * @param name       the name of the plugin, used for the {@code CODEOWNERS} file
+     * @param files      the number of Java files in the repository
+     * @param commitDate the date of all the commits of the repository
+     * @return the folder of the generated repository
+     */
+    public static Path generate(String name, int files, ZonedDateTime commitDate) throws IOException, GitAPIException {
+        final Path repository = Files.createTempDirectory(name);
+        final PersonIdent author =
+                new PersonIdent(new PersonIdent("Benchmark", "benchmark@example.com"), commitDate.toInstant());
+        try (Git git = Git.init().setDirectory(repository.toFile()).call()) {
+            Files.writeString(repository.resolve("pom.xml"), """
+                    <project>
+                      <artifactId>%s</artifactId>
+                      <packaging>hpi</packaging>
+                    </project>
+                    """.formatted(name));
+            final Path github = Files.createDirectories(repository.resolve(".github"));
+            Files.writeString(github.resolve("CODEOWNERS"), "* @jenkinsci/%s-plugin-developers%n".formatted(name));
+            git.add().addFilepattern("pom.xml").addFilepattern(".github").call();
+            commit(git, author, "Initial commit");
+
+            for (int commit = 0; commit * FILES_PER_COMMIT < files; commit++) {
+                final String pkg = "p" + commit;
+                final Path main = Files.createDirectories(sources(repository, "main", pkg));
+                final Path test = Files.createDirectories(sources(repository, "test", pkg));
+                final int last = Math.min(files, (commit + 1) * FILES_PER_COMMIT);
+                for (int index = commit * FILES_PER_COMMIT; index < last; index++) {
+                    final Path folder = index % 5 == 0 ? test : main;
+                    Files.writeString(folder.resolve("Class%d.java".formatted(index)), javaFile(pkg, index));
+                }
+                git.add().addFilepattern("src/main/java/" + pkg).addFilepattern("src/test/java/" + pkg).call();
+                commit(git, author, "Adds package " + pkg);
+            }
+        }
+        return repository;
+    }
+
+    public static void delete(Path repository) throws IOException {
+        try (Stream<Path> paths = Files.walk(repository)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private static Path sources(Path repository, String set, String pkg) {
+        return repository.resolve("src").resolve(set).resolve("java").resolve(pkg);
+    }
+
+    private static void commit(Git git, PersonIdent author, String message) throws GitAPIException {
+        git.commit()
+                .setMessage(message)
+                .setSign(false)
+                .setAuthor(author)
+                .setCommitter(author)
+                .call();
+    }
+
+    private static String javaFile(String pkg, int index) {
+        return """
+                package %s;
+
+                import %s;
+                import java.util.List;
+
+                public class Class%d {
+                    private final List<String> values;
+
+                    public Class%3$d(@NonNull List<String> values) {
+                        this.values = values;
+                    }
+
+                    public @NonNull List<String> getValues() {
+                        return values;
+                    }
+                }
+                """
+                .formatted(
+                        pkg,
+                        index % 20 == 0 ? "javax.annotation.Nonnull" : "edu.umd.cs.findbugs.annotations.NonNull",
+                        index);
+    }
+}
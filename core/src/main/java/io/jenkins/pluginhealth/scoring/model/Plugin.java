@@ -24,6 +24,7 @@
 package io.jenkins.pluginhealth.scoring.model;
 
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -60,10 +61,41 @@ public class Plugin {
     @Column(name = "release_timestamp")
     private ZonedDateTime releaseTimestamp;
 
-    @Column(columnDefinition = "jsonb")
+    /*
+     * The probe results are never rewritten as a whole by Hibernate. Only the changed ones are updated, by
+     * PluginRepository#patchDetails.
+     */
+    @Column(columnDefinition = "jsonb", updatable = false)
     @Type(value = JsonType.class)
     private final Map<String, ProbeResult> details = new HashMap<>();
 
+    /*
+     * Whether the probe results, or the release timestamp, of the plugin changed since it was last scored.
+     */
+    @Column(name = "dirty", nullable = false, columnDefinition = "boolean default true")
+    private boolean dirty = true;
+
+    /*
+     * Incremented on each change flagging the plugin as dirty, so the flag is only cleared when the plugin did not
+     * change since it was read to be scored. Hibernate never updates it, as two transactions could then write the same
+     * count: PluginRepository#incrementChangeCount increments it in the database.
+     */
+    @Column(name = "change_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long changeCount;
+
+    /*
+     * When the probes must be executed again on the plugin. A plugin without this timestamp is always due.
+     */
+    @Column(name = "next_probe_at")
+    private ZonedDateTime nextProbeAt;
+
+    /*
+     * When a probe result of the plugin was last removed, so the scorings can tell a probe result which was removed
+     * since they were applied from one which was never there.
+     */
+    @Column(name = "probe_results_removed_at")
+    private ZonedDateTime probeResultsRemovedAt;
+
     public Plugin() {}
 
     public Plugin(String name, VersionNumber version, String scm, ZonedDateTime releaseTimestamp) {
@@ -100,20 +132,48 @@ public class Plugin {
     }
 
     public Plugin setReleaseTimestamp(ZonedDateTime releaseTimestamp) {
+        if (this.releaseTimestamp == null
+                ? releaseTimestamp != null
+                : releaseTimestamp == null || !this.releaseTimestamp.isEqual(releaseTimestamp)) {
+            markChanged();
+            // A new release is probed without waiting for the plugin to be due
+            this.nextProbeAt = null;
+        }
         this.releaseTimestamp = releaseTimestamp;
         return this;
     }
 
+    public ZonedDateTime getNextProbeAt() {
+        return nextProbeAt;
+    }
+
+    public Plugin setNextProbeAt(ZonedDateTime nextProbeAt) {
+        this.nextProbeAt = nextProbeAt;
+        return this;
+    }
+
+    /**
+     * Provides a read-only view of the probe results of the plugin.
+     *
+     * @return an unmodifiable view of the probe results of the plugin, by probe key
+     */
     public Map<String, ProbeResult> getDetails() {
-        return Map.copyOf(details);
+        return Collections.unmodifiableMap(details);
     }
 
     public Plugin addDetails(ProbeResult newProbeResult) {
-        this.details.compute(
+        final ProbeResult previousProbeResult = this.details.get(newProbeResult.id());
+        final ProbeResult probeResult = this.details.compute(
                 newProbeResult.id(),
-                (s, previousProbeResult) -> newProbeResult.status() == ProbeResult.Status.ERROR
+                (s, previous) -> newProbeResult.status() == ProbeResult.Status.ERROR
                         ? null
-                        : Objects.equals(previousProbeResult, newProbeResult) ? previousProbeResult : newProbeResult);
+                        : Objects.equals(previous, newProbeResult) ? previous : newProbeResult);
+        if (probeResult != previousProbeResult) {
+            markChanged();
+            if (probeResult == null) {
+                this.probeResultsRemovedAt = ZonedDateTime.now();
+            }
+        }
         return this;
     }
 
@@ -122,6 +182,39 @@ public class Plugin {
         return this;
     }
 
+    /**
+     * Returns when a probe result of the plugin was last removed, because the probe could not be executed on it.
+     *
+     * @return the time of the last removal of a probe result, or {@code null} if none was ever removed
+     */
+    public ZonedDateTime getProbeResultsRemovedAt() {
+        return probeResultsRemovedAt;
+    }
+
+    /**
+     * Tells whether the plugin needs to be scored again.
+     * A plugin is dirty when one of its probe results, or its release timestamp, changed since it was last scored.
+     *
+     * @return {@code true} if the plugin changed since it was last scored
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Counts the changes of the probe results, or of the release timestamp, of the plugin.
+     *
+     * @return the number of changes of the plugin, as of when it was read
+     */
+    public long getChangeCount() {
+        return changeCount;
+    }
+
+    private void markChanged() {
+        this.dirty = true;
+        this.changeCount++;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.model;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Type;
+
+/**
+ * Report of an execution of the probes on all the plugins.
+ * The reports of successive runs can be compared to find which probes, or which plugins, got slower.
+ */
+@Entity
+@Table(name = "probe_runs")
+public class ProbeRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(name = "started_at", nullable = false)
+    private ZonedDateTime startedAt;
+
+    @Column(name = "finished_at", nullable = false)
+    private ZonedDateTime finishedAt;
+
+    @Column(name = "plugins", nullable = false)
+    private long plugins;
+
+    @Column(name = "clones", nullable = false)
+    private long clones;
+
+    @Column(name = "skipped_clones", nullable = false)
+    private long skippedClones;
+
+    @Column(name = "failed_clones", nullable = false)
+    private long failedClones;
+
+    @Column(name = "probes", columnDefinition = "jsonb")
+    @Type(JsonType.class)
+    private Map<String, ProbeStatistics> probes = new HashMap<>();
+
+    @Column(name = "slowest_plugins", columnDefinition = "jsonb")
+    @Type(JsonType.class)
+    private List<PluginDuration> slowestPlugins = new ArrayList<>();
+
+    public ProbeRun() {}
+
+    public ProbeRun(
+            ZonedDateTime startedAt,
+            ZonedDateTime finishedAt,
+            long plugins,
+            long clones,
+            long skippedClones,
+            long failedClones,
+            Map<String, ProbeStatistics> probes,
+            List<PluginDuration> slowestPlugins) {
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.plugins = plugins;
+        this.clones = clones;
+        this.skippedClones = skippedClones;
+        this.failedClones = failedClones;
+        this.probes = new HashMap<>(probes);
+        this.slowestPlugins = new ArrayList<>(slowestPlugins);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public ZonedDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public ZonedDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getDurationMillis() {
+        return Duration.between(startedAt, finishedAt).toMillis();
+    }
+
+    public long getPlugins() {
+        return plugins;
+    }
+
+    /**
+     * @return the number of plugin repositories cloned
+     */
+    public long getClones() {
+        return clones;
+    }
+
+    /**
+     * @return the number of plugins without repository to clone
+     */
+    public long getSkippedClones() {
+        return skippedClones;
+    }
+
+    public long getFailedClones() {
+        return failedClones;
+    }
+
+    /**
+     * @return the statistics of each probe, by probe key
+     */
+    public Map<String, ProbeStatistics> getProbes() {
+        return Map.copyOf(probes);
+    }
+
+    /**
+     * @return the plugins on which running all the probes took the longest, the slowest first
+     */
+    public List<PluginDuration> getSlowestPlugins() {
+        return List.copyOf(slowestPlugins);
+    }
+
+    /**
+     * Statistics of a probe over a run.
+     *
+     * @param executed        number of plugins on which the probe was executed
+     * @param skipped         number of plugins on which the probe was not applicable, and kept its previous result
+     * @param errors          number of executions which resulted in an error, or threw an exception
+     * @param totalTimeMillis time spent executing the probe on all the plugins
+     * @param p95Millis       95th percentile of the time spent executing the probe on a plugin
+     */
+    public record ProbeStatistics(long executed, long skipped, long errors, long totalTimeMillis, long p95Millis) {}
+
+    /**
+     * @param name           the name of the plugin
+     * @param durationMillis time spent cloning the plugin repository and running all the probes on it
+     */
+    public record PluginDuration(String name, long durationMillis) {}
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.model;
+
+import java.time.ZonedDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Execution of the probes on one plugin, as part of a run distributed over several instances of the application.
+ * <p>
+ * A run is materialized as one item per plugin, all {@link Status#PENDING pending} and with the same
+ * {@link #getEnqueuedAt() enqueue timestamp}. Each instance leases some pending items, runs the probes on their
+ * plugins, and marks them as {@link Status#DONE done}. The lease of an item expires when the instance holding it stops
+ * renewing it, and the item is then pending again, unless it was already attempted too many times.
+ * The items are only written by {@link io.jenkins.pluginhealth.scoring.repository.ProbeWorkItemRepository}.
+ */
+@Entity
+@Table(
+        name = "probe_work_items",
+        indexes = {
+            @Index(name = "probe_work_items_status", columnList = "status, id"),
+            @Index(name = "probe_work_items_plugin_name", columnList = "plugin_name")
+        })
+public class ProbeWorkItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(name = "plugin_name", nullable = false)
+    private String pluginName;
+
+    @Column(name = "enqueued_at", nullable = false)
+    private ZonedDateTime enqueuedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "leased_by")
+    private String leasedBy;
+
+    @Column(name = "lease_expires_at")
+    private ZonedDateTime leaseExpiresAt;
+
+    public ProbeWorkItem() {}
+
+    public ProbeWorkItem(String pluginName, ZonedDateTime enqueuedAt) {
+        this.pluginName = pluginName;
+        this.enqueuedAt = enqueuedAt;
+        this.status = Status.PENDING;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getPluginName() {
+        return pluginName;
+    }
+
+    /**
+     * @return when the run of the item was enqueued, which identifies the run
+     */
+    public ZonedDateTime getEnqueuedAt() {
+        return enqueuedAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return the number of times the item was leased
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLeasedBy() {
+        return leasedBy;
+    }
+
+    public ZonedDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public enum Status {
+        PENDING,
+        LEASED,
+        DONE,
+        FAILED
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.model;
+
+import java.time.ZonedDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Lock of a scheduled job, so it runs on only one instance of the application at a time.
+ * <p>
+ * The lock is held until {@link #getLockedUntil()}, which the instance running the job moves forward while the job is
+ * running. When the instance stops without releasing the lock, the lock expires, and the job can run on another
+ * instance. The locks are only written by {@link io.jenkins.pluginhealth.scoring.repository.SchedulerLockRepository}.
+ */
+@Entity
+@Table(name = "scheduler_locks")
+public class SchedulerLock {
+    @Id
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+
+    @Column(name = "locked_at", nullable = false)
+    private ZonedDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private ZonedDateTime lockedUntil;
+
+    public SchedulerLock() {}
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the identifier of the instance which last acquired the lock
+     */
+    public String getLockedBy() {
+        return lockedBy;
+    }
+
+    public ZonedDateTime getLockedAt() {
+        return lockedAt;
+    }
+
+    public ZonedDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public boolean isHeld(ZonedDateTime now) {
+        return lockedUntil.isAfter(now);
+    }
+}
@@ -25,9 +25,11 @@ package io.jenkins.pluginhealth.scoring.model;
 
 import java.time.ZonedDateTime;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.DoubleStream;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.Column;
@@ -54,6 +56,13 @@ public class Score {
     @Column(name = "computed_at")
     private ZonedDateTime computedAt;
 
+    /*
+     * A new score is only saved when its results changed. When the plugin is scored again with the same results, the
+     * latest score is kept and only this timestamp is moved forward.
+     */
+    @Column(name = "verified_at")
+    private ZonedDateTime verifiedAt;
+
     @Column(name = "value")
     private long value = 0;
 
@@ -66,6 +75,7 @@ public class Score {
     public Score(Plugin plugin, ZonedDateTime computedAt) {
         this.plugin = plugin;
         this.computedAt = computedAt;
+        this.verifiedAt = computedAt;
     }
 
     public Plugin getPlugin() {
@@ -76,19 +86,34 @@ public class Score {
         return computedAt;
     }
 
+    /**
+     * Returns the last time the score was known to be valid.
+     * This is when it was computed, or when the plugin was scored again later on with the same results.
+     *
+     * @return the last time the score was confirmed
+     */
+    public ZonedDateTime getVerifiedAt() {
+        return verifiedAt == null ? computedAt : verifiedAt;
+    }
+
+    public Score setVerifiedAt(ZonedDateTime verifiedAt) {
+        this.verifiedAt = verifiedAt;
+        return this;
+    }
+
     public long getValue() {
         return value;
     }
 
     private void computeValue() {
-        var sum = details.stream()
-                .filter(Objects::nonNull)
-                .flatMapToDouble(res -> DoubleStream.of(res.value() * res.weight()))
-                .sum();
-        var coefficient = details.stream()
-                .filter(Objects::nonNull)
-                .flatMapToDouble(res -> DoubleStream.of(res.weight()))
-                .sum();
+        double sum = 0;
+        double coefficient = 0;
+        for (ScoreResult res : details) {
+            if (res != null) {
+                sum += res.value() * res.weight();
+                coefficient += res.weight();
+            }
+        }
         this.value = Math.round((sum / coefficient));
     }
 
@@ -101,6 +126,31 @@ public class Score {
         return Set.copyOf(details);
     }
 
+    /**
+     * Compares the results of both scores.
+     * As {@link ScoreResult} are only identified by their key, each value, weight, version and component result is
+     * compared.
+     *
+     * @param other the score to compare the results with
+     * @return {@code true} if both scores have exactly the same results
+     */
+    public boolean hasSameResultsAs(Score other) {
+        final Set<ScoreResult> otherDetails = other.getDetails();
+        if (value != other.getValue() || details.size() != otherDetails.size()) {
+            return false;
+        }
+        final Map<String, ScoreResult> otherResults =
+                otherDetails.stream().collect(Collectors.toMap(ScoreResult::key, Function.identity()));
+        return details.stream().filter(Objects::nonNull).allMatch(result -> {
+            final ScoreResult otherResult = otherResults.get(result.key());
+            return otherResult != null
+                    && result.value() == otherResult.value()
+                    && Float.compare(result.weight(), otherResult.weight()) == 0
+                    && result.version() == otherResult.version()
+                    && Objects.equals(result.componentsResults(), otherResult.componentsResults());
+        });
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Type;
+
+/**
+ * Daily snapshot of the distribution of the latest scores of all the plugins.
+ * The snapshots are computed once a day, so that the evolution of the scores can be presented without reading the
+ * {@link Score} of every plugin.
+ */
+@Entity
+@Table(name = "score_distributions")
+public class ScoreDistribution {
+    @Id
+    @Column(name = "day")
+    private LocalDate day;
+
+    @Column(name = "plugins", nullable = false)
+    private long plugins;
+
+    @Column(name = "average", nullable = false)
+    private double average;
+
+    @Column(name = "minimum", nullable = false)
+    private int minimum;
+
+    @Column(name = "first_quartile", nullable = false)
+    private int firstQuartile;
+
+    @Column(name = "median", nullable = false)
+    private int median;
+
+    @Column(name = "third_quartile", nullable = false)
+    private int thirdQuartile;
+
+    @Column(name = "maximum", nullable = false)
+    private int maximum;
+
+    /*
+     * Number of plugins for each score value, from 0 to 100.
+     */
+    @Column(columnDefinition = "jsonb")
+    @Type(JsonType.class)
+    private List<Long> counts = new ArrayList<>();
+
+    public ScoreDistribution() {}
+
+    public ScoreDistribution(
+            LocalDate day,
+            List<Long> counts,
+            double average,
+            int minimum,
+            int firstQuartile,
+            int median,
+            int thirdQuartile,
+            int maximum) {
+        if (counts.size() != 101) {
+            throw new IllegalArgumentException("The distribution must have a count for each score from 0 to 100.");
+        }
+        this.day = day;
+        this.counts = new ArrayList<>(counts);
+        this.plugins = counts.stream().mapToLong(Long::longValue).sum();
+        this.average = average;
+        this.minimum = minimum;
+        this.firstQuartile = firstQuartile;
+        this.median = median;
+        this.thirdQuartile = thirdQuartile;
+        this.maximum = maximum;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public long getPlugins() {
+        return plugins;
+    }
+
+    public double getAverage() {
+        return average;
+    }
+
+    public int getMinimum() {
+        return minimum;
+    }
+
+    public int getFirstQuartile() {
+        return firstQuartile;
+    }
+
+    public int getMedian() {
+        return median;
+    }
+
+    public int getThirdQuartile() {
+        return thirdQuartile;
+    }
+
+    public int getMaximum() {
+        return maximum;
+    }
+
+    public List<Long> getCounts() {
+        return List.copyOf(counts);
+    }
+
+    /**
+     * @return the number of plugins for each score value
+     */
+    @JsonIgnore
+    public Map<Integer, Long> getDistribution() {
+        return IntStream.range(0, counts.size())
+                .boxed()
+                .collect(Collectors.toMap(Function.identity(), counts::get));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.model;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import org.hibernate.annotations.Type;
+
+/**
+ * Long-term history of the score of a plugin, with one entry per plugin and per day.
+ * Unlike {@link Score}, which only keeps the latest scores of each plugin, the history is never deleted.
+ * The entries are only written by {@link io.jenkins.pluginhealth.scoring.repository.ScoreHistoryRepository}, using
+ * the latest score of the plugins each time they are scored.
+ */
+@Entity
+@Table(
+        name = "score_history",
+        uniqueConstraints = @UniqueConstraint(name = "score_history_plugin_day", columnNames = {"plugin_id", "day"}))
+public class ScoreHistory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "plugin_id", updatable = false)
+    private Plugin plugin;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    /*
+     * Value of the latest score of the plugin on that day.
+     */
+    @Column(name = "value", nullable = false)
+    private int value;
+
+    @Column(name = "minimum", nullable = false)
+    private int minimum;
+
+    @Column(name = "maximum", nullable = false)
+    private int maximum;
+
+    /*
+     * Value of each scoring implementation in the latest score of the plugin on that day, by key.
+     */
+    @Column(columnDefinition = "jsonb")
+    @Type(JsonType.class)
+    private Map<String, Integer> categories = new HashMap<>();
+
+    public ScoreHistory() {}
+
+    public Plugin getPlugin() {
+        return plugin;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public int getMinimum() {
+        return minimum;
+    }
+
+    public int getMaximum() {
+        return maximum;
+    }
+
+    public Map<String, Integer> getCategories() {
+        return Map.copyOf(categories);
+    }
+}
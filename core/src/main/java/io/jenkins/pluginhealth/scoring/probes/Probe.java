@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -48,14 +48,34 @@ public abstract class Probe {
      * @return the result of the analyze in a {@link ProbeResult}
      */
     public final ProbeResult apply(Plugin plugin, ProbeContext context) {
-        if (isApplicable(plugin, context)) {
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("Running {} on {}", this.key(), plugin.getName());
+        final ProbeEvent event = new ProbeEvent();
+        event.begin();
+        ProbeResult result = null;
+        boolean applicable = false;
+        try {
+            applicable = isApplicable(plugin, context);
+            if (applicable) {
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.trace("Running {} on {}", this.key(), plugin.getName());
+                }
+                result = doApply(plugin, context);
+            } else {
+                final ProbeResult lastResult = plugin.getDetails().get(key());
+                result = lastResult != null
+                        ? lastResult
+                        : this.error(key() + " was not executed on " + plugin.getName());
+            }
+            return result;
+        } finally {
+            event.end();
+            // The fields are only computed when the event is enabled
+            if (event.shouldCommit()) {
+                event.probe = key();
+                event.plugin = plugin.getName();
+                event.status = result == null ? "FAILURE" : applicable ? result.status().name() : "SKIPPED";
+                event.commit();
             }
-            return doApply(plugin, context);
         }
-        final ProbeResult lastResult = plugin.getDetails().get(key());
-        return lastResult != null ? lastResult : this.error(key() + " was not executed on " + plugin.getName());
     }
 
     /**
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,6 +25,7 @@ package io.jenkins.pluginhealth.scoring.probes;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -32,6 +33,7 @@ import java.time.ZonedDateTime;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.regex.Matcher;
 import java.util.stream.Stream;
 
@@ -73,6 +75,8 @@ public class ProbeContext implements AutoCloseable {
             return;
         }
         final String pluginName = this.plugin.getName();
+        final CloneEvent event = new CloneEvent();
+        event.begin();
         try {
             final Path repo = Files.createTempDirectory(pluginName);
             try (Git git = Git.cloneRepository()
@@ -86,6 +90,15 @@ public class ProbeContext implements AutoCloseable {
             }
         } catch (IOException e) {
             LOGGER.warn("Could not create temporary folder for plugin {}", pluginName, e);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.plugin = pluginName;
+                event.url = plugin.getScm();
+                event.succeeded = scmRepository != null;
+                event.bytes = getScmRepositorySize().orElse(0);
+                event.commit();
+            }
         }
     }
 
@@ -93,6 +106,24 @@ public class ProbeContext implements AutoCloseable {
         return Optional.ofNullable(scmRepository);
     }
 
+    /**
+     * Returns the size of the Git objects of the cloned repository.
+     * The objects of a fresh clone are all stored in pack files, whose size is close to the number of bytes fetched.
+     *
+     * @return the size of the pack files of the repository, or empty if it was not cloned
+     */
+    public OptionalLong getScmRepositorySize() {
+        if (scmRepository == null) {
+            return OptionalLong.empty();
+        }
+        try (Stream<Path> packs = Files.list(scmRepository.resolve(".git").resolve("objects").resolve("pack"))) {
+            return OptionalLong.of(packs.mapToLong(pack -> pack.toFile().length()).sum());
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.debug("Could not compute the size of the clone in {}", scmRepository, e);
+            return OptionalLong.empty();
+        }
+    }
+
     public Optional<ZonedDateTime> getLastCommitDate() {
         return Optional.ofNullable(lastCommitDate);
     }
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,12 +23,19 @@
  */
 package io.jenkins.pluginhealth.scoring.repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
 
+import io.hypersistence.utils.hibernate.type.util.JsonConfiguration;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -36,6 +43,8 @@ import org.springframework.stereotype.Repository;
 public interface PluginRepository extends JpaRepository<Plugin, Long> {
     Optional<Plugin> findByName(String name);
 
+    List<Plugin> findAllByNameIn(Collection<String> names);
+
     @Query(
             value =
                     """
@@ -48,4 +57,76 @@ public interface PluginRepository extends JpaRepository<Plugin, Long> {
     long getProbeRawResult(String probeID, String status);
 
     List<Plugin> searchPluginsByNameContainingIgnoreCase(String query);
+
+    List<Plugin> findAllByDirtyTrue();
+
+    /**
+     * Finds the plugins which are dirty, or which were neither scored nor verified since the provided time.
+     *
+     * @param since the time since which the plugins must have been scored or verified not to be returned
+     * @return the dirty plugins, and the plugins whose scores were all verified before the provided time
+     */
+    @Query(
+            value =
+                    """
+            SELECT p.*
+            FROM plugins p
+            WHERE p.dirty
+              OR NOT EXISTS (
+                SELECT 1
+                FROM scores s
+                WHERE s.plugin_id = p.id
+                  AND COALESCE(s.verified_at, s.computed_at) >= ?1
+              )
+            """,
+            nativeQuery = true)
+    List<Plugin> findAllDirtyOrNotScoredSince(ZonedDateTime since);
+
+    List<Plugin> findAllByNextProbeAtIsNullOrNextProbeAtLessThanEqual(ZonedDateTime now);
+
+    /**
+     * Flags the plugins as dirty, and increments their change count in the database.
+     * The count is never written as a whole, so the changes saved by concurrent transactions are all counted.
+     *
+     * @param names the names of the plugins which changed
+     * @return the number of plugins updated
+     */
+    @Modifying
+    @Query(
+            value = "UPDATE plugins SET change_count = change_count + 1, dirty = true WHERE name IN ?1",
+            nativeQuery = true)
+    int incrementChangeCount(Collection<String> names);
+
+    /**
+     * Updates only the provided probe results of the plugins, instead of rewriting all of them, in one statement.
+     *
+     * @param patches the changes to apply to the probe results, at most one per plugin
+     * @return the number of plugins updated
+     */
+    default int patchDetails(Collection<DetailsPatch> patches) {
+        return patchDetails(JsonConfiguration.INSTANCE.getObjectMapperWrapper().toString(patches));
+    }
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE plugins
+            SET details = (
+                COALESCE(plugins.details, '{}') - ARRAY(SELECT jsonb_array_elements_text(patch.removed))
+            ) || patch.changed
+            FROM jsonb_to_recordset(CAST(?1 AS jsonb)) AS patch(name text, changed jsonb, removed jsonb)
+            WHERE plugins.name = patch.name
+            """,
+            nativeQuery = true)
+    int patchDetails(String patches);
+
+    /**
+     * Changes to apply to the probe results of a plugin.
+     *
+     * @param name    the name of the plugin
+     * @param changed the probe results which are new or changed, by probe key
+     * @param removed the keys of the probe results to remove
+     */
+    record DetailsPatch(String name, Map<String, ProbeResult> changed, Set<String> removed) {}
 }
@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import io.jenkins.pluginhealth.scoring.model.ProbeWorkItem;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProbeWorkItemRepository extends JpaRepository<ProbeWorkItem, Long> {
+    /**
+     * Waits for the transaction-level advisory lock with the provided key, so only one transaction at a time can hold
+     * it, across all the instances of the application.
+     *
+     * @param key the key of the lock
+     * @return 1
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(?1)", nativeQuery = true)
+    int lock(long key);
+
+    /**
+     * Creates a pending item for each plugin which does not have a pending or leased item already, so a plugin is
+     * never part of two runs at the same time.
+     *
+     * @param enqueuedAt the timestamp identifying the run
+     * @return the number of items created
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+            INSERT INTO probe_work_items (plugin_name, enqueued_at, status, attempts)
+            SELECT p.name, ?1, 'PENDING', 0
+            FROM plugins p
+            WHERE NOT EXISTS (
+                SELECT 1
+                FROM probe_work_items w
+                WHERE w.plugin_name = p.name
+                  AND w.status IN ('PENDING', 'LEASED')
+            )
+            ORDER BY p.name
+            """,
+            nativeQuery = true)
+    int enqueueAllPlugins(ZonedDateTime enqueuedAt);
+
+    /**
+     * Like {@link #enqueueAllPlugins(ZonedDateTime)}, but only for the plugins which are due: the ones without a next
+     * probe time, or whose next probe time is past.
+     *
+     * @param enqueuedAt the timestamp identifying the run, also used as the current time
+     * @return the number of items created
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+            INSERT INTO probe_work_items (plugin_name, enqueued_at, status, attempts)
+            SELECT p.name, ?1, 'PENDING', 0
+            FROM plugins p
+            WHERE (p.next_probe_at IS NULL OR p.next_probe_at <= ?1)
+              AND NOT EXISTS (
+                SELECT 1
+                FROM probe_work_items w
+                WHERE w.plugin_name = p.name
+                  AND w.status IN ('PENDING', 'LEASED')
+              )
+            ORDER BY p.name
+            """,
+            nativeQuery = true)
+    int enqueueDuePlugins(ZonedDateTime enqueuedAt);
+
+    /**
+     * Locks up to {@code limit} pending items, the oldest first, skipping the ones already locked by another
+     * transaction. The rows stay locked until the end of the transaction, so they must be leased in the same one.
+     *
+     * @param limit the maximum number of items
+     * @return the ids of the locked items
+     */
+    @Query(
+            value =
+                    """
+            SELECT w.id
+            FROM probe_work_items w
+            WHERE w.status = 'PENDING'
+            ORDER BY w.id
+            LIMIT ?1
+            FOR UPDATE SKIP LOCKED
+            """,
+            nativeQuery = true)
+    List<Long> lockPendingIds(int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value =
+                    """
+            UPDATE probe_work_items
+            SET status = 'LEASED',
+                leased_by = ?2,
+                lease_expires_at = ?3,
+                attempts = attempts + 1
+            WHERE id IN ?1
+            """,
+            nativeQuery = true)
+    int lease(Collection<Long> ids, String worker, ZonedDateTime leaseExpiresAt);
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE probe_work_items
+            SET lease_expires_at = ?3
+            WHERE id IN ?1
+              AND leased_by = ?2
+              AND status = 'LEASED'
+            """,
+            nativeQuery = true)
+    int renew(Collection<Long> ids, String worker, ZonedDateTime leaseExpiresAt);
+
+    /**
+     * @param status the name of the final {@link ProbeWorkItem.Status} of the item
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE probe_work_items
+            SET status = ?3,
+                lease_expires_at = NULL
+            WHERE id = ?1
+              AND leased_by = ?2
+              AND status = 'LEASED'
+            """,
+            nativeQuery = true)
+    int finish(long id, String worker, String status);
+
+    /**
+     * Makes a leased item pending again, without counting the lease as an attempt.
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE probe_work_items
+            SET status = 'PENDING',
+                leased_by = NULL,
+                lease_expires_at = NULL,
+                attempts = attempts - 1
+            WHERE id = ?1
+              AND leased_by = ?2
+              AND status = 'LEASED'
+            """,
+            nativeQuery = true)
+    int release(long id, String worker);
+
+    /**
+     * Makes the items whose lease expired pending again, or failed once they were attempted {@code maxAttempts} times.
+     *
+     * @param now         the current time
+     * @param maxAttempts the number of attempts after which an item is not leased anymore
+     * @return the number of items whose lease expired
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE probe_work_items
+            SET status = CASE WHEN attempts >= ?2 THEN 'FAILED' ELSE 'PENDING' END,
+                leased_by = NULL,
+                lease_expires_at = NULL
+            WHERE status = 'LEASED'
+              AND lease_expires_at < ?1
+            """,
+            nativeQuery = true)
+    int requeueExpired(ZonedDateTime now, int maxAttempts);
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            DELETE FROM probe_work_items
+            WHERE enqueued_at < ?1
+              AND status IN ('DONE', 'FAILED')
+            """,
+            nativeQuery = true)
+    int deleteFinishedBefore(ZonedDateTime enqueuedAt);
+
+    long countByStatus(ProbeWorkItem.Status status);
+}
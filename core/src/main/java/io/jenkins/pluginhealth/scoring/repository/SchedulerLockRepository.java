@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.repository;
+
+import java.util.List;
+
+import io.jenkins.pluginhealth.scoring.model.SchedulerLock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+    /**
+     * Creates the lock, or takes it over when it expired, in one statement, so only one instance can acquire it.
+     * The times are those of the database, so the clocks of the instances do not need to agree.
+     *
+     * @param name     the name of the lock
+     * @param owner    the identifier of the instance acquiring the lock
+     * @param ttlMillis how long the lock is held, in milliseconds, unless it is extended or released
+     * @return 1 when the lock was acquired, 0 when it is held by another instance, or by the same one
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+            INSERT INTO scheduler_locks (name, locked_by, locked_at, locked_until)
+            VALUES (?1, ?2, now(), now() + ?3 * interval '1 millisecond')
+            ON CONFLICT (name) DO UPDATE
+            SET locked_by = EXCLUDED.locked_by,
+                locked_at = EXCLUDED.locked_at,
+                locked_until = EXCLUDED.locked_until
+            WHERE scheduler_locks.locked_until <= now()
+            """,
+            nativeQuery = true)
+    int tryAcquire(String name, String owner, long ttlMillis);
+
+    /**
+     * Extends a lock held by the instance, from the current time of the database.
+     *
+     * @return 1 when the lock is still held by the instance, 0 when it was taken over by another instance
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE scheduler_locks
+            SET locked_until = now() + ?3 * interval '1 millisecond'
+            WHERE name = ?1
+              AND locked_by = ?2
+            """,
+            nativeQuery = true)
+    int extend(String name, String owner, long ttlMillis);
+
+    /**
+     * Releases a lock held by the instance, but not before it was held for the provided time.
+     *
+     * @return 1 when the lock was still held by the instance, 0 when it was taken over by another instance
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE scheduler_locks
+            SET locked_until = GREATEST(now(), locked_at + ?3 * interval '1 millisecond')
+            WHERE name = ?1
+              AND locked_by = ?2
+            """,
+            nativeQuery = true)
+    int release(String name, String owner, long minimumHoldMillis);
+
+    List<SchedulerLock> findAllByOrderByName();
+}
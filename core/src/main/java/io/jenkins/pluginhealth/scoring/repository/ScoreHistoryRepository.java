@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import io.jenkins.pluginhealth.scoring.model.ScoreHistory;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScoreHistoryRepository extends JpaRepository<ScoreHistory, Long> {
+    /**
+     * Records the latest score of each of the provided plugins in the history, for the day it was last verified.
+     * When the history already has an entry for that day, its value is replaced, and its minimum and maximum extended.
+     *
+     * @param pluginNames the names of the plugins whose latest score is recorded
+     * @return the number of history entries inserted or updated
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+            INSERT INTO score_history (plugin_id, day, value, minimum, maximum, categories)
+            SELECT
+                latest.plugin_id,
+                CAST(COALESCE(latest.verified_at, latest.computed_at) AT TIME ZONE 'UTC' AS date),
+                latest.value,
+                latest.value,
+                latest.value,
+                (
+                    SELECT COALESCE(jsonb_object_agg(detail ->> 'key', detail -> 'value'), '{}')
+                    FROM jsonb_array_elements(latest.details) detail
+                )
+            FROM plugins p
+            CROSS JOIN LATERAL (
+                SELECT s.plugin_id, s.computed_at, s.verified_at, s.value, s.details
+                FROM scores s
+                WHERE s.plugin_id = p.id
+                ORDER BY s.computed_at DESC
+                LIMIT 1
+            ) latest
+            WHERE p.name IN ?1
+            ON CONFLICT (plugin_id, day) DO UPDATE SET
+                value = EXCLUDED.value,
+                minimum = LEAST(score_history.minimum, EXCLUDED.minimum),
+                maximum = GREATEST(score_history.maximum, EXCLUDED.maximum),
+                categories = EXCLUDED.categories
+            """,
+            nativeQuery = true)
+    int recordLatestScores(Collection<String> pluginNames);
+
+    /**
+     * Aggregates the history of the plugin per interval of time.
+     * The days without entry, because the plugin was not scored on those days, take the value of the latest entry
+     * before them, so that each interval is aggregated over all of its days until today.
+     *
+     * @param pluginName the name of the plugin
+     * @param from       the first day of the history, included
+     * @param to         the last day of the history, included
+     * @param unit       the size of the intervals, as understood by the PostgreSQL {@code date_trunc} function
+     * @return the minimum, average and maximum value of the plugin score, for each interval with history
+     */
+    @Query(
+            value =
+                    """
+            SELECT
+                CAST(date_trunc(?4, d.day) AS date) AS start,
+                min(CASE WHEN h.day = d.day THEN h.minimum ELSE h.value END) AS minimum,
+                avg(h.value) AS average,
+                max(CASE WHEN h.day = d.day THEN h.maximum ELSE h.value END) AS maximum
+            FROM plugins p
+            CROSS JOIN LATERAL (
+                SELECT CAST(g AS date) AS day
+                FROM generate_series(
+                    CAST(?2 AS timestamp), CAST(LEAST(?3, CURRENT_DATE) AS timestamp), interval '1 day'
+                ) g
+            ) d
+            CROSS JOIN LATERAL (
+                SELECT sh.day, sh.value, sh.minimum, sh.maximum
+                FROM score_history sh
+                WHERE sh.plugin_id = p.id AND sh.day <= d.day
+                ORDER BY sh.day DESC
+                LIMIT 1
+            ) h
+            WHERE p.name = ?1
+            GROUP BY 1
+            ORDER BY 1
+            """,
+            nativeQuery = true)
+    List<HistoryInterval> findHistory(String pluginName, LocalDate from, LocalDate to, String unit);
+
+    /**
+     * Aggregates the history of each scoring implementation of the plugin per interval of time.
+     * As for {@link #findHistory(String, LocalDate, LocalDate, String)}, the days without entry take the values of the
+     * latest entry before them.
+     *
+     * @param pluginName the name of the plugin
+     * @param from       the first day of the history, included
+     * @param to         the last day of the history, included
+     * @param unit       the size of the intervals, as understood by the PostgreSQL {@code date_trunc} function
+     * @return the minimum, average and maximum value of each scoring implementation, for each interval with history
+     */
+    @Query(
+            value =
+                    """
+            SELECT
+                CAST(date_trunc(?4, d.day) AS date) AS start,
+                c.key AS category,
+                min(CAST(c.value AS integer)) AS minimum,
+                avg(CAST(c.value AS integer)) AS average,
+                max(CAST(c.value AS integer)) AS maximum
+            FROM plugins p
+            CROSS JOIN LATERAL (
+                SELECT CAST(g AS date) AS day
+                FROM generate_series(
+                    CAST(?2 AS timestamp), CAST(LEAST(?3, CURRENT_DATE) AS timestamp), interval '1 day'
+                ) g
+            ) d
+            CROSS JOIN LATERAL (
+                SELECT sh.categories
+                FROM score_history sh
+                WHERE sh.plugin_id = p.id AND sh.day <= d.day
+                ORDER BY sh.day DESC
+                LIMIT 1
+            ) h
+            CROSS JOIN LATERAL jsonb_each_text(h.categories) c
+            WHERE p.name = ?1
+            GROUP BY 1, 2
+            ORDER BY 1, 2
+            """,
+            nativeQuery = true)
+    List<CategoryHistoryInterval> findCategoriesHistory(String pluginName, LocalDate from, LocalDate to, String unit);
+
+    interface HistoryInterval {
+        LocalDate getStart();
+
+        int getMinimum();
+
+        double getAverage();
+
+        int getMaximum();
+    }
+
+    interface CategoryHistoryInterval extends HistoryInterval {
+        String getCategory();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.repository;
+
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Management of the partitions of the {@code scores} table.
+ * The table is partitioned by range of {@code computed_at}, with one partition per month, so that old scores can be
+ * removed by dropping whole partitions instead of deleting rows.
+ */
+public interface ScorePartitionRepository {
+    /**
+     * Converts the {@code scores} table into a table partitioned by {@code computed_at}, if it is not already.
+     * The existing table is kept as the partition holding all the scores computed before the next month.
+     *
+     * @return {@code true} if the table was converted, {@code false} if it was already partitioned
+     */
+    boolean partitionScoresTable();
+
+    /**
+     * Creates the monthly partitions of the {@code scores} table which do not exist yet.
+     *
+     * @param from the first month for which a partition is required
+     * @param to   the last month for which a partition is required, included
+     * @return the names of the created partitions
+     */
+    List<String> createScoresPartitions(YearMonth from, YearMonth to);
+
+    /**
+     * Drops the partitions of the {@code scores} table ending before the provided time.
+     * The scores of these partitions which are among the {@code retained} latest scores of a plugin are kept: they are
+     * moved to the default partition, with their original computation time, so that the scores of the plugins which
+     * were not scored again for months do not keep their partitions.
+     *
+     * @param retained the number of scores kept for each plugin
+     * @param before   the time before which the partitions must end to be dropped
+     * @return the names of the dropped partitions
+     */
+    List<String> dropExpiredScoresPartitions(int retained, ZonedDateTime before);
+}
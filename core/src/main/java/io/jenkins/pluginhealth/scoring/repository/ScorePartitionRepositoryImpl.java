@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.repository;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+public class ScorePartitionRepositoryImpl implements ScorePartitionRepository {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScorePartitionRepositoryImpl.class);
+    private static final String TABLE = "scores";
+    private static final String LEGACY_PARTITION = "scores_legacy";
+    private static final String DEFAULT_PARTITION = "scores_default";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public boolean partitionScoresTable() {
+        final List<?> kind = entityManager
+                .createNativeQuery("SELECT CAST(c.relkind AS text) FROM pg_class c WHERE c.oid = to_regclass(?1)")
+                .setParameter(1, TABLE)
+                .getResultList();
+        if (kind.isEmpty() || !"r".equals(kind.getFirst())) {
+            return false;
+        }
+
+        LOGGER.info("Converting table {} into a table partitioned by month", TABLE);
+        final List<?> primaryKeys = entityManager
+                .createNativeQuery(
+                        "SELECT conname FROM pg_constraint WHERE conrelid = to_regclass(?1) AND contype = 'p'")
+                .setParameter(1, TABLE)
+                .getResultList();
+        final List<?> foreignKeys = entityManager
+                .createNativeQuery(
+                        """
+                        SELECT conname, pg_get_constraintdef(oid)
+                        FROM pg_constraint
+                        WHERE conrelid = to_regclass(?1) AND contype = 'f'
+                        """)
+                .setParameter(1, TABLE)
+                .getResultList();
+
+        execute("LOCK TABLE %s IN ACCESS EXCLUSIVE MODE".formatted(TABLE));
+        execute("ALTER TABLE %s RENAME TO %s".formatted(TABLE, LEGACY_PARTITION));
+        execute("ALTER TABLE %s ALTER COLUMN computed_at SET NOT NULL".formatted(LEGACY_PARTITION));
+        execute("CREATE TABLE %s (LIKE %s INCLUDING DEFAULTS INCLUDING CONSTRAINTS) PARTITION BY RANGE (computed_at)"
+                .formatted(TABLE, LEGACY_PARTITION));
+
+        // The name of the primary key is reused, so that the schema still matches the one generated by Hibernate.
+        final String primaryKey = primaryKeys.isEmpty() ? TABLE + "_pkey" : (String) primaryKeys.getFirst();
+        if (!primaryKeys.isEmpty()) {
+            execute("ALTER TABLE %s RENAME CONSTRAINT %s TO %s_pkey"
+                    .formatted(LEGACY_PARTITION, primaryKey, LEGACY_PARTITION));
+        }
+        // The partitioning column must be part of the primary key of a partitioned table.
+        execute("ALTER TABLE %s ADD CONSTRAINT %s PRIMARY KEY (id, computed_at)".formatted(TABLE, primaryKey));
+        for (Object foreignKey : foreignKeys) {
+            final Object[] row = (Object[]) foreignKey;
+            execute("ALTER TABLE %s ADD CONSTRAINT %s %s".formatted(TABLE, row[0], row[1]));
+        }
+
+        execute("ALTER TABLE %s ATTACH PARTITION %s FOR VALUES FROM (MINVALUE) TO ('%s')"
+                .formatted(TABLE, LEGACY_PARTITION, lowerBound(YearMonth.now(ZoneOffset.UTC).plusMonths(1))));
+        execute("CREATE TABLE %s PARTITION OF %s DEFAULT".formatted(DEFAULT_PARTITION, TABLE));
+        execute("CREATE INDEX IF NOT EXISTS %s_plugin_id_computed_at_idx ON %s (plugin_id, computed_at DESC)"
+                .formatted(TABLE, TABLE));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public List<String> createScoresPartitions(YearMonth from, YearMonth to) {
+        final List<String> created = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            final String partition = "%s_%d_%02d".formatted(TABLE, month.getYear(), month.getMonthValue());
+            if (exists(partition)) {
+                continue;
+            }
+            if (hasScoresInDefaultPartition(month)) {
+                // Creating the partition would fail, the scores of this month stay in the default partition.
+                LOGGER.warn(
+                        "Cannot create partition {}, scores of this month are already stored in {}",
+                        partition,
+                        DEFAULT_PARTITION);
+                continue;
+            }
+            execute("CREATE TABLE %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                    .formatted(partition, TABLE, lowerBound(month), lowerBound(month.plusMonths(1))));
+            created.add(partition);
+        }
+        return created;
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<String> dropExpiredScoresPartitions(int retained, ZonedDateTime before) {
+        final List<String> partitions = entityManager
+                .createNativeQuery(
+                        """
+                        WITH partitions AS (
+                            SELECT
+                                CAST(c.relname AS text) AS name,
+                                CAST(
+                                  substring(pg_get_expr(c.relpartbound, c.oid) FROM 'TO \\(''([^'']+)''\\)')
+                                  AS timestamptz
+                                ) AS upper_bound
+                            FROM pg_inherits i
+                            JOIN pg_class c ON c.oid = i.inhrelid
+                            WHERE i.inhparent = to_regclass(?1)
+                        )
+                        SELECT partitions.name
+                        FROM partitions
+                        WHERE partitions.upper_bound <= ?2
+                        ORDER BY partitions.upper_bound
+                        """)
+                .setParameter(1, TABLE)
+                .setParameter(2, before.toOffsetDateTime())
+                .getResultList();
+        if (partitions.isEmpty()) {
+            return partitions;
+        }
+
+        // The retained scores are inserted again once their partition is dropped, and are then stored in the default
+        // partition, as no partition covers their month anymore.
+        execute("CREATE TEMPORARY TABLE expired_retained_scores (LIKE %s)".formatted(TABLE));
+        for (String partition : partitions) {
+            entityManager
+                    .createNativeQuery(
+                            """
+                            INSERT INTO expired_retained_scores
+                            SELECT *
+                            FROM %s
+                            WHERE (id, computed_at) IN (
+                                SELECT latest.id, latest.computed_at
+                                FROM plugins p
+                                CROSS JOIN LATERAL (
+                                    SELECT s.id, s.computed_at
+                                    FROM %s s
+                                    WHERE s.plugin_id = p.id
+                                    ORDER BY s.computed_at DESC
+                                    LIMIT ?1
+                                ) latest
+                            )
+                            """
+                                    .formatted(partition, TABLE))
+                    .setParameter(1, retained)
+                    .executeUpdate();
+            execute("DROP TABLE %s".formatted(partition));
+        }
+        final int moved = entityManager
+                .createNativeQuery("INSERT INTO %s SELECT * FROM expired_retained_scores".formatted(TABLE))
+                .executeUpdate();
+        execute("DROP TABLE expired_retained_scores");
+        LOGGER.info("Moved {} retained scores of the dropped partitions to {}", moved, DEFAULT_PARTITION);
+        return partitions;
+    }
+
+    private boolean exists(String table) {
+        return Boolean.TRUE.equals(entityManager
+                .createNativeQuery("SELECT to_regclass(?1) IS NOT NULL")
+                .setParameter(1, table)
+                .getSingleResult());
+    }
+
+    private boolean hasScoresInDefaultPartition(YearMonth month) {
+        return exists(DEFAULT_PARTITION)
+                && Boolean.TRUE.equals(entityManager
+                        .createNativeQuery(
+                                "SELECT EXISTS (SELECT 1 FROM %s WHERE computed_at >= ?1 AND computed_at < ?2)"
+                                        .formatted(DEFAULT_PARTITION))
+                        .setParameter(1, startOf(month))
+                        .setParameter(2, startOf(month.plusMonths(1)))
+                        .getSingleResult());
+    }
+
+    private static OffsetDateTime startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    private static String lowerBound(YearMonth month) {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(startOf(month));
+    }
+
+    private void execute(String statement) {
+        entityManager.createNativeQuery(statement).executeUpdate();
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,36 +23,83 @@
  */
 package io.jenkins.pluginhealth.scoring.repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import io.jenkins.pluginhealth.scoring.model.Plugin;
 import io.jenkins.pluginhealth.scoring.model.Score;
+import io.jenkins.pluginhealth.scoring.model.ScoreSummary;
 
+import io.hypersistence.utils.hibernate.type.util.JsonConfiguration;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface ScoreRepository extends JpaRepository<Score, Long> {
+public interface ScoreRepository extends JpaRepository<Score, Long>, ScorePartitionRepository {
     Optional<Score> findFirstByPluginOrderByComputedAtDesc(Plugin plugin);
 
+    @Query(
+            """
+            SELECT s
+            FROM Score s
+            WHERE s.plugin IN ?1
+              AND s.computedAt = (
+                SELECT max(s2.computedAt)
+                FROM Score s2
+                WHERE s2.plugin = s.plugin
+              )
+            """)
+    List<Score> findLatestScoreForPlugins(Collection<Plugin> plugins);
+
+    @Modifying
+    @Query("UPDATE Score s SET s.verifiedAt = ?2 WHERE s IN ?1")
+    int markScoresAsVerified(Collection<Score> scores, ZonedDateTime verifiedAt);
+
+    /**
+     * Clears the {@link Plugin#isDirty() dirty} flag of the plugins, unless they changed since they were read to be
+     * scored, in one statement.
+     *
+     * @param plugins the scored plugins, with their {@link Plugin#getChangeCount() change count} as read
+     * @return the number of plugins marked as scored
+     */
+    default int markPluginsAsScored(Collection<Plugin> plugins) {
+        return markPluginsAsScored(JsonConfiguration.INSTANCE
+                .getObjectMapperWrapper()
+                .toString(plugins.stream()
+                        .map(plugin -> new ScoredPlugin(plugin.getName(), plugin.getChangeCount()))
+                        .toList()));
+    }
+
+    @Modifying
     @Query(
             value =
                     """
-            SELECT DISTINCT ON (s.plugin_id)
-                s.plugin_id,
-                s.value,
-                s.computed_at,
-                s.details,
-                s.id
-            FROM scores s
-            JOIN plugins p on s.plugin_id = p.id
-            ORDER BY s.plugin_id, s.computed_at DESC;
+            UPDATE plugins
+            SET dirty = false
+            FROM jsonb_to_recordset(CAST(?1 AS jsonb)) AS scored(name text, "changeCount" bigint)
+            WHERE plugins.name = scored.name
+              AND plugins.change_count = scored."changeCount"
             """,
             nativeQuery = true)
-    List<Score> findLatestScoreForAllPlugins();
+    int markPluginsAsScored(String plugins);
+
+    @Query(
+            """
+            SELECT new io.jenkins.pluginhealth.scoring.model.ScoreSummary(p.name, s.value, s.computedAt, s.details)
+            FROM Score s
+            JOIN s.plugin p
+            WHERE s.computedAt = (
+                SELECT max(s2.computedAt)
+                FROM Score s2
+                WHERE s2.plugin = s.plugin
+              )
+            """)
+    List<ScoreSummary> findLatestScoreSummaries();
 
     @Query(
             value =
@@ -65,41 +112,58 @@ public interface ScoreRepository extends JpaRepository<Score, Long> {
             nativeQuery = true)
     int[] getLatestScoreValueOfEveryPlugin();
 
+    /**
+     * Deletes up to {@code batchSize} scores which are not among the {@code retained} latest scores of their plugin.
+     * The scores are looked up plugin per plugin, using the index on {@code (plugin_id, computed_at)}, so that the cost
+     * of a batch does not depend on the size of the table.
+     *
+     * @param retained  the number of scores kept for each plugin
+     * @param batchSize the maximum number of scores deleted
+     * @return the number of scores deleted
+     */
     @Modifying
+    @Transactional
     @Query(
             value =
                     """
             DELETE FROM scores
-            WHERE id NOT IN (
-                SELECT id
-                FROM (
-                    SELECT id, ROW_NUMBER() OVER (PARTITION BY plugin_id ORDER BY computed_at DESC) AS row_num
-                    FROM scores
-                ) s
-                WHERE row_num <= 5
+            WHERE (id, computed_at) IN (
+                SELECT expired.id, expired.computed_at
+                FROM plugins p
+                CROSS JOIN LATERAL (
+                    SELECT s.id, s.computed_at
+                    FROM scores s
+                    WHERE s.plugin_id = p.id
+                    ORDER BY s.computed_at DESC, s.id DESC
+                    OFFSET ?1
+                    LIMIT ?2
+                ) expired
+                LIMIT ?2
             );
             """,
             nativeQuery = true)
-    int deleteOldScoreFromPlugin();
+    int deleteOldScoresFromPlugins(int retained, int batchSize);
 
     @Query(
-            value =
-                    """
-            SELECT
-                s.id,
-                s.plugin_id,
-                s.computed_at,
-                s.details,
-                s.value
-            FROM scores s
-            LEFT JOIN plugins p on s.plugin_id = p.id
-            WHERE s.value = ?1 AND s.id IN (
-                SELECT DISTINCT ON (s.plugin_id)
-                    s.id
-                FROM scores s
-                ORDER BY s.plugin_id, s.computed_at DESC
-            );
-            """,
-            nativeQuery = true)
-    List<Score> getAllLatestScoresWithValue(int score);
+            """
+            SELECT new io.jenkins.pluginhealth.scoring.model.ScoreSummary(p.name, s.value, s.computedAt, s.details)
+            FROM Score s
+            JOIN s.plugin p
+            WHERE s.value = ?1
+              AND s.computedAt = (
+                SELECT max(s2.computedAt)
+                FROM Score s2
+                WHERE s2.plugin = s.plugin
+              )
+            ORDER BY p.name
+            """)
+    List<ScoreSummary> findLatestScoreSummariesWithValue(long value);
+
+    /**
+     * A scored plugin, and its number of changes as of when it was read.
+     *
+     * @param name        the name of the plugin
+     * @param changeCount the {@link Plugin#getChangeCount() change count} of the plugin when it was read
+     */
+    record ScoredPlugin(String name, long changeCount) {}
 }
@@ -23,6 +23,7 @@
  */
 package io.jenkins.pluginhealth.scoring.scores;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Period;
@@ -32,6 +33,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.jenkins.pluginhealth.scoring.model.Plugin;
 import io.jenkins.pluginhealth.scoring.model.ProbeResult;
@@ -47,6 +49,16 @@ public class AdoptionScoring extends Scoring {
     private static final float COEFFICIENT = 0.8f;
     private static final String KEY = "adoption";
 
+    private final Clock clock;
+
+    public AdoptionScoring() {
+        this(Clock.systemDefaultZone());
+    }
+
+    AdoptionScoring(Clock clock) {
+        this.clock = clock;
+    }
+
     private abstract static class TimeSinceLastCommitScoringComponent implements ScoringComponent {
         protected final Duration getTimeBetweenLastCommitAndDate(String lastCommitDateMessage, ZonedDateTime then) {
             final ZonedDateTime commitDate = ZonedDateTime.parse(lastCommitDateMessage, DateTimeFormatter.ISO_DATE_TIME)
@@ -174,8 +186,7 @@ public class AdoptionScoring extends Scoring {
                     public ScoringComponentResult getScore(Plugin plugin, Map<String, ProbeResult> $) {
                         long timespanInMonths = Period.between(
                                         plugin.getReleaseTimestamp().toLocalDate(),
-                                        LocalDate.now(
-                                                plugin.getReleaseTimestamp().getZone()))
+                                        LocalDate.now(clock.withZone(plugin.getReleaseTimestamp().getZone())))
                                 .toTotalMonths();
                         if (timespanInMonths < 12) {
                             return new ScoringComponentResult(
@@ -218,4 +229,19 @@ public class AdoptionScoring extends Scoring {
     public int version() {
         return 7;
     }
+
+    @Override
+    public Set<String> probeKeys() {
+        return Set.of(UpForAdoptionProbe.KEY, LastCommitDateProbe.KEY);
+    }
+
+    @Override
+    public boolean usesReleaseTimestamp() {
+        return true;
+    }
+
+    @Override
+    public boolean isTimeDependent() {
+        return true;
+    }
 }
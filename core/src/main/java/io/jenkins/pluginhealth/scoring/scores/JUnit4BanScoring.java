@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2025 Jenkins Infra
+ * Copyright (c) 2025-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,6 +25,7 @@ package io.jenkins.pluginhealth.scoring.scores;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.jenkins.pluginhealth.scoring.model.Plugin;
 import io.jenkins.pluginhealth.scoring.model.ProbeResult;
@@ -100,4 +101,9 @@ public class JUnit4BanScoring extends Scoring {
     public int version() {
         return 1;
     }
+
+    @Override
+    public Set<String> probeKeys() {
+        return Set.of(MavenPropertiesProbe.KEY);
+    }
 }
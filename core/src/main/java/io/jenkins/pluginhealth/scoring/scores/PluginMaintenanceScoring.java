@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2022-2025 Jenkins Infra
+ * Copyright (c) 2022-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,6 +25,7 @@ package io.jenkins.pluginhealth.scoring.scores;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.jenkins.pluginhealth.scoring.model.Plugin;
 import io.jenkins.pluginhealth.scoring.model.ProbeResult;
@@ -204,4 +205,9 @@ public class PluginMaintenanceScoring extends Scoring {
     public int version() {
         return 10;
     }
+
+    @Override
+    public Set<String> probeKeys() {
+        return Set.of(CodeOwnershipProbe.KEY, ContinuousDeliveryProbe.KEY, JenkinsfileProbe.KEY);
+    }
 }
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2024 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,15 +25,11 @@ package io.jenkins.pluginhealth.scoring.scores;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.BiConsumer;
-import java.util.function.BinaryOperator;
-import java.util.function.Function;
-import java.util.function.Supplier;
-import java.util.stream.Collector;
-import java.util.stream.DoubleStream;
 
 import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
 import io.jenkins.pluginhealth.scoring.model.ScoreResult;
 import io.jenkins.pluginhealth.scoring.model.ScoringComponentResult;
 
@@ -46,6 +42,8 @@ import org.slf4j.LoggerFactory;
 public abstract class Scoring {
     private static final Logger LOGGER = LoggerFactory.getLogger(Scoring.class);
 
+    private volatile ScoringPlan plan;
+
     /**
      * Starts the scoring process of the plugin.
      * At the end of the process, a {@link ScoreResult} instance must be returned, describing the score of the plugin and its reasons.
@@ -54,67 +52,51 @@ public abstract class Scoring {
      * @return a {@link ScoreResult} describing the plugin based on the ProbeResult and the scoring requirements.
      */
     public final ScoreResult apply(Plugin plugin) {
-        return getComponents().stream()
-                .map(changelog -> {
-                    try {
-                        return changelog.getScore(plugin, plugin.getDetails());
-                    } catch (Throwable e) {
-                        LOGGER.warn(
-                                "Problem running {} on {} because of {}",
-                                this.getClass().getCanonicalName(),
-                                plugin.getName(),
-                                e.getClass().getCanonicalName(),
-                                e);
-                        return new ScoringComponentResult(
-                                0,
-                                changelog.getWeight(),
-                                List.of("Could not run scoring because of "
-                                        + e.getClass().getCanonicalName()));
-                    }
-                })
-                .collect(new Collector<ScoringComponentResult, Set<ScoringComponentResult>, ScoreResult>() {
-                    @Override
-                    public Supplier<Set<ScoringComponentResult>> supplier() {
-                        return HashSet::new;
-                    }
-
-                    @Override
-                    public BiConsumer<Set<ScoringComponentResult>, ScoringComponentResult> accumulator() {
-                        return Set::add;
-                    }
-
-                    @Override
-                    public BinaryOperator<Set<ScoringComponentResult>> combiner() {
-                        return (changelogResults, changelogResults2) -> {
-                            changelogResults.addAll(changelogResults2);
-                            return changelogResults;
-                        };
-                    }
-
-                    @Override
-                    public Function<Set<ScoringComponentResult>, ScoreResult> finisher() {
-                        return changelogResults -> {
-                            final double sum = changelogResults.stream()
-                                    .flatMapToDouble(changelogResult ->
-                                            DoubleStream.of(changelogResult.score() * changelogResult.weight()))
-                                    .sum();
-                            final double weight = changelogResults.stream()
-                                    .flatMapToDouble(changelogResult -> DoubleStream.of(changelogResult.weight()))
-                                    .sum();
-                            return new ScoreResult(
-                                    key(),
-                                    weight == 0 ? 100 : (int) Math.max(0, Math.round(sum / weight)),
-                                    weight(),
-                                    changelogResults,
-                                    version());
-                        };
-                    }
-
-                    @Override
-                    public Set<Characteristics> characteristics() {
-                        return Set.of(Characteristics.UNORDERED);
-                    }
-                });
+        final ScoringPlan plan = plan();
+        final Map<String, ProbeResult> probeResults = plan.resolve(plugin.getDetails());
+        final ScoringComponent[] components = plan.components();
+        final Set<ScoringComponentResult> results = HashSet.newHashSet(components.length);
+        double sum = 0;
+        double weight = 0;
+        for (ScoringComponent component : components) {
+            final ScoringComponentResult result = evaluate(component, plugin, probeResults);
+            if (results.add(result)) {
+                sum += result.score() * result.weight();
+                weight += result.weight();
+            }
+        }
+        return new ScoreResult(
+                key(), weight == 0 ? 100 : (int) Math.max(0, Math.round(sum / weight)), weight(), results, version());
+    }
+
+    private ScoringComponentResult evaluate(
+            ScoringComponent component, Plugin plugin, Map<String, ProbeResult> probeResults) {
+        try {
+            return component.getScore(plugin, probeResults);
+        } catch (Throwable e) {
+            LOGGER.warn(
+                    "Problem running {} on {} because of {}",
+                    this.getClass().getCanonicalName(),
+                    plugin.getName(),
+                    e.getClass().getCanonicalName(),
+                    e);
+            return new ScoringComponentResult(
+                    0,
+                    component.getWeight(),
+                    List.of("Could not run scoring because of " + e.getClass().getCanonicalName()));
+        }
+    }
+
+    /*
+     * The plan is compiled only once per scoring implementation, the first time the scoring is applied.
+     */
+    private ScoringPlan plan() {
+        ScoringPlan plan = this.plan;
+        if (plan == null) {
+            plan = new ScoringPlan(getComponents(), probeKeys());
+            this.plan = plan;
+        }
+        return plan;
     }
 
     /**
@@ -157,4 +139,37 @@ public abstract class Scoring {
      * @return an integer representing the scoring implementation version.
      */
     public abstract int version();
+
+    /**
+     * Lists the keys of the probes whose results are used by the scoring implementation.
+     * As long as none of those probe results changed, a previous {@link ScoreResult} of the same version can be reused
+     * instead of applying the scoring again.
+     *
+     * @return the keys of the probes used by the scoring implementation. An empty set, the default, means that the
+     *     scoring can depend on any probe result.
+     */
+    public Set<String> probeKeys() {
+        return Set.of();
+    }
+
+    /**
+     * Tells whether the scoring implementation uses the release timestamp of the plugin.
+     * When it does, a previous {@link ScoreResult} cannot be reused once the plugin was released after it was computed.
+     *
+     * @return {@code true} if the scoring implementation depends on the release timestamp of the plugin. By default,
+     *     only the scoring implementations which can depend on any probe result do.
+     */
+    public boolean usesReleaseTimestamp() {
+        return probeKeys().isEmpty();
+    }
+
+    /**
+     * Tells whether the result of the scoring implementation can change as time passes, while none of its inputs
+     * changed. A previous {@link ScoreResult} of such a scoring is only reused on the day it was verified.
+     *
+     * @return {@code true} if the scoring implementation depends on the current date. By default, it does not.
+     */
+    public boolean isTimeDependent() {
+        return false;
+    }
 }
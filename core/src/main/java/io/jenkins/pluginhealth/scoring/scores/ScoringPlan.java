@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.scores;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+
+/**
+ * Immutable plan of a {@link Scoring}, compiled the first time the scoring is applied.
+ * It holds the components of the scoring, and the keys of the probes it declared, each at a fixed slot.
+ */
+final class ScoringPlan {
+    private final ScoringComponent[] components;
+    private final String[] probeKeys;
+
+    ScoringPlan(List<ScoringComponent> components, Set<String> probeKeys) {
+        this.components = components.toArray(ScoringComponent[]::new);
+        this.probeKeys = probeKeys.toArray(String[]::new);
+    }
+
+    ScoringComponent[] components() {
+        return components;
+    }
+
+    /**
+     * Resolves the probe results of a plugin into the slots of the plan.
+     * Each declared probe is looked up once per plugin, however many components read it.
+     *
+     * @param details the probe results of the plugin
+     * @return the probe results to give to the components. When the scoring declared no probe, the details as is.
+     */
+    Map<String, ProbeResult> resolve(Map<String, ProbeResult> details) {
+        if (probeKeys.length == 0) {
+            return details;
+        }
+        final ProbeResult[] slots = new ProbeResult[probeKeys.length];
+        for (int i = 0; i < probeKeys.length; i++) {
+            slots[i] = details.get(probeKeys[i]);
+        }
+        return new ProbeSlots(probeKeys, slots, details);
+    }
+
+    /*
+     * The components look the probe results up with the constant keys of the probes, so the keys are compared by
+     * identity first. A probe which was not declared by the scoring is still read from the details.
+     */
+    private static final class ProbeSlots extends AbstractMap<String, ProbeResult> {
+        private final String[] keys;
+        private final ProbeResult[] slots;
+        private final Map<String, ProbeResult> details;
+
+        private ProbeSlots(String[] keys, ProbeResult[] slots, Map<String, ProbeResult> details) {
+            this.keys = keys;
+            this.slots = slots;
+            this.details = details;
+        }
+
+        @Override
+        public ProbeResult get(Object key) {
+            final int slot = slotOf(key);
+            return slot < 0 ? details.get(key) : slots[slot];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            final int slot = slotOf(key);
+            return slot < 0 ? details.containsKey(key) : slots[slot] != null;
+        }
+
+        @Override
+        public Set<Entry<String, ProbeResult>> entrySet() {
+            return details.entrySet();
+        }
+
+        private int slotOf(Object key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -26,6 +26,7 @@ package io.jenkins.pluginhealth.scoring.scores;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.jenkins.pluginhealth.scoring.model.Plugin;
 import io.jenkins.pluginhealth.scoring.model.ProbeResult;
@@ -95,4 +96,9 @@ public class SecurityWarningScoring extends Scoring {
     public int version() {
         return 2;
     }
+
+    @Override
+    public Set<String> probeKeys() {
+        return Set.of(KnownSecurityVulnerabilityProbe.KEY);
+    }
 }
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,12 +23,24 @@
  */
 package io.jenkins.pluginhealth.scoring.service;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
 import io.jenkins.pluginhealth.scoring.repository.PluginRepository;
+import io.jenkins.pluginhealth.scoring.repository.PluginRepository.DetailsPatch;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,17 +53,127 @@ public class PluginService {
         this.pluginRepository = pluginRepository;
     }
 
+    /**
+     * Saves a new plugin, or updates the existing plugin with the same name.
+     * For an existing plugin, only the probe results which changed are written, and nothing is written when the
+     * plugin did not change.
+     *
+     * @param plugin the plugin to save
+     */
     @Transactional
     public void saveOrUpdate(Plugin plugin) {
-        pluginRepository
-                .findByName(plugin.getName())
-                .map(pluginFromDatabase -> pluginFromDatabase
-                        .setScm(plugin.getScm())
-                        .setReleaseTimestamp(plugin.getReleaseTimestamp())
-                        .setVersion(plugin.getVersion())
-                        .addDetails(plugin.getDetails()))
-                .map(pluginRepository::save)
-                .orElseGet(() -> pluginRepository.save(plugin));
+        saveOrUpdateAll(List.of(plugin));
+    }
+
+    /**
+     * Saves the new plugins, and updates the existing ones, in one transaction.
+     * The existing plugins are fetched in one query, and the probe results which changed are written in one statement.
+     *
+     * @param plugins the plugins to save
+     * @see #saveOrUpdate(Plugin)
+     */
+    @Transactional
+    public void saveOrUpdateAll(Collection<Plugin> plugins) {
+        save(plugins, PluginService::update);
+    }
+
+    /**
+     * Saves the probe results, and the next probe time, of a plugin probed by the probe engine.
+     *
+     * @param plugin the probed plugin
+     * @see #saveAllProbeResults(Collection)
+     */
+    @Transactional
+    public void saveProbeResults(Plugin plugin) {
+        saveAllProbeResults(List.of(plugin));
+    }
+
+    /**
+     * Saves the probe results, and the next probe time, of plugins probed by the probe engine, in one transaction.
+     * Unlike {@link #saveOrUpdateAll(Collection)}, the properties coming from the update-center are not written, as
+     * they can have been synchronized again while the plugins were probed. For the same reason, the next probe time is
+     * not written when a newer release was synchronized meanwhile, so that the new release is probed by the next run.
+     *
+     * @param plugins the probed plugins
+     */
+    @Transactional
+    public void saveAllProbeResults(Collection<Plugin> plugins) {
+        save(plugins, PluginService::updateProbeResults);
+    }
+
+    private void save(Collection<Plugin> plugins, BiConsumer<Plugin, Plugin> update) {
+        final List<String> names = plugins.stream().map(Plugin::getName).toList();
+        final Map<String, Plugin> pluginsFromDatabase = pluginRepository.findAllByNameIn(names).stream()
+                .collect(Collectors.toMap(Plugin::getName, Function.identity()));
+        final List<Plugin> newPlugins = new ArrayList<>();
+        final Map<Plugin, Map<String, ProbeResult>> previousDetails = new HashMap<>();
+        final Set<String> changedPlugins = new HashSet<>();
+        for (Plugin plugin : plugins) {
+            final Plugin pluginFromDatabase = pluginsFromDatabase.get(plugin.getName());
+            if (pluginFromDatabase == null) {
+                newPlugins.add(plugin);
+            } else {
+                previousDetails.computeIfAbsent(pluginFromDatabase, p -> Map.copyOf(p.getDetails()));
+                final long changeCount = pluginFromDatabase.getChangeCount();
+                update.accept(pluginFromDatabase, plugin);
+                if (pluginFromDatabase.getChangeCount() != changeCount) {
+                    changedPlugins.add(pluginFromDatabase.getName());
+                }
+            }
+        }
+
+        if (!newPlugins.isEmpty()) {
+            pluginRepository.saveAll(newPlugins);
+        }
+        if (!changedPlugins.isEmpty()) {
+            pluginRepository.incrementChangeCount(changedPlugins);
+        }
+        final List<DetailsPatch> patches = previousDetails.entrySet().stream()
+                .map(entry -> patchOf(entry.getKey(), entry.getValue()))
+                .flatMap(Optional::stream)
+                .toList();
+        if (!patches.isEmpty()) {
+            pluginRepository.patchDetails(patches);
+        }
+    }
+
+    /*
+     * The scalar properties are updated by Hibernate, only when they changed. The probe results are patched.
+     * The next probe time is only set by the probe engine, so the plugins from the update-center do not reset it.
+     */
+    private static void update(Plugin pluginFromDatabase, Plugin plugin) {
+        pluginFromDatabase
+                .setScm(plugin.getScm())
+                .setReleaseTimestamp(plugin.getReleaseTimestamp())
+                .setVersion(plugin.getVersion())
+                .addDetails(plugin.getDetails());
+    }
+
+    /*
+     * A newer release in the database was synchronized after the plugin was probed, and reset its next probe time.
+     */
+    private static void updateProbeResults(Plugin pluginFromDatabase, Plugin plugin) {
+        pluginFromDatabase.addDetails(plugin.getDetails());
+        final ZonedDateTime release = pluginFromDatabase.getReleaseTimestamp();
+        final boolean newerRelease = release != null
+                && (plugin.getReleaseTimestamp() == null || release.isAfter(plugin.getReleaseTimestamp()));
+        if (plugin.getNextProbeAt() != null && !newerRelease) {
+            pluginFromDatabase.setNextProbeAt(plugin.getNextProbeAt());
+        }
+    }
+
+    private Optional<DetailsPatch> patchOf(Plugin pluginFromDatabase, Map<String, ProbeResult> previousDetails) {
+        final Map<String, ProbeResult> details = pluginFromDatabase.getDetails();
+        // Plugin#addDetails keeps the previous instance of a probe result which did not change.
+        final Map<String, ProbeResult> changed = details.entrySet().stream()
+                .filter(entry -> previousDetails.get(entry.getKey()) != entry.getValue())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        final Set<String> removed = previousDetails.keySet().stream()
+                .filter(key -> !details.containsKey(key))
+                .collect(Collectors.toSet());
+        return changed.isEmpty() && removed.isEmpty()
+                ? Optional.empty()
+                : Optional.of(new DetailsPatch(pluginFromDatabase.getName(), changed, removed));
     }
 
     @Transactional(readOnly = true)
@@ -59,6 +181,39 @@ public class PluginService {
         return pluginRepository.findAll().stream();
     }
 
+    /**
+     * Streams the plugins whose probe results, or release timestamp, changed since they were last scored.
+     *
+     * @return a stream of the {@link Plugin#isDirty() dirty} plugins
+     */
+    @Transactional(readOnly = true)
+    public Stream<Plugin> streamDirty() {
+        return pluginRepository.findAllByDirtyTrue().stream();
+    }
+
+    /**
+     * Streams the plugins which are dirty, or which were not scored since the provided time.
+     *
+     * @param since the time since which the plugins must have been scored, or their latest score verified
+     * @return a stream of the {@link Plugin#isDirty() dirty} plugins, and of the plugins not scored since then
+     */
+    @Transactional(readOnly = true)
+    public Stream<Plugin> streamDirtyOrNotScoredSince(ZonedDateTime since) {
+        return pluginRepository.findAllDirtyOrNotScoredSince(since).stream();
+    }
+
+    /**
+     * Streams the plugins on which the probes must be executed again.
+     *
+     * @param now the current time
+     * @return a stream of the plugins without a {@link Plugin#getNextProbeAt() next probe time}, or whose next probe
+     *     time is past
+     */
+    @Transactional(readOnly = true)
+    public Stream<Plugin> streamDue(ZonedDateTime now) {
+        return pluginRepository.findAllByNextProbeAtIsNullOrNextProbeAtLessThanEqual(now).stream();
+    }
+
     @Transactional(readOnly = true)
     public long getPluginsCount() {
         return pluginRepository.count();
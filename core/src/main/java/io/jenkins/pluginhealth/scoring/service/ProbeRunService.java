@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.service;
+
+import java.util.List;
+
+import io.jenkins.pluginhealth.scoring.model.ProbeRun;
+import io.jenkins.pluginhealth.scoring.repository.ProbeRunRepository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ProbeRunService {
+    private final ProbeRunRepository repository;
+
+    public ProbeRunService(ProbeRunRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional
+    public ProbeRun save(ProbeRun probeRun) {
+        return repository.save(probeRun);
+    }
+
+    /**
+     * @param limit the maximum number of runs to return
+     * @return the latest runs of the probe engine, the most recent first
+     */
+    @Transactional(readOnly = true)
+    public List<ProbeRun> getLatest(int limit) {
+        return repository.findAllByOrderByStartedAtDesc(Limit.of(limit));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.service;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import io.jenkins.pluginhealth.scoring.model.ProbeWorkItem;
+import io.jenkins.pluginhealth.scoring.repository.ProbeWorkItemRepository;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Queue of the {@link ProbeWorkItem work items} of the probe engine runs distributed over several instances of the
+ * application.
+ * <p>
+ * The items are leased with {@code SELECT ... FOR UPDATE SKIP LOCKED}, so instances leasing items at the same time
+ * never wait for each other, and never lease the same item. An instance must renew the leases of the items it holds
+ * before they expire, and finish each of them once the probe results of its plugin are saved.
+ */
+@Service
+public class ProbeWorkQueueService {
+    /*
+     * Key of the advisory lock serializing the creation of runs, so two instances starting a run at the same time
+     * do not enqueue the plugins twice.
+     */
+    private static final long ENQUEUE_LOCK = 0x70726f6265L;
+
+    private final ProbeWorkItemRepository repository;
+
+    public ProbeWorkQueueService(ProbeWorkItemRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Enqueues a run of the probes on all the plugins, except the ones still pending or leased from a previous run.
+     * The items of the previous runs which are finished are deleted.
+     *
+     * @param enqueuedAt the timestamp identifying the run
+     * @return the number of plugins enqueued
+     */
+    @Transactional
+    public int enqueueRun(ZonedDateTime enqueuedAt) {
+        return enqueueRun(enqueuedAt, false);
+    }
+
+    /**
+     * Enqueues a run of the probes on all the plugins, or only on the ones which are due, except the ones still
+     * pending or leased from a previous run. The items of the previous runs which are finished are deleted.
+     *
+     * @param enqueuedAt the timestamp identifying the run, also used as the current time
+     * @param dueOnly    when {@code true}, only the plugins whose
+     *                   {@link io.jenkins.pluginhealth.scoring.model.Plugin#getNextProbeAt() next probe time} is
+     *                   missing or past are enqueued
+     * @return the number of plugins enqueued
+     */
+    @Transactional
+    public int enqueueRun(ZonedDateTime enqueuedAt, boolean dueOnly) {
+        repository.lock(ENQUEUE_LOCK);
+        repository.deleteFinishedBefore(enqueuedAt);
+        return dueOnly ? repository.enqueueDuePlugins(enqueuedAt) : repository.enqueueAllPlugins(enqueuedAt);
+    }
+
+    /**
+     * Leases up to {@code limit} pending items, the oldest first.
+     *
+     * @param worker        the identifier of the instance leasing the items
+     * @param limit         the maximum number of items to lease
+     * @param leaseDuration how long the items are leased for, unless the lease is renewed
+     * @return the leased items
+     */
+    @Transactional
+    public List<ProbeWorkItem> lease(String worker, int limit, Duration leaseDuration) {
+        final List<Long> ids = repository.lockPendingIds(limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        repository.lease(ids, worker, ZonedDateTime.now().plus(leaseDuration));
+        return repository.findAllById(ids);
+    }
+
+    /**
+     * @return the number of items whose lease was renewed. The other items are not leased by the worker anymore.
+     */
+    @Transactional
+    public int renew(Collection<Long> ids, String worker, Duration leaseDuration) {
+        return ids.isEmpty() ? 0 : repository.renew(ids, worker, ZonedDateTime.now().plus(leaseDuration));
+    }
+
+    /**
+     * @param status {@link ProbeWorkItem.Status#DONE} or {@link ProbeWorkItem.Status#FAILED}
+     * @return false when the item is not leased by the worker anymore
+     */
+    @Transactional
+    public boolean finish(ProbeWorkItem item, String worker, ProbeWorkItem.Status status) {
+        return repository.finish(item.getId(), worker, status.name()) == 1;
+    }
+
+    /**
+     * Gives a leased item back, so it can be leased again, by any instance, without counting as an attempt.
+     *
+     * @return false when the item is not leased by the worker anymore
+     */
+    @Transactional
+    public boolean release(ProbeWorkItem item, String worker) {
+        return repository.release(item.getId(), worker) == 1;
+    }
+
+    /**
+     * @param maxAttempts the number of attempts after which an item is marked as failed instead of pending
+     * @return the number of items whose lease expired
+     */
+    @Transactional
+    public int requeueExpired(int maxAttempts) {
+        return repository.requeueExpired(ZonedDateTime.now(), maxAttempts);
+    }
+
+    @Transactional(readOnly = true)
+    public long countByStatus(ProbeWorkItem.Status status) {
+        return repository.countByStatus(status);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.jenkins.pluginhealth.scoring.model.SchedulerLock;
+import io.jenkins.pluginhealth.scoring.repository.SchedulerLockRepository;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Locks shared by all the instances of the application through the {@code scheduler_locks} table, so each scheduled
+ * job runs on only one of them at a time. The expiration of the locks is computed with the clock of the database.
+ */
+@Service
+public class SchedulerLockService {
+    private final SchedulerLockRepository repository;
+
+    public SchedulerLockService(SchedulerLockRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * @param name  the name of the lock
+     * @param owner the identifier of the instance acquiring the lock
+     * @param ttl   how long the lock is held, unless it is extended or released
+     * @return true when the lock was acquired, false when it is held by an instance, including the provided one
+     */
+    @Transactional
+    public boolean tryAcquire(String name, String owner, Duration ttl) {
+        return repository.tryAcquire(name, owner, ttl.toMillis()) == 1;
+    }
+
+    /**
+     * @return false when the lock is not held by the instance anymore
+     */
+    @Transactional
+    public boolean extend(String name, String owner, Duration ttl) {
+        return repository.extend(name, owner, ttl.toMillis()) == 1;
+    }
+
+    /**
+     * Releases a lock held by the instance. The lock is still held until {@code minimumHold} after it was acquired,
+     * so a job which runs on each instance at the same time does not run again on a slower instance.
+     *
+     * @param minimumHold the minimum time during which the lock is held
+     */
+    @Transactional
+    public void release(String name, String owner, Duration minimumHold) {
+        repository.release(name, owner, minimumHold.toMillis());
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<SchedulerLock> find(String name) {
+        return repository.findById(name);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SchedulerLock> findAll() {
+        return repository.findAllByOrderByName();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import io.jenkins.pluginhealth.scoring.model.ScoreDistribution;
+import io.jenkins.pluginhealth.scoring.repository.ScoreDistributionRepository;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps daily snapshots of the distribution of the plugin scores.
+ * Only {@link #rollup(LocalDate)} reads the scores of the plugins, the other methods only read the snapshots.
+ */
+@Service
+public class ScoreDistributionService {
+    private final ScoreService scoreService;
+    private final ScoreDistributionRepository repository;
+
+    public ScoreDistributionService(ScoreService scoreService, ScoreDistributionRepository repository) {
+        this.scoreService = scoreService;
+        this.repository = repository;
+    }
+
+    /**
+     * Computes the distribution of the latest scores of all the plugins, and saves it as the snapshot of the day.
+     * An existing snapshot of the same day is replaced.
+     *
+     * @param day the day of the snapshot
+     * @return the snapshot, or an empty optional when there is no score to compute the distribution from
+     */
+    @Transactional
+    public Optional<ScoreDistribution> rollup(LocalDate day) {
+        return scoreService.getScoresStatistics().map(statistics -> {
+            final Map<Integer, Long> distribution = scoreService.getScoresDistribution();
+            return repository.save(new ScoreDistribution(
+                    day,
+                    IntStream.rangeClosed(0, 100)
+                            .mapToObj(value -> distribution.getOrDefault(value, 0L))
+                            .toList(),
+                    statistics.average(),
+                    statistics.minimum(),
+                    statistics.firstQuartile(),
+                    statistics.median(),
+                    statistics.thirdQuartile(),
+                    statistics.maximum()));
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasRollup(LocalDate day) {
+        return repository.existsById(day);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ScoreDistribution> getLatest() {
+        return repository.findFirstByOrderByDayDesc();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ScoreDistribution> getHistory(LocalDate from, LocalDate to) {
+        return repository.findAllByDayBetweenOrderByDay(from, to);
+    }
+}
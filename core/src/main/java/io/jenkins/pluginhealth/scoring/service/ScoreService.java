@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,26 +23,44 @@
  */
 package io.jenkins.pluginhealth.scoring.service;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import io.jenkins.pluginhealth.scoring.model.HistoryResolution;
 import io.jenkins.pluginhealth.scoring.model.Plugin;
 import io.jenkins.pluginhealth.scoring.model.Score;
+import io.jenkins.pluginhealth.scoring.model.ScoreHistory;
+import io.jenkins.pluginhealth.scoring.model.ScoreSummary;
+import io.jenkins.pluginhealth.scoring.repository.ScoreHistoryRepository;
 import io.jenkins.pluginhealth.scoring.repository.ScoreRepository;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ScoreService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScoreService.class);
+    static final int RETAINED_SCORES_PER_PLUGIN = 5;
+    static final int DELETION_BATCH_SIZE = 1_000;
+    private static final int PARTITIONS_CREATED_IN_ADVANCE = 2;
+
     private final ScoreRepository repository;
+    private final ScoreHistoryRepository historyRepository;
 
-    public ScoreService(ScoreRepository repository) {
+    public ScoreService(ScoreRepository repository, ScoreHistoryRepository historyRepository) {
         this.repository = repository;
+        this.historyRepository = historyRepository;
     }
 
     @Transactional
@@ -50,15 +68,72 @@ public class ScoreService {
         return repository.save(score);
     }
 
+    /**
+     * Saves all the provided scores in a single transaction, allowing the inserts to be batched.
+     *
+     * @param scores the scores to save
+     * @return the saved scores
+     */
+    @Transactional
+    public List<Score> saveAll(List<Score> scores) {
+        return repository.saveAll(scores);
+    }
+
+    /**
+     * Saves the new scores of a batch of plugins and, in the same transaction, moves forward the
+     * {@link Score#getVerifiedAt() verification timestamp} of the scores which were computed again without any change,
+     * and marks the plugins of the batch as scored, so they are not considered {@link Plugin#isDirty() dirty}
+     * anymore. A plugin which changed since it was read to be scored, for instance by the update-center
+     * synchronization, stays dirty, so it is scored again by the next run. The latest score of each plugin of the
+     * batch is also recorded in its {@link ScoreHistory}.
+     *
+     * @param scores         the new scores to save
+     * @param verifiedScores the existing scores which were computed again with the same results
+     * @param scoredPlugins  the plugins which were scored, including the ones without a new score
+     * @return the saved scores
+     */
+    @Transactional
+    public List<Score> saveAll(List<Score> scores, Collection<Score> verifiedScores, Collection<Plugin> scoredPlugins) {
+        final List<Score> saved = repository.saveAll(scores);
+        verifiedScores.stream()
+                .collect(Collectors.groupingBy(Score::getVerifiedAt))
+                .forEach((verifiedAt, verified) -> repository.markScoresAsVerified(verified, verifiedAt));
+        if (!scoredPlugins.isEmpty()) {
+            repository.markPluginsAsScored(scoredPlugins);
+            historyRepository.recordLatestScores(scoredPlugins.stream().map(Plugin::getName).toList());
+        }
+        return saved;
+    }
+
     @Transactional(readOnly = true)
     public Optional<Score> latestScoreFor(Plugin plugin) {
         return repository.findFirstByPluginOrderByComputedAtDesc(plugin);
     }
 
+    /**
+     * Retrieves, in one query, the latest score of each of the provided plugins.
+     *
+     * @param plugins the plugins to get the latest score of
+     * @return a map of the latest score of each plugin. Plugins without any score are not part of the map.
+     */
+    @Transactional(readOnly = true)
+    public Map<Plugin, Score> latestScoresFor(Collection<Plugin> plugins) {
+        if (plugins.isEmpty()) {
+            return Map.of();
+        }
+        return repository.findLatestScoreForPlugins(plugins).stream()
+                .collect(Collectors.toMap(Score::getPlugin, Function.identity(), (s1, s2) -> s1));
+    }
+
+    /**
+     * Retrieves the latest score of every plugin, without loading the plugins.
+     *
+     * @return a map of the latest score of each plugin, by plugin name
+     */
     @Transactional(readOnly = true)
-    public Map<String, Score> getLatestScoresSummaryMap() {
-        return repository.findLatestScoreForAllPlugins().stream()
-                .collect(Collectors.toMap(score -> score.getPlugin().getName(), score -> score));
+    public Map<String, ScoreSummary> getLatestScoresSummaryMap() {
+        return repository.findLatestScoreSummaries().stream()
+                .collect(Collectors.toMap(ScoreSummary::pluginName, Function.identity(), (first, second) -> first));
     }
 
     @Transactional(readOnly = true)
@@ -78,9 +153,38 @@ public class ScoreService {
                         values[(int) (numberOfElement * .75)]));
     }
 
-    @Transactional
+    /**
+     * Makes sure the {@code scores} table is partitioned, and that the partitions of the next months exist.
+     */
+    public void preparePartitions() {
+        if (repository.partitionScoresTable()) {
+            LOGGER.info("The scores table is now partitioned by month");
+        }
+        final YearMonth nextMonth = YearMonth.now(ZoneOffset.UTC).plusMonths(1);
+        repository
+                .createScoresPartitions(nextMonth, nextMonth.plusMonths(PARTITIONS_CREATED_IN_ADVANCE - 1))
+                .forEach(partition -> LOGGER.info("Created scores partition {}", partition));
+    }
+
+    /**
+     * Removes the scores of each plugin which are older than its {@value #RETAINED_SCORES_PER_PLUGIN} latest scores.
+     * The partitions of the past months are dropped, after moving their latest scores to the default partition, then
+     * the remaining old scores are deleted in batches, each one in its own transaction.
+     *
+     * @return the number of scores deleted in batches, excluding the ones of the dropped partitions
+     */
     public int deleteOldScores() {
-        return repository.deleteOldScoreFromPlugin();
+        final ZonedDateTime currentMonth = YearMonth.now(ZoneOffset.UTC).atDay(1).atStartOfDay(ZoneOffset.UTC);
+        repository
+                .dropExpiredScoresPartitions(RETAINED_SCORES_PER_PLUGIN, currentMonth)
+                .forEach(partition -> LOGGER.info("Dropped scores partition {}", partition));
+        int deleted = 0;
+        int batch;
+        do {
+            batch = repository.deleteOldScoresFromPlugins(RETAINED_SCORES_PER_PLUGIN, DELETION_BATCH_SIZE);
+            deleted += batch;
+        } while (batch == DELETION_BATCH_SIZE);
+        return deleted;
     }
 
     public record ScoreStatistics(
@@ -98,7 +202,46 @@ public class ScoreService {
     }
 
     @Transactional(readOnly = true)
-    public List<Score> getAllLatestScoresWithValue(int value) {
-        return repository.getAllLatestScoresWithValue(value);
+    public List<ScoreSummary> getAllLatestScoresWithValue(int value) {
+        return repository.findLatestScoreSummariesWithValue(value);
+    }
+
+    public record ScoreHistoryValues(int minimum, double average, int maximum) {
+        private ScoreHistoryValues(ScoreHistoryRepository.HistoryInterval interval) {
+            this(interval.getMinimum(), interval.getAverage(), interval.getMaximum());
+        }
+    }
+
+    public record ScoreHistoryInterval(
+            LocalDate start, ScoreHistoryValues value, Map<String, ScoreHistoryValues> categories) {}
+
+    /**
+     * Provides the history of the score of a plugin, aggregated per interval of time.
+     * A day on which the plugin was not scored counts with the latest score recorded before it.
+     *
+     * @param pluginName the name of the plugin
+     * @param from       the first day of the history, included
+     * @param to         the last day of the history, included
+     * @param resolution the size of the intervals
+     * @return the minimum, average and maximum value of the plugin score, and of each of its scoring implementations,
+     *     for each interval with history, ordered by date
+     */
+    @Transactional(readOnly = true)
+    public List<ScoreHistoryInterval> getHistory(
+            String pluginName, LocalDate from, LocalDate to, HistoryResolution resolution) {
+        final Map<LocalDate, Map<String, ScoreHistoryValues>> categories = historyRepository
+                .findCategoriesHistory(pluginName, from, to, resolution.unit())
+                .stream()
+                .collect(Collectors.groupingBy(
+                        ScoreHistoryRepository.HistoryInterval::getStart,
+                        Collectors.toMap(
+                                ScoreHistoryRepository.CategoryHistoryInterval::getCategory,
+                                ScoreHistoryValues::new)));
+        return historyRepository.findHistory(pluginName, from, to, resolution.unit()).stream()
+                .map(interval -> new ScoreHistoryInterval(
+                        interval.getStart(),
+                        new ScoreHistoryValues(interval),
+                        categories.getOrDefault(interval.getStart(), Map.of())))
+                .toList();
     }
 }
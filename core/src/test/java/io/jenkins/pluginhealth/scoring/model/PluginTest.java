@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -104,8 +104,34 @@ class PluginTest {
 
         plugin.addDetails(ProbeResult.success(probeKey, "", 1));
         assertThat(plugin.getDetails()).hasSize(1);
+        assertThat(plugin.getProbeResultsRemovedAt()).isNull();
 
         plugin.addDetails(ProbeResult.error(probeKey, "", 1));
         assertThat(plugin.getDetails()).isEmpty();
+        assertThat(plugin.getProbeResultsRemovedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldResetNextProbeTimeOnNewRelease() {
+        final ZonedDateTime release = ZonedDateTime.now().minusDays(1);
+        final Plugin plugin = new Plugin("foo", null, null, release).setNextProbeAt(ZonedDateTime.now());
+
+        plugin.setReleaseTimestamp(release);
+        assertThat(plugin.getNextProbeAt()).isNotNull();
+
+        plugin.setReleaseTimestamp(ZonedDateTime.now());
+        assertThat(plugin.getNextProbeAt()).isNull();
+    }
+
+    @Test
+    void shouldCountChanges() {
+        final Plugin plugin = new Plugin("foo", null, null, ZonedDateTime.now().minusDays(1));
+
+        plugin.addDetails(ProbeResult.success("foo", "message", 1));
+        plugin.addDetails(ProbeResult.success("foo", "message", 1));
+        assertThat(plugin.getChangeCount()).isEqualTo(1);
+
+        plugin.setReleaseTimestamp(ZonedDateTime.now());
+        assertThat(plugin.getChangeCount()).isEqualTo(2);
     }
 }
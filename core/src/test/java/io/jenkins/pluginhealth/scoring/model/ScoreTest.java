@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -28,6 +28,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.mock;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -55,4 +56,30 @@ class ScoreTest {
         assertThat(score.getDetails().size()).isEqualTo(3);
         assertThat(score.getValue()).isEqualTo(78);
     }
+
+    @Test
+    void shouldHaveSameResultsWhenAllResultsAreIdentical() {
+        final Plugin plugin = mock(Plugin.class);
+        final Score score = new Score(plugin, ZonedDateTime.now());
+        score.addDetail(new ScoreResult(
+                "foo", 100, .4f, Set.of(new ScoringComponentResult(100, 1, List.of("Everything is fine."))), 1));
+        final Score otherScore = new Score(plugin, ZonedDateTime.now().minusDays(1));
+        otherScore.addDetail(new ScoreResult(
+                "foo", 100, .4f, Set.of(new ScoringComponentResult(100, 1, List.of("Everything is fine."))), 1));
+
+        assertThat(score.hasSameResultsAs(otherScore)).isTrue();
+    }
+
+    @Test
+    void shouldNotHaveSameResultsWhenComponentResultsAreDifferent() {
+        final Plugin plugin = mock(Plugin.class);
+        final Score score = new Score(plugin, ZonedDateTime.now());
+        score.addDetail(new ScoreResult(
+                "foo", 100, .4f, Set.of(new ScoringComponentResult(100, 1, List.of("Everything is fine."))), 1));
+        final Score otherScore = new Score(plugin, ZonedDateTime.now().minusDays(1));
+        otherScore.addDetail(new ScoreResult(
+                "foo", 100, .4f, Set.of(new ScoringComponentResult(100, 1, List.of("Something changed."))), 1));
+
+        assertThat(score.hasSameResultsAs(otherScore)).isFalse();
+    }
 }
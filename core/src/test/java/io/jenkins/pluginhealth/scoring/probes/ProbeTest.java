@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2025 Jenkins Infra
+ * Copyright (c) 2025-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -29,13 +29,18 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import io.jenkins.pluginhealth.scoring.model.Plugin;
 import io.jenkins.pluginhealth.scoring.model.ProbeResult;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -210,4 +215,32 @@ public class ProbeTest {
 
         assertThat(probe.isApplicable(plugin, ctx)).isFalse();
     }
+
+    @Test
+    void shouldRecordExecutionInFlightRecorder() throws Exception {
+        final Probe probe = spy(Probe.class);
+        final Plugin plugin = mock(Plugin.class);
+        final ProbeContext ctx = mock(ProbeContext.class);
+
+        when(probe.key()).thenReturn("key");
+        when(plugin.getName()).thenReturn("foo");
+        when(plugin.getDetails()).thenReturn(Map.of());
+        when(probe.doApply(plugin, ctx)).thenReturn(ProbeResult.success("key", "bar", 1));
+
+        final Path dump = tempDir.toPath().resolve("probe.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.jenkins.pluginhealth.scoring.Probe");
+            recording.start();
+            probe.apply(plugin, ctx);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("probe")).isEqualTo("key");
+            assertThat(event.getString("plugin")).isEqualTo("foo");
+            assertThat(event.getString("status")).isEqualTo("SUCCESS");
+        });
+    }
 }
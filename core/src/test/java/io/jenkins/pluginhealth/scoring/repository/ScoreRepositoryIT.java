@@ -25,7 +25,10 @@ package io.jenkins.pluginhealth.scoring.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import io.jenkins.pluginhealth.scoring.AbstractDBContainerTest;
@@ -98,7 +101,7 @@ public class ScoreRepositoryIT extends AbstractDBContainerTest {
         final Score recentScore005 =
                 entityManager.persist(new Score(plugin3, ZonedDateTime.now().minusDays(1)));
 
-        long noOfRowsDeleted = repository.deleteOldScoreFromPlugin();
+        long noOfRowsDeleted = repository.deleteOldScoresFromPlugins(5, 100);
         List<Score> remainingScores = repository.findAll();
 
         assertThat(noOfRowsDeleted).isEqualTo(6);
@@ -122,4 +125,115 @@ public class ScoreRepositoryIT extends AbstractDBContainerTest {
                         recentScore004,
                         recentScore005);
     }
+
+    @Test
+    void shouldDeleteOldScoresInBatches() {
+        final Plugin plugin =
+                entityManager.persist(new Plugin("plugin-1", new VersionNumber("1.0"), "scm", ZonedDateTime.now()));
+        for (int i = 0; i < 8; i++) {
+            entityManager.persist(new Score(plugin, ZonedDateTime.now().minusDays(i)));
+        }
+        entityManager.flush();
+
+        assertThat(repository.deleteOldScoresFromPlugins(5, 2)).isEqualTo(2);
+        assertThat(repository.deleteOldScoresFromPlugins(5, 2)).isEqualTo(1);
+        assertThat(repository.deleteOldScoresFromPlugins(5, 2)).isZero();
+        assertThat(repository.findAll()).hasSize(5);
+    }
+
+    @Test
+    void shouldPartitionScoresTableByMonth() {
+        final Plugin plugin =
+                entityManager.persist(new Plugin("plugin-1", new VersionNumber("1.0"), "scm", ZonedDateTime.now()));
+        final Score score =
+                entityManager.persist(new Score(plugin, ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS)));
+        entityManager.flush();
+
+        assertThat(repository.partitionScoresTable()).isTrue();
+        assertThat(repository.partitionScoresTable()).isFalse();
+
+        final YearMonth nextMonth = YearMonth.now(ZoneOffset.UTC).plusMonths(1);
+        assertThat(repository.createScoresPartitions(nextMonth, nextMonth.plusMonths(1)))
+                .containsExactly(partitionName(nextMonth), partitionName(nextMonth.plusMonths(1)));
+        assertThat(repository.createScoresPartitions(nextMonth, nextMonth.plusMonths(1))).isEmpty();
+
+        final Score futureScore =
+                entityManager.persist(new Score(plugin, nextMonth.atDay(2).atStartOfDay(ZoneOffset.UTC)));
+        entityManager.flush();
+
+        assertThat(repository.findAll()).containsExactlyInAnyOrder(score, futureScore);
+        assertThat(partitionOf(score)).isEqualTo("scores_legacy");
+        assertThat(partitionOf(futureScore)).isEqualTo(partitionName(nextMonth));
+    }
+
+    @Test
+    void shouldOnlyDropPartitionsEndingBeforeTheProvidedTime() {
+        final Plugin plugin =
+                entityManager.persist(new Plugin("plugin-1", new VersionNumber("1.0"), "scm", ZonedDateTime.now()));
+        entityManager.flush();
+        repository.partitionScoresTable();
+        final YearMonth nextMonth = YearMonth.now(ZoneOffset.UTC).plusMonths(1);
+        repository.createScoresPartitions(nextMonth, nextMonth);
+
+        entityManager.persist(new Score(plugin, ZonedDateTime.now().minusMonths(1)));
+        for (int i = 1; i <= 5; i++) {
+            entityManager.persist(new Score(plugin, nextMonth.atDay(i).atStartOfDay(ZoneOffset.UTC)));
+        }
+        entityManager.flush();
+
+        assertThat(repository.dropExpiredScoresPartitions(5, startOf(nextMonth.minusMonths(1))))
+                .isEmpty();
+        assertThat(repository.dropExpiredScoresPartitions(5, startOf(nextMonth))).containsExactly("scores_legacy");
+        entityManager.clear();
+        assertThat(repository.findAll())
+                .hasSize(5)
+                .allMatch(score -> !score.getComputedAt().isBefore(startOf(nextMonth)));
+    }
+
+    @Test
+    void shouldKeepRetainedScoresOfDroppedPartitions() {
+        final Plugin stale =
+                entityManager.persist(new Plugin("plugin-1", new VersionNumber("1.0"), "scm", ZonedDateTime.now()));
+        final Plugin active =
+                entityManager.persist(new Plugin("plugin-2", new VersionNumber("1.0"), "scm", ZonedDateTime.now()));
+        entityManager.flush();
+        repository.partitionScoresTable();
+        final YearMonth first = YearMonth.now(ZoneOffset.UTC).plusMonths(1);
+        final YearMonth second = first.plusMonths(1);
+        final YearMonth third = second.plusMonths(1);
+        repository.createScoresPartitions(first, third);
+
+        final Score staleScore = entityManager.persist(new Score(stale, first.atDay(1).atStartOfDay(ZoneOffset.UTC)));
+        entityManager.persist(new Score(active, second.atDay(1).atStartOfDay(ZoneOffset.UTC)));
+        for (int i = 1; i <= 5; i++) {
+            entityManager.persist(new Score(active, third.atDay(i).atStartOfDay(ZoneOffset.UTC)));
+        }
+        entityManager.flush();
+
+        assertThat(repository.dropExpiredScoresPartitions(5, startOf(third)))
+                .containsExactly("scores_legacy", partitionName(first), partitionName(second));
+        entityManager.clear();
+        assertThat(repository.findAll())
+                .hasSize(6)
+                .filteredOn(score -> score.getPlugin().getName().equals("plugin-1"))
+                .singleElement()
+                .matches(score -> score.getComputedAt().isEqual(staleScore.getComputedAt()));
+        assertThat(partitionOf(staleScore)).isEqualTo("scores_default");
+    }
+
+    private static ZonedDateTime startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "scores_%d_%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+
+    private String partitionOf(Score score) {
+        return (String) entityManager
+                .getEntityManager()
+                .createNativeQuery("SELECT CAST(CAST(tableoid AS regclass) AS text) FROM scores WHERE computed_at = ?1")
+                .setParameter(1, score.getComputedAt())
+                .getSingleResult();
+    }
 }
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,6 +25,11 @@
 package io.jenkins.pluginhealth.scoring.scores;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.jenkins.pluginhealth.scoring.model.Plugin;
 
 import org.junit.jupiter.api.Test;
 
@@ -40,4 +45,15 @@ public abstract class AbstractScoringTest<T extends Scoring> {
     void shouldHaveDescription() {
         assertThat(getSpy().description()).isNotBlank();
     }
+
+    @Test
+    void shouldCompilePlanOnlyOnce() {
+        final T scoring = getSpy();
+
+        scoring.apply(mock(Plugin.class));
+        scoring.apply(mock(Plugin.class));
+
+        verify(scoring, times(1)).getComponents();
+        verify(scoring, times(1)).probeKeys();
+    }
 }
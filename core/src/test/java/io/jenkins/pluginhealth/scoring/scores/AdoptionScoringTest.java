@@ -28,6 +28,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
@@ -260,4 +261,30 @@ class AdoptionScoringTest extends AbstractScoringTest<AdoptionScoring> {
         final ScoreResult result = scoring.apply(plugin);
         assertThat(result.value()).isZero();
     }
+
+    @Test
+    void shouldLowerScoreAsTimeSinceLastReleasePasses() {
+        final ZonedDateTime releaseDateTime = ZonedDateTime.parse("2024-01-01T10:00:00Z");
+        final Plugin plugin = mock(Plugin.class);
+        when(plugin.getDetails())
+                .thenReturn(Map.of(
+                        UpForAdoptionProbe.KEY,
+                        ProbeResult.success(UpForAdoptionProbe.KEY, "This plugin is not up for adoption.", 1),
+                        LastCommitDateProbe.KEY,
+                        ProbeResult.success(
+                                LastCommitDateProbe.KEY,
+                                releaseDateTime.plusMinutes(10).format(DateTimeFormatter.ISO_DATE_TIME),
+                                1)));
+        when(plugin.getReleaseTimestamp()).thenReturn(releaseDateTime);
+
+        final ScoreResult afterSixMonths =
+                new AdoptionScoring(Clock.fixed(releaseDateTime.plusMonths(6).toInstant(), releaseDateTime.getZone()))
+                        .apply(plugin);
+        final ScoreResult afterTwoYears =
+                new AdoptionScoring(Clock.fixed(releaseDateTime.plusYears(2).toInstant(), releaseDateTime.getZone()))
+                        .apply(plugin);
+
+        assertThat(afterSixMonths.value()).isEqualTo(100);
+        assertThat(afterTwoYears.value()).isEqualTo(92);
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.scores;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+
+import org.junit.jupiter.api.Test;
+
+class ScoringPlanTest {
+    @Test
+    void shouldResolveDeclaredProbesToSlots() {
+        final ProbeResult a = ProbeResult.success("probe-a", "message", 1);
+        final ProbeResult b = ProbeResult.success("probe-b", "message", 1);
+        final ScoringPlan plan = new ScoringPlan(List.of(), Set.of("probe-a", "probe-c"));
+
+        final Map<String, ProbeResult> probeResults = plan.resolve(Map.of("probe-a", a, "probe-b", b));
+
+        assertThat(probeResults.get("probe-a")).isSameAs(a);
+        assertThat(probeResults.get(new String("probe-a"))).isSameAs(a);
+        assertThat(probeResults.get("probe-c")).isNull();
+        assertThat(probeResults.containsKey("probe-c")).isFalse();
+        assertThat(probeResults.get("probe-b")).isSameAs(b);
+        assertThat(probeResults.containsKey("probe-b")).isTrue();
+    }
+
+    @Test
+    void shouldGiveDetailsAsIsWithoutDeclaredProbes() {
+        final Map<String, ProbeResult> details = Map.of("probe-a", ProbeResult.success("probe-a", "message", 1));
+        final ScoringPlan plan = new ScoringPlan(List.of(), Set.of());
+
+        assertThat(plan.resolve(details)).isSameAs(details);
+    }
+}
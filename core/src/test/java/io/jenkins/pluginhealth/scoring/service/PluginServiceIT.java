@@ -26,9 +26,11 @@ package io.jenkins.pluginhealth.scoring.service;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import io.jenkins.pluginhealth.scoring.AbstractDBContainerTest;
 import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
 import io.jenkins.pluginhealth.scoring.repository.PluginRepository;
 
 import hudson.util.VersionNumber;
@@ -88,4 +90,132 @@ class PluginServiceIT extends AbstractDBContainerTest {
     void shouldReturnsNonNullObjectWhenNoPluginWithName() {
         assertThat(pluginService.findByName("not-existing")).isNotNull().isEmpty();
     }
+
+    @Test
+    void shouldOnlyMarkPluginAsDirtyWhenProbeResultsChanged() {
+        entityManager.persist(new Plugin("foo-bar", new VersionNumber("1.0"), "scm", null)
+                .addDetails(ProbeResult.success("probe", "message", 1)));
+        entityManager
+                .getEntityManager()
+                .createQuery("UPDATE Plugin p SET p.dirty = false")
+                .executeUpdate();
+        entityManager.clear();
+
+        pluginService.saveOrUpdate(new Plugin("foo-bar", new VersionNumber("1.0"), "scm", null)
+                .addDetails(ProbeResult.success("probe", "message", 1)));
+        assertThat(pluginService.streamDirty()).isEmpty();
+
+        pluginService.saveOrUpdate(new Plugin("foo-bar", new VersionNumber("1.0"), "scm", null)
+                .addDetails(ProbeResult.success("probe", "new message", 1)));
+        assertThat(pluginService.streamDirty())
+                .singleElement()
+                .extracting(Plugin::getName)
+                .isEqualTo("foo-bar");
+    }
+
+    @Test
+    void shouldIncrementChangeCountInTheDatabase() {
+        entityManager.persist(new Plugin("foo-bar", new VersionNumber("1.0"), "scm", null));
+        entityManager.flush();
+        entityManager.clear();
+
+        final Plugin stalePlugin = pluginService.findByName("foo-bar").orElseThrow();
+        entityManager
+                .getEntityManager()
+                .createNativeQuery("UPDATE plugins SET change_count = change_count + 1")
+                .executeUpdate();
+        stalePlugin.setScm("new-scm");
+        entityManager.flush();
+        entityManager.clear();
+
+        pluginService.saveProbeResults(new Plugin("foo-bar", new VersionNumber("1.0"), "scm", null)
+                .addDetails(ProbeResult.success("probe", "message", 1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(pluginService.findByName("foo-bar"))
+                .get()
+                .extracting(Plugin::getChangeCount, Plugin::getScm)
+                .containsExactly(2L, "new-scm");
+    }
+
+    @Test
+    void shouldOnlyResetNextProbeTimeOnNewRelease() {
+        final ZonedDateTime release = ZonedDateTime.parse("2024-01-01T00:00:00Z");
+        final ZonedDateTime nextProbeAt = ZonedDateTime.now().plusDays(1);
+        entityManager.persist(
+                new Plugin("foo-bar", new VersionNumber("1.0"), "scm", release).setNextProbeAt(nextProbeAt));
+        entityManager.flush();
+        entityManager.clear();
+
+        pluginService.saveOrUpdate(new Plugin("foo-bar", new VersionNumber("1.0"), "scm", release));
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(pluginService.streamDue(ZonedDateTime.now())).isEmpty();
+        assertThat(pluginService.streamDue(nextProbeAt.plusMinutes(1))).hasSize(1);
+
+        pluginService.saveOrUpdate(new Plugin("foo-bar", new VersionNumber("1.1"), "scm", release.plusDays(1)));
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(pluginService.streamDue(ZonedDateTime.now()))
+                .singleElement()
+                .extracting(Plugin::getNextProbeAt)
+                .isNull();
+    }
+
+    @Test
+    void shouldOnlyUpdateChangedProbeResults() {
+        final ZonedDateTime timestamp = ZonedDateTime.parse("2024-01-01T00:00:00Z");
+        entityManager.persist(new Plugin("foo-bar", new VersionNumber("1.0"), "scm", null)
+                .addDetails(new ProbeResult("probe-a", "message", ProbeResult.Status.SUCCESS, timestamp, 1))
+                .addDetails(new ProbeResult("probe-b", "message", ProbeResult.Status.SUCCESS, timestamp, 1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        pluginService.saveOrUpdate(new Plugin("foo-bar", new VersionNumber("1.1"), "scm", null)
+                .addDetails(ProbeResult.success("probe-a", "message", 1))
+                .addDetails(ProbeResult.success("probe-b", "new message", 1))
+                .addDetails(ProbeResult.success("probe-c", "message", 1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        final Plugin plugin = pluginService.findByName("foo-bar").orElseThrow();
+        assertThat(plugin.getVersion()).isEqualTo(new VersionNumber("1.1"));
+        assertThat(plugin.getDetails()).containsOnlyKeys("probe-a", "probe-b", "probe-c");
+        assertThat(plugin.getDetails().get("probe-a").timestamp()).isEqualTo(timestamp);
+        assertThat(plugin.getDetails().get("probe-b").message()).isEqualTo("new message");
+        assertThat(plugin.getDetails().get("probe-b").timestamp()).isAfter(timestamp);
+    }
+
+    @Test
+    void shouldSaveAndUpdateSeveralPluginsAtOnce() {
+        entityManager.persist(new Plugin("foo", new VersionNumber("1.0"), "scm", null)
+                .addDetails(ProbeResult.success("probe-a", "message", 1))
+                .addDetails(ProbeResult.success("probe-b", "message", 1)));
+        entityManager.persist(new Plugin("bar", new VersionNumber("1.0"), "scm", null)
+                .addDetails(ProbeResult.success("probe-a", "message", 1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        pluginService.saveOrUpdateAll(List.of(
+                new Plugin("foo", new VersionNumber("1.0"), "scm", null)
+                        .addDetails(ProbeResult.success("probe-a", "new message", 1))
+                        .addDetails(ProbeResult.error("probe-b", "error", 1)),
+                new Plugin("bar", new VersionNumber("1.0"), "scm", null)
+                        .addDetails(ProbeResult.success("probe-b", "message", 1)),
+                new Plugin("wiz", new VersionNumber("1.0"), "scm", null)
+                        .addDetails(ProbeResult.success("probe-a", "message", 1))));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(pluginService.findByName("foo").orElseThrow().getDetails())
+                .containsOnlyKeys("probe-a")
+                .extractingByKey("probe-a")
+                .extracting(ProbeResult::message)
+                .isEqualTo("new message");
+        assertThat(pluginService.findByName("bar").orElseThrow().getDetails())
+                .containsOnlyKeys("probe-a", "probe-b");
+        assertThat(pluginService.findByName("wiz").orElseThrow().getDetails())
+                .containsOnlyKeys("probe-a");
+    }
 }
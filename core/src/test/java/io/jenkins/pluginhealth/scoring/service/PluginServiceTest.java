@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+import io.jenkins.pluginhealth.scoring.repository.PluginRepository;
+import io.jenkins.pluginhealth.scoring.repository.PluginRepository.DetailsPatch;
+
+import hudson.util.VersionNumber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PluginServiceTest {
+    private static final ZonedDateTime RELEASE = ZonedDateTime.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private PluginRepository pluginRepository;
+
+    private PluginService pluginService;
+
+    @BeforeEach
+    void setup() {
+        pluginService = new PluginService(pluginRepository);
+    }
+
+    @Test
+    void shouldNotWriteProbeResultsWhenNoneChanged() {
+        when(pluginRepository.findAllByNameIn(List.of("foo"))).thenReturn(List.of(plugin()
+                .addDetails(ProbeResult.success("probe-a", "message", 1))
+                .addDetails(ProbeResult.success("probe-b", "message", 1))));
+
+        pluginService.saveOrUpdate(plugin()
+                .addDetails(ProbeResult.success("probe-a", "message", 1))
+                .addDetails(ProbeResult.success("probe-b", "message", 1)));
+
+        verify(pluginRepository, never()).patchDetails(anyList());
+        verify(pluginRepository, never()).saveAll(any());
+        verify(pluginRepository, never()).incrementChangeCount(any());
+    }
+
+    @Test
+    void shouldOnlyWriteChangedProbeResults() {
+        when(pluginRepository.findAllByNameIn(List.of("foo"))).thenReturn(List.of(plugin()
+                .addDetails(ProbeResult.success("probe-a", "message", 1))
+                .addDetails(ProbeResult.success("probe-b", "message", 1))));
+
+        final ProbeResult changed = ProbeResult.success("probe-b", "new message", 1);
+        final ProbeResult added = ProbeResult.success("probe-c", "message", 1);
+        pluginService.saveOrUpdate(plugin()
+                .addDetails(ProbeResult.success("probe-a", "message", 1))
+                .addDetails(changed)
+                .addDetails(added));
+
+        verify(pluginRepository)
+                .patchDetails(List.of(new DetailsPatch("foo", Map.of("probe-b", changed, "probe-c", added), Set.of())));
+        verify(pluginRepository, never()).saveAll(any());
+        verify(pluginRepository).incrementChangeCount(Set.of("foo"));
+    }
+
+    @Test
+    void shouldSaveNewPlugin() {
+        final Plugin plugin = plugin().addDetails(ProbeResult.success("probe-a", "message", 1));
+        when(pluginRepository.findAllByNameIn(List.of("foo"))).thenReturn(List.of());
+
+        pluginService.saveOrUpdate(plugin);
+
+        verify(pluginRepository).saveAll(List.of(plugin));
+        verify(pluginRepository, never()).patchDetails(anyList());
+    }
+
+    @Test
+    void shouldSaveAllPluginsWithOneQueryAndOneUpdate() {
+        final ProbeResult changed = ProbeResult.success("probe-a", "new message", 1);
+        final Plugin newPlugin = new Plugin("bar", new VersionNumber("1.0"), "scm", RELEASE);
+        when(pluginRepository.findAllByNameIn(List.of("foo", "bar")))
+                .thenReturn(List.of(plugin().addDetails(ProbeResult.success("probe-a", "message", 1))));
+
+        pluginService.saveOrUpdateAll(List.of(plugin().addDetails(changed), newPlugin));
+
+        verify(pluginRepository).saveAll(List.of(newPlugin));
+        verify(pluginRepository).patchDetails(List.of(new DetailsPatch("foo", Map.of("probe-a", changed), Set.of())));
+    }
+
+    @Test
+    void shouldNotOverwriteANewerReleaseWithProbeResults() {
+        final Plugin pluginFromDatabase = new Plugin("foo", new VersionNumber("1.1"), "new-scm", RELEASE.plusDays(1));
+        when(pluginRepository.findAllByNameIn(List.of("foo"))).thenReturn(List.of(pluginFromDatabase));
+
+        pluginService.saveProbeResults(plugin()
+                .setNextProbeAt(RELEASE.plusDays(7))
+                .addDetails(ProbeResult.success("probe-a", "message", 1)));
+
+        assertThat(pluginFromDatabase.getReleaseTimestamp()).isEqualTo(RELEASE.plusDays(1));
+        assertThat(pluginFromDatabase.getScm()).isEqualTo("new-scm");
+        assertThat(pluginFromDatabase.getNextProbeAt()).isNull();
+        assertThat(pluginFromDatabase.getDetails()).containsKey("probe-a");
+    }
+
+    @Test
+    void shouldSetNextProbeTimeOfTheProbedRelease() {
+        final Plugin pluginFromDatabase = plugin();
+        when(pluginRepository.findAllByNameIn(List.of("foo"))).thenReturn(List.of(pluginFromDatabase));
+
+        pluginService.saveProbeResults(plugin().setNextProbeAt(RELEASE.plusDays(7)));
+
+        assertThat(pluginFromDatabase.getNextProbeAt()).isEqualTo(RELEASE.plusDays(7));
+    }
+
+    private static Plugin plugin() {
+        return new Plugin("foo", new VersionNumber("1.0"), "scm", RELEASE);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import io.jenkins.pluginhealth.scoring.AbstractDBContainerTest;
+import io.jenkins.pluginhealth.scoring.model.ProbeRun;
+import io.jenkins.pluginhealth.scoring.repository.ProbeRunRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class ProbeRunServiceIT extends AbstractDBContainerTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProbeRunRepository probeRunRepository;
+
+    private ProbeRunService probeRunService;
+
+    @BeforeEach
+    void setup() {
+        probeRunService = new ProbeRunService(probeRunRepository);
+    }
+
+    @Test
+    void shouldSaveProbeRunReport() {
+        final ZonedDateTime now = ZonedDateTime.now();
+        final ProbeRun run = probeRunService.save(new ProbeRun(
+                now.minusMinutes(5),
+                now,
+                3,
+                2,
+                1,
+                0,
+                Map.of("foo", new ProbeRun.ProbeStatistics(3, 0, 1, 1_500, 900)),
+                List.of(new ProbeRun.PluginDuration("bar", 1_000), new ProbeRun.PluginDuration("wiz", 500))));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(probeRunService.getLatest(1)).singleElement().satisfies(saved -> {
+            assertThat(saved.getId()).isEqualTo(run.getId());
+            assertThat(saved.getPlugins()).isEqualTo(3);
+            assertThat(saved.getDurationMillis()).isEqualTo(5 * 60 * 1_000);
+            assertThat(saved.getProbes()).containsExactlyEntriesOf(
+                    Map.of("foo", new ProbeRun.ProbeStatistics(3, 0, 1, 1_500, 900)));
+            assertThat(saved.getSlowestPlugins())
+                    .containsExactly(
+                            new ProbeRun.PluginDuration("bar", 1_000), new ProbeRun.PluginDuration("wiz", 500));
+        });
+    }
+
+    @Test
+    void shouldListLatestProbeRunsFirst() {
+        final ZonedDateTime now = ZonedDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            probeRunService.save(new ProbeRun(
+                    now.minusDays(i).minusMinutes(5), now.minusDays(i), i, 0, 0, 0, Map.of(), List.of()));
+        }
+
+        assertThat(probeRunService.getLatest(3))
+                .extracting(ProbeRun::getPlugins)
+                .containsExactly(0L, 1L, 2L);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import io.jenkins.pluginhealth.scoring.AbstractDBContainerTest;
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeWorkItem;
+import io.jenkins.pluginhealth.scoring.repository.ProbeWorkItemRepository;
+
+import hudson.util.VersionNumber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class ProbeWorkQueueServiceIT extends AbstractDBContainerTest {
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(10);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProbeWorkItemRepository repository;
+
+    private ProbeWorkQueueService queueService;
+
+    @BeforeEach
+    void setup() {
+        queueService = new ProbeWorkQueueService(repository);
+        for (String name : List.of("foo", "bar", "wiz")) {
+            entityManager.persist(new Plugin(name, new VersionNumber("1.0"), null, ZonedDateTime.now()));
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void shouldEnqueueEachPluginOnce() {
+        assertThat(queueService.enqueueRun(ZonedDateTime.now())).isEqualTo(3);
+        assertThat(queueService.lease("worker", 1, LEASE_DURATION)).hasSize(1);
+
+        assertThat(queueService.enqueueRun(ZonedDateTime.now())).isZero();
+        assertThat(queueService.countByStatus(ProbeWorkItem.Status.PENDING)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldOnlyEnqueueDuePlugins() {
+        final ZonedDateTime now = ZonedDateTime.now();
+        entityManager.persist(
+                new Plugin("past", new VersionNumber("1.0"), null, now).setNextProbeAt(now.minusHours(1)));
+        entityManager.persist(
+                new Plugin("future", new VersionNumber("1.0"), null, now).setNextProbeAt(now.plusHours(1)));
+        entityManager.flush();
+
+        assertThat(queueService.enqueueRun(now, true)).isEqualTo(4);
+        assertThat(queueService.enqueueRun(now.plusHours(2), true)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLeaseDistinctItems() {
+        queueService.enqueueRun(ZonedDateTime.now());
+
+        final List<ProbeWorkItem> first = queueService.lease("worker-1", 2, LEASE_DURATION);
+        final List<ProbeWorkItem> second = queueService.lease("worker-2", 2, LEASE_DURATION);
+
+        assertThat(first).hasSize(2).allSatisfy(item -> {
+            assertThat(item.getStatus()).isEqualTo(ProbeWorkItem.Status.LEASED);
+            assertThat(item.getLeasedBy()).isEqualTo("worker-1");
+            assertThat(item.getAttempts()).isEqualTo(1);
+        });
+        assertThat(second).singleElement().satisfies(item -> assertThat(item.getLeasedBy())
+                .isEqualTo("worker-2"));
+        assertThat(first)
+                .extracting(ProbeWorkItem::getPluginName)
+                .doesNotContainAnyElementsOf(
+                        second.stream().map(ProbeWorkItem::getPluginName).toList());
+        assertThat(queueService.lease("worker-3", 2, LEASE_DURATION)).isEmpty();
+    }
+
+    @Test
+    void shouldOnlyFinishItemsLeasedByTheWorker() {
+        queueService.enqueueRun(ZonedDateTime.now());
+        final ProbeWorkItem item = queueService.lease("worker-1", 1, LEASE_DURATION).getFirst();
+
+        assertThat(queueService.finish(item, "worker-2", ProbeWorkItem.Status.DONE)).isFalse();
+        assertThat(queueService.finish(item, "worker-1", ProbeWorkItem.Status.DONE)).isTrue();
+        assertThat(queueService.countByStatus(ProbeWorkItem.Status.DONE)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRequeueExpiredLeases() {
+        queueService.enqueueRun(ZonedDateTime.now());
+        final List<ProbeWorkItem> items = queueService.lease("worker-1", 3, Duration.ofMinutes(-1));
+        assertThat(queueService.renew(List.of(items.getFirst().getId()), "worker-1", LEASE_DURATION))
+                .isEqualTo(1);
+
+        assertThat(queueService.requeueExpired(3)).isEqualTo(2);
+        assertThat(queueService.countByStatus(ProbeWorkItem.Status.PENDING)).isEqualTo(2);
+        assertThat(queueService.countByStatus(ProbeWorkItem.Status.LEASED)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailItemsAttemptedTooManyTimes() {
+        queueService.enqueueRun(ZonedDateTime.now());
+        queueService.lease("worker-1", 3, Duration.ofMinutes(-1));
+
+        assertThat(queueService.requeueExpired(1)).isEqualTo(3);
+        assertThat(queueService.countByStatus(ProbeWorkItem.Status.FAILED)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotCountReleasedItemsAsAttempts() {
+        queueService.enqueueRun(ZonedDateTime.now());
+        final ProbeWorkItem item = queueService.lease("worker-1", 1, LEASE_DURATION).getFirst();
+
+        assertThat(queueService.release(item, "worker-1")).isTrue();
+        entityManager.clear();
+
+        assertThat(repository.findById(item.getId())).hasValueSatisfying(released -> {
+            assertThat(released.getStatus()).isEqualTo(ProbeWorkItem.Status.PENDING);
+            assertThat(released.getAttempts()).isZero();
+            assertThat(released.getLeasedBy()).isNull();
+        });
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import io.jenkins.pluginhealth.scoring.AbstractDBContainerTest;
+import io.jenkins.pluginhealth.scoring.repository.SchedulerLockRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class SchedulerLockServiceIT extends AbstractDBContainerTest {
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SchedulerLockRepository repository;
+
+    private SchedulerLockService schedulerLockService;
+
+    @BeforeEach
+    void setup() {
+        schedulerLockService = new SchedulerLockService(repository);
+    }
+
+    @Test
+    void shouldOnlyBeAcquiredOnce() {
+        assertThat(schedulerLockService.tryAcquire("job", "instance-1", TTL)).isTrue();
+        assertThat(schedulerLockService.tryAcquire("job", "instance-2", TTL)).isFalse();
+        assertThat(schedulerLockService.tryAcquire("job", "instance-1", TTL)).isFalse();
+        assertThat(schedulerLockService.tryAcquire("other-job", "instance-2", TTL)).isTrue();
+
+        entityManager.clear();
+        assertThat(schedulerLockService.find("job")).hasValueSatisfying(lock -> {
+            assertThat(lock.getLockedBy()).isEqualTo("instance-1");
+            assertThat(lock.isHeld(ZonedDateTime.now())).isTrue();
+        });
+    }
+
+    @Test
+    void shouldBeTakenOverOnceExpired() {
+        schedulerLockService.tryAcquire("job", "instance-1", Duration.ZERO);
+
+        assertThat(schedulerLockService.tryAcquire("job", "instance-2", TTL)).isTrue();
+        assertThat(schedulerLockService.extend("job", "instance-1", TTL)).isFalse();
+        assertThat(schedulerLockService.extend("job", "instance-2", TTL)).isTrue();
+
+        entityManager.clear();
+        assertThat(schedulerLockService.find("job")).hasValueSatisfying(lock -> assertThat(lock.getLockedBy())
+                .isEqualTo("instance-2"));
+    }
+
+    @Test
+    void shouldBeAcquiredAgainOnceReleased() {
+        schedulerLockService.tryAcquire("job", "instance-1", TTL);
+
+        schedulerLockService.release("job", "instance-1", Duration.ZERO);
+
+        assertThat(schedulerLockService.tryAcquire("job", "instance-2", TTL)).isTrue();
+    }
+
+    @Test
+    void shouldBeHeldForTheMinimumTimeOnceReleased() {
+        schedulerLockService.tryAcquire("job", "instance-1", TTL);
+
+        schedulerLockService.release("job", "instance-1", Duration.ofMinutes(1));
+
+        assertThat(schedulerLockService.tryAcquire("job", "instance-2", TTL)).isFalse();
+    }
+}
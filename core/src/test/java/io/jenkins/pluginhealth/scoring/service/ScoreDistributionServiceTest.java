@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import io.jenkins.pluginhealth.scoring.model.ScoreDistribution;
+import io.jenkins.pluginhealth.scoring.repository.ScoreDistributionRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreDistributionServiceTest {
+    @Mock
+    private ScoreService scoreService;
+
+    @Mock
+    private ScoreDistributionRepository repository;
+
+    private ScoreDistributionService scoreDistributionService;
+
+    @BeforeEach
+    void setup() {
+        scoreDistributionService = new ScoreDistributionService(scoreService, repository);
+    }
+
+    @Test
+    void shouldSaveDistributionAndStatisticsOfTheDay() {
+        final LocalDate day = LocalDate.parse("2024-01-01");
+        final Map<Integer, Long> distribution = new HashMap<>();
+        for (int i = 0; i <= 100; i++) {
+            distribution.put(i, 0L);
+        }
+        distribution.put(50, 2L);
+        distribution.put(80, 1L);
+        when(scoreService.getScoresStatistics())
+                .thenReturn(Optional.of(new ScoreService.ScoreStatistics(60, 50, 80, 50, 50, 80)));
+        when(scoreService.getScoresDistribution()).thenReturn(distribution);
+        when(repository.save(any(ScoreDistribution.class))).then(invocation -> invocation.getArgument(0));
+
+        final Optional<ScoreDistribution> rollup = scoreDistributionService.rollup(day);
+
+        assertThat(rollup).isPresent().get().satisfies(snapshot -> {
+            assertThat(snapshot.getDay()).isEqualTo(day);
+            assertThat(snapshot.getPlugins()).isEqualTo(3);
+            assertThat(snapshot.getCounts()).hasSize(101).element(50).isEqualTo(2L);
+            assertThat(snapshot.getDistribution()).isEqualTo(distribution);
+            assertThat(snapshot.getAverage()).isEqualTo(60);
+            assertThat(snapshot.getMinimum()).isEqualTo(50);
+            assertThat(snapshot.getFirstQuartile()).isEqualTo(50);
+            assertThat(snapshot.getMedian()).isEqualTo(50);
+            assertThat(snapshot.getThirdQuartile()).isEqualTo(80);
+            assertThat(snapshot.getMaximum()).isEqualTo(80);
+        });
+    }
+
+    @Test
+    void shouldNotSaveDistributionWithoutScores() {
+        when(scoreService.getScoresStatistics()).thenReturn(Optional.empty());
+
+        assertThat(scoreDistributionService.rollup(LocalDate.parse("2024-01-01"))).isEmpty();
+        verify(repository, never()).save(any());
+    }
+}
@@ -26,18 +26,24 @@ package io.jenkins.pluginhealth.scoring.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import io.jenkins.pluginhealth.scoring.AbstractDBContainerTest;
+import io.jenkins.pluginhealth.scoring.model.HistoryResolution;
 import io.jenkins.pluginhealth.scoring.model.Plugin;
 import io.jenkins.pluginhealth.scoring.model.Score;
 import io.jenkins.pluginhealth.scoring.model.ScoreResult;
+import io.jenkins.pluginhealth.scoring.model.ScoreSummary;
+import io.jenkins.pluginhealth.scoring.repository.ScoreHistoryRepository;
 import io.jenkins.pluginhealth.scoring.repository.ScoreRepository;
 
 import hudson.util.VersionNumber;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -54,11 +60,14 @@ class ScoreServiceIT extends AbstractDBContainerTest {
     @Autowired
     private ScoreRepository scoreRepository;
 
+    @Autowired
+    private ScoreHistoryRepository scoreHistoryRepository;
+
     private ScoreService scoreService;
 
     @BeforeEach
     void setup() {
-        scoreService = new ScoreService(scoreRepository);
+        scoreService = new ScoreService(scoreRepository, scoreHistoryRepository);
     }
 
     @Test
@@ -91,12 +100,24 @@ class ScoreServiceIT extends AbstractDBContainerTest {
 
         Set.of(p1s, p2s).forEach(scoreService::save);
         assertThat(scoreRepository.count()).isEqualTo(2);
+        entityManager.flush();
+        entityManager.clear();
 
-        final Map<String, Score> summary = scoreService.getLatestScoresSummaryMap();
+        final Map<String, ScoreSummary> summary = scoreService.getLatestScoresSummaryMap();
 
         assertThat(summary)
-                .extractingFromEntries(Map.Entry::getKey, Map.Entry::getValue)
-                .containsExactlyInAnyOrder(tuple(p1.getName(), p1s), tuple(p2.getName(), p2s));
+                .extractingFromEntries(
+                        Map.Entry::getKey, entry -> entry.getValue().value(), entry -> entry.getValue().details())
+                .containsExactlyInAnyOrder(
+                        tuple(p1.getName(), p1s.getValue(), p1s.getDetails()),
+                        tuple(p2.getName(), p2s.getValue(), p2s.getDetails()));
+        assertThat(entityManager
+                        .getEntityManager()
+                        .unwrap(Session.class)
+                        .getStatistics()
+                        .getEntityCount())
+                .as("neither scores nor plugins should be loaded")
+                .isZero();
     }
 
     @Test
@@ -127,11 +148,11 @@ class ScoreServiceIT extends AbstractDBContainerTest {
         Set.of(p1s, p2s, p1sOld, p2sOld, p1sOld2).forEach(scoreService::save);
         assertThat(scoreRepository.count()).isEqualTo(5);
 
-        final Map<String, Score> summary = scoreService.getLatestScoresSummaryMap();
+        final Map<String, ScoreSummary> summary = scoreService.getLatestScoresSummaryMap();
 
-        assertThat(summary)
-                .extractingFromEntries(Map.Entry::getKey, Map.Entry::getValue)
-                .containsExactlyInAnyOrder(tuple(p1.getName(), p1s), tuple(p2.getName(), p2s));
+        assertThat(summary).containsOnlyKeys(p1.getName(), p2.getName());
+        assertThat(summary.get(p1.getName()).computedAt()).isEqualToIgnoringNanos(p1s.getComputedAt());
+        assertThat(summary.get(p2.getName()).computedAt()).isEqualToIgnoringNanos(p2s.getComputedAt());
     }
 
     @Test
@@ -223,7 +244,180 @@ class ScoreServiceIT extends AbstractDBContainerTest {
         entityManager.persist(s4);
 
         assertThat(scoreService.getAllLatestScoresWithValue(100)).isEmpty();
-        assertThat(scoreService.getAllLatestScoresWithValue(50)).containsExactly(s2);
-        assertThat(scoreService.getAllLatestScoresWithValue(75)).containsExactlyInAnyOrder(s3, s4);
+        assertThat(scoreService.getAllLatestScoresWithValue(50))
+                .extracting(ScoreSummary::pluginName)
+                .containsExactly("foo");
+        assertThat(scoreService.getAllLatestScoresWithValue(75))
+                .extracting(ScoreSummary::pluginName)
+                .containsExactly("bar", "zoo");
+    }
+
+    @Test
+    void shouldListLatestScoresWhichWereVerified() {
+        final Plugin p1 =
+                entityManager.persist(new Plugin("foo", new VersionNumber("1.0"), "scm", ZonedDateTime.now()));
+        final Score score = new Score(p1, ZonedDateTime.now().minusDays(2));
+        score.addDetail(new ScoreResult("key-1", 50, 1, Set.of(), 1));
+        entityManager.persist(score.setVerifiedAt(ZonedDateTime.now()));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(scoreService.getLatestScoresSummaryMap())
+                .containsOnlyKeys("foo")
+                .extractingByKey("foo")
+                .extracting(ScoreSummary::value)
+                .isEqualTo(50L);
+        assertThat(scoreService.getAllLatestScoresWithValue(50))
+                .extracting(ScoreSummary::pluginName)
+                .containsExactly("foo");
+    }
+
+    @Test
+    void shouldBeAbleToRetrieveLatestScoresOfMultiplePluginsAtOnce() {
+        final Plugin p1 = entityManager.persist(new Plugin(
+                "plugin-1", new VersionNumber("1.0"), null, ZonedDateTime.now().minusMinutes(5)));
+        final Plugin p2 = entityManager.persist(new Plugin(
+                "plugin-2", new VersionNumber("2.0"), "scm", ZonedDateTime.now().minusMinutes(10)));
+        final Plugin p3 = entityManager.persist(new Plugin(
+                "plugin-3", new VersionNumber("3.0"), "scm", ZonedDateTime.now().minusMinutes(10)));
+
+        final Score p1s = new Score(p1, ZonedDateTime.now());
+        p1s.addDetail(new ScoreResult("foo", 100, 1, Set.of(), 1));
+        final Score p1sOld = new Score(p1, ZonedDateTime.now().minusMinutes(10));
+        p1sOld.addDetail(new ScoreResult("foo", 50, 1, Set.of(), 1));
+        final Score p2s = new Score(p2, ZonedDateTime.now());
+        p2s.addDetail(new ScoreResult("foo", 0, 1, Set.of(), 1));
+        final Score p3s = new Score(p3, ZonedDateTime.now());
+        p3s.addDetail(new ScoreResult("foo", 0, 1, Set.of(), 1));
+
+        scoreService.saveAll(List.of(p1s, p1sOld, p2s, p3s));
+        assertThat(scoreRepository.count()).isEqualTo(4);
+
+        final Map<Plugin, Score> latestScores = scoreService.latestScoresFor(List.of(p1, p2));
+        assertThat(latestScores)
+                .extractingFromEntries(Map.Entry::getKey, Map.Entry::getValue)
+                .containsExactlyInAnyOrder(tuple(p1, p1s), tuple(p2, p2s));
+    }
+
+    @Test
+    void shouldMarkPluginsAsScoredWhenSavingTheirScores() {
+        final Plugin p1 = entityManager.persist(
+                new Plugin("plugin-1", new VersionNumber("1.0"), null, ZonedDateTime.now().minusMinutes(5)));
+        final Plugin p2 = entityManager.persist(
+                new Plugin("plugin-2", new VersionNumber("2.0"), "scm", ZonedDateTime.now().minusMinutes(10)));
+        final Plugin p3 = entityManager.persist(
+                new Plugin("plugin-3", new VersionNumber("3.0"), "scm", ZonedDateTime.now().minusMinutes(10)));
+
+        final Score p1s = new Score(p1, ZonedDateTime.now());
+        p1s.addDetail(new ScoreResult("foo", 100, 1, Set.of(), 1));
+
+        scoreService.saveAll(List.of(p1s), List.of(), List.of(p1, p2));
+        entityManager.clear();
+
+        assertThat(scoreRepository.count()).isEqualTo(1);
+        assertThat(entityManager
+                        .getEntityManager()
+                        .createQuery("SELECT p FROM Plugin p WHERE p.dirty = true", Plugin.class)
+                        .getResultList())
+                .containsExactly(p3);
+    }
+
+    @Test
+    void shouldKeepPluginsChangedWhileBeingScoredDirty() {
+        final Long id = entityManager.persistAndGetId(
+                new Plugin("plugin-1", new VersionNumber("1.0"), null, ZonedDateTime.now().minusDays(1)), Long.class);
+        entityManager.flush();
+        entityManager.clear();
+        final Plugin read = entityManager.find(Plugin.class, id);
+        entityManager.clear();
+
+        // The update-center synchronization finds a new release while the plugin is being scored
+        entityManager.find(Plugin.class, id).setReleaseTimestamp(ZonedDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        scoreService.saveAll(List.of(), List.of(), List.of(read));
+        entityManager.clear();
+
+        assertThat(entityManager.find(Plugin.class, id).isDirty()).isTrue();
+    }
+
+    @Test
+    void shouldMoveVerificationTimestampOfUnchangedScores() {
+        final Plugin p1 = entityManager.persist(
+                new Plugin("plugin-1", new VersionNumber("1.0"), null, ZonedDateTime.now().minusMinutes(5)));
+        final ZonedDateTime computedAt = ZonedDateTime.now().minusDays(1);
+        final Score score = new Score(p1, computedAt);
+        score.addDetail(new ScoreResult("foo", 100, 1, Set.of(), 1));
+        scoreService.saveAll(List.of(score));
+
+        final ZonedDateTime verifiedAt = ZonedDateTime.now();
+        scoreService.saveAll(List.of(), List.of(score.setVerifiedAt(verifiedAt)), List.of(p1));
+        entityManager.clear();
+
+        assertThat(scoreRepository.count()).isEqualTo(1);
+        assertThat(scoreService.latestScoreFor(p1)).isPresent().get().satisfies(latest -> {
+            assertThat(latest.getComputedAt()).isEqualToIgnoringNanos(computedAt);
+            assertThat(latest.getVerifiedAt()).isEqualToIgnoringNanos(verifiedAt);
+        });
+    }
+
+    @Test
+    void shouldAggregateScoreHistoryPerInterval() {
+        final Plugin p1 = entityManager.persist(
+                new Plugin("plugin-1", new VersionNumber("1.0"), null, ZonedDateTime.now().minusMinutes(5)));
+        final Plugin p2 = entityManager.persist(
+                new Plugin("plugin-2", new VersionNumber("1.0"), null, ZonedDateTime.now().minusMinutes(5)));
+
+        scoreAt(p1, "2024-01-01T10:00:00Z", 50);
+        scoreAt(p2, "2024-01-01T10:00:00Z", 10);
+        scoreAt(p1, "2024-01-02T10:00:00Z", 70);
+        scoreAt(p1, "2024-01-08T10:00:00Z", 90);
+        scoreAt(p1, "2024-01-08T12:00:00Z", 80);
+        scoreAt(p1, "2024-02-01T10:00:00Z", 100);
+
+        final LocalDate from = LocalDate.parse("2024-01-01");
+        final LocalDate to = LocalDate.parse("2024-01-31");
+
+        assertThat(scoreService.getHistory("plugin-1", from, to, HistoryResolution.DAILY))
+                .hasSize(31)
+                .extracting(ScoreService.ScoreHistoryInterval::start, ScoreService.ScoreHistoryInterval::value)
+                .startsWith(
+                        tuple(LocalDate.parse("2024-01-01"), new ScoreService.ScoreHistoryValues(50, 50, 50)),
+                        tuple(LocalDate.parse("2024-01-02"), new ScoreService.ScoreHistoryValues(70, 70, 70)),
+                        tuple(LocalDate.parse("2024-01-03"), new ScoreService.ScoreHistoryValues(70, 70, 70)))
+                .contains(
+                        tuple(LocalDate.parse("2024-01-07"), new ScoreService.ScoreHistoryValues(70, 70, 70)),
+                        tuple(LocalDate.parse("2024-01-08"), new ScoreService.ScoreHistoryValues(80, 80, 90)))
+                .endsWith(tuple(LocalDate.parse("2024-01-31"), new ScoreService.ScoreHistoryValues(80, 80, 80)));
+
+        assertThat(scoreService.getHistory("plugin-1", from, to, HistoryResolution.WEEKLY))
+                .hasSize(5)
+                .startsWith(
+                        new ScoreService.ScoreHistoryInterval(
+                                LocalDate.parse("2024-01-01"),
+                                new ScoreService.ScoreHistoryValues(50, 470 / 7.0, 70),
+                                Map.of("foo", new ScoreService.ScoreHistoryValues(50, 470 / 7.0, 70))),
+                        new ScoreService.ScoreHistoryInterval(
+                                LocalDate.parse("2024-01-08"),
+                                new ScoreService.ScoreHistoryValues(80, 80, 90),
+                                Map.of("foo", new ScoreService.ScoreHistoryValues(80, 80, 80))));
+
+        assertThat(scoreService.getHistory("plugin-1", from, to.plusMonths(1), HistoryResolution.MONTHLY))
+                .extracting(ScoreService.ScoreHistoryInterval::start, ScoreService.ScoreHistoryInterval::value)
+                .containsExactly(
+                        tuple(LocalDate.parse("2024-01-01"), new ScoreService.ScoreHistoryValues(50, 2390 / 31.0, 90)),
+                        tuple(LocalDate.parse("2024-02-01"), new ScoreService.ScoreHistoryValues(100, 100, 100)));
+
+        assertThat(scoreService.getHistory("plugin-2", from, to, HistoryResolution.MONTHLY))
+                .extracting(ScoreService.ScoreHistoryInterval::start, ScoreService.ScoreHistoryInterval::value)
+                .containsExactly(
+                        tuple(LocalDate.parse("2024-01-01"), new ScoreService.ScoreHistoryValues(10, 10, 10)));
+    }
+
+    private void scoreAt(Plugin plugin, String date, int value) {
+        final Score score = new Score(plugin, ZonedDateTime.parse(date));
+        score.addDetail(new ScoreResult("foo", value, 1, Set.of(), 1));
+        scoreService.saveAll(List.of(score), List.of(), List.of(plugin));
     }
 }
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -24,12 +24,18 @@
 package io.jenkins.pluginhealth.scoring.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import io.jenkins.pluginhealth.scoring.repository.ScoreHistoryRepository;
 import io.jenkins.pluginhealth.scoring.repository.ScoreRepository;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -43,11 +49,14 @@ public class ScoreServiceTest {
     @Mock
     private ScoreRepository scoreRepository;
 
+    @Mock
+    private ScoreHistoryRepository scoreHistoryRepository;
+
     private ScoreService scoreService;
 
     @BeforeEach
     public void setup() {
-        scoreService = new ScoreService(scoreRepository);
+        scoreService = new ScoreService(scoreRepository, scoreHistoryRepository);
     }
 
     @Test
@@ -84,4 +93,17 @@ public class ScoreServiceTest {
         final Optional<ScoreService.ScoreStatistics> scoresStatistics = scoreService.getScoresStatistics();
         assertThat(scoresStatistics).isEmpty();
     }
+
+    @Test
+    void shouldDeleteOldScoresInBatchesUntilABatchIsNotFull() {
+        when(scoreRepository.dropExpiredScoresPartitions(eq(ScoreService.RETAINED_SCORES_PER_PLUGIN), any()))
+                .thenReturn(List.of("scores_legacy"));
+        when(scoreRepository.deleteOldScoresFromPlugins(
+                        ScoreService.RETAINED_SCORES_PER_PLUGIN, ScoreService.DELETION_BATCH_SIZE))
+                .thenReturn(ScoreService.DELETION_BATCH_SIZE, ScoreService.DELETION_BATCH_SIZE, 42);
+
+        assertThat(scoreService.deleteOldScores()).isEqualTo(2 * ScoreService.DELETION_BATCH_SIZE + 42);
+        verify(scoreRepository, times(3))
+                .deleteOldScoresFromPlugins(ScoreService.RETAINED_SCORES_PER_PLUGIN, ScoreService.DELETION_BATCH_SIZE);
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.jenkins.pluginhealth.scoring.AbstractDBContainerTest;
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+import io.jenkins.pluginhealth.scoring.model.Score;
+import io.jenkins.pluginhealth.scoring.model.ScoreResult;
+import io.jenkins.pluginhealth.scoring.model.ScoreSummary;
+import io.jenkins.pluginhealth.scoring.repository.ScoreHistoryRepository;
+import io.jenkins.pluginhealth.scoring.repository.ScoreRepository;
+
+import com.sun.management.ThreadMXBean;
+import hudson.util.VersionNumber;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+/**
+ * Compares the latency and the heap allocations of listing the latest score of every plugin, when loading the
+ * {@link Score} and {@link Plugin} entities, and when using the {@link ScoreSummary} projection.
+ * <p>
+ * Run with {@code mvn -pl core verify -Dit.test=ScoreSummaryBenchmarkIT -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class ScoreSummaryBenchmarkIT extends AbstractDBContainerTest {
+    private static final int PLUGINS = 2000;
+    private static final int PROBE_RESULTS = 30;
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private ScoreHistoryRepository scoreHistoryRepository;
+
+    @Test
+    void latestScoresSummary() {
+        final ZonedDateTime now = ZonedDateTime.now();
+        for (int i = 0; i < PLUGINS; i++) {
+            final Plugin plugin = new Plugin(
+                    "plugin-" + i, new VersionNumber("1." + i), "https://github.com/jenkinsci/plugin-" + i, now);
+            for (int probe = 0; probe < PROBE_RESULTS; probe++) {
+                plugin.addDetails(ProbeResult.success("probe-" + probe, "message ".repeat(25) + probe, 1));
+            }
+            entityManager.persist(plugin);
+            final Score score = new Score(plugin, now);
+            score.addDetail(new ScoreResult("scoring", i % 101, 1, Set.of(), 1));
+            entityManager.persist(score);
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        final ScoreService scoreService = new ScoreService(scoreRepository, scoreHistoryRepository);
+        final Map<String, Long> entities = measure("entities", () -> entityManager
+                .getEntityManager()
+                .createQuery(
+                        """
+                        SELECT s
+                        FROM Score s
+                        WHERE s.computedAt = (SELECT max(s2.computedAt) FROM Score s2 WHERE s2.plugin = s.plugin)
+                        """,
+                        Score.class)
+                .getResultStream()
+                .collect(Collectors.toMap(score -> score.getPlugin().getName(), Score::getValue)));
+        final Map<String, Long> projections = measure("projections", () -> scoreService
+                .getLatestScoresSummaryMap()
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().value())));
+
+        assertThat(projections).hasSize(PLUGINS).isEqualTo(entities);
+    }
+
+    private <T> T measure(String name, Supplier<T> query) {
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        T result = query.get(); // warm-up
+        entityManager.clear();
+        final long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            result = query.get();
+            entityManager.clear();
+        }
+        final long duration = (System.nanoTime() - start) / ITERATIONS;
+        final long allocated = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / ITERATIONS;
+        System.out.printf(
+                "latest-scores-summary mode=%s plugins=%d duration=%.1fms allocated=%.1fMB%n",
+                name, PLUGINS, duration / 1_000_000.0, allocated / (1024.0 * 1024.0));
+        return result;
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,12 +25,21 @@
 package io.jenkins.pluginhealth.scoring;
 
 import io.jenkins.pluginhealth.scoring.config.ApplicationConfiguration;
+import io.jenkins.pluginhealth.scoring.config.EngineConfiguration;
+import io.jenkins.pluginhealth.scoring.config.HttpArchiveConfiguration;
+import io.jenkins.pluginhealth.scoring.config.SchedulerLockConfiguration;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
-@EnableConfigurationProperties(value = ApplicationConfiguration.class)
+@EnableConfigurationProperties(
+        value = {
+            ApplicationConfiguration.class,
+            EngineConfiguration.class,
+            HttpArchiveConfiguration.class,
+            SchedulerLockConfiguration.class
+        })
 @SpringBootApplication(scanBasePackages = "io.jenkins.pluginhealth.scoring")
 public class PluginHealthScoring {
     public static void main(String[] args) {
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.config;
+
+import java.time.Duration;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Tuning of the probe and scoring engines.
+ *
+ * @param probe   the configuration of the {@link io.jenkins.pluginhealth.scoring.probes.ProbeEngine}
+ * @param scoring the configuration of the {@link io.jenkins.pluginhealth.scoring.scores.ScoringEngine}
+ */
+@ConfigurationProperties(prefix = "app.engine")
+@Validated
+public record EngineConfiguration(@Valid Probe probe, @Valid Scoring scoring) {
+    /**
+     * @param saveBatchSize     maximum number of plugins whose probe results are saved at once
+     * @param saveInterval      maximum time the probe results of a plugin wait for a batch to be full before being saved
+     * @param saveQueueCapacity maximum number of plugins waiting for their probe results to be saved. When it is
+     *                          reached, the probes are not executed on other plugins until some results are saved
+     * @param queue             the configuration of the runs distributed over several instances of the application
+     * @param cadence           the configuration of the time after which the probes are executed again on a plugin
+     */
+    public record Probe(
+            @Positive int saveBatchSize,
+            @NotNull Duration saveInterval,
+            @Positive int saveQueueCapacity,
+            @Valid Queue queue,
+            @Valid Cadence cadence) {}
+
+    /**
+     * @param enabled           when {@code true}, a run enqueues one work item per plugin in the database, and each
+     *                          instance runs the probes on the plugins it leases from this queue
+     * @param batchSize         maximum number of work items leased at once by an instance
+     * @param leaseDuration     time after which a leased work item can be leased by another instance, unless its lease
+     *                          is renewed
+     * @param heartbeatInterval time between two renewals of the leases held by an instance
+     * @param pollInterval      time between two lookups for pending work items, once the queue was found empty
+     * @param maxAttempts       number of expired leases after which a work item is marked as failed
+     */
+    public record Queue(
+            boolean enabled,
+            @Positive int batchSize,
+            @NotNull Duration leaseDuration,
+            @NotNull Duration heartbeatInterval,
+            @NotNull Duration pollInterval,
+            @Positive int maxAttempts) {}
+
+    /**
+     * @param enabled              when {@code true}, a run only executes the probes on the plugins which are due, and
+     *                             computes when each probed plugin is due again
+     * @param minInterval          shortest time between two executions of the probes on a plugin
+     * @param maxInterval          longest time between two executions of the probes on a plugin
+     * @param activityRatio        fraction of the time since the latest activity on a plugin, its last commit, release
+     *                             or change of its probe results, after which the plugin is due again
+     * @param popularInstallations number of installations from which a plugin is considered popular
+     * @param popularMaxInterval   longest time between two executions of the probes on a popular plugin
+     */
+    public record Cadence(
+            boolean enabled,
+            @NotNull Duration minInterval,
+            @NotNull Duration maxInterval,
+            @Positive double activityRatio,
+            @Positive int popularInstallations,
+            @NotNull Duration popularMaxInterval) {}
+
+    /**
+     * @param batchSize   number of plugins for which the latest scores are fetched, and the new scores saved, at once
+     * @param parallelism number of threads used to compute the scores. {@code 0} uses the number of available processors
+     * @param streaming   when {@code true}, each plugin is scored as soon as its probes are executed, instead of scoring
+     *                    all the plugins once the probe engine finished
+     */
+    public record Scoring(@Positive int batchSize, @PositiveOrZero int parallelism, boolean streaming) {
+    }
+}
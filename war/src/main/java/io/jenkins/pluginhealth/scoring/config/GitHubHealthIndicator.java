@@ -23,33 +23,82 @@
  */
 package io.jenkins.pluginhealth.scoring.config;
 
-import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
+
+import io.jenkins.pluginhealth.scoring.service.GitHubUsageService;
 
 import org.kohsuke.github.GitHub;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.health.contributor.AbstractHealthIndicator;
 import org.springframework.boot.health.contributor.Health;
 import org.springframework.stereotype.Component;
 
+/**
+ * Reports the state of the connection to the GitHub API, as known from the latest requests sent to it.
+ * This does not send any request, so it can be checked as often as needed without using the rate limit.
+ * <p>
+ * As a consequence, it does not know anything about the GitHub API until the application sent a first request to it,
+ * and only reports what the requests of this instance told: an instance which does not run the probes, such as the
+ * {@code web} instances, is always up, without details.
+ * <p>
+ * The failure of the last request is reported as a detail until a later request is answered, but only makes the
+ * indicator down for {@link #ERROR_TIMEOUT}, as the next request can be sent hours later. A response with an error
+ * status is such a failure.
+ * <p>
+ * The indicator is out of service while the latest rate limit is exhausted, until its reset time.
+ */
 @Component
 public class GitHubHealthIndicator extends AbstractHealthIndicator {
+    static final Duration ERROR_TIMEOUT = Duration.ofMinutes(15);
+    private static final String RESOURCE = "core";
+
     private final GitHub github;
+    private final GitHubUsageService gitHubUsageService;
+    private final Clock clock;
 
-    public GitHubHealthIndicator(GitHub github) {
+    @Autowired
+    public GitHubHealthIndicator(GitHub github, GitHubUsageService gitHubUsageService) {
+        this(github, gitHubUsageService, Clock.systemUTC());
+    }
+
+    GitHubHealthIndicator(GitHub github, GitHubUsageService gitHubUsageService, Clock clock) {
         this.github = github;
+        this.gitHubUsageService = gitHubUsageService;
+        this.clock = clock;
     }
 
     @Override
     protected void doHealthCheck(Health.Builder builder) {
-        try {
-            if (Objects.isNull(github)) {
-                builder.down().withDetail("error", "GitHub object is null");
-            } else {
-                github.checkApiUrlValidity();
-                builder.up();
-            }
-        } catch (IOException ex) {
-            builder.down(ex);
+        if (Objects.isNull(github)) {
+            builder.down().withDetail("error", "GitHub object is null");
+            return;
+        }
+        final Optional<GitHubUsageService.Failure> failure = gitHubUsageService.getLastFailure();
+        failure.ifPresent(lastFailure -> builder
+            .withDetail("error", lastFailure.error())
+            .withDetail("errorAt", lastFailure.at())
+        );
+        final Optional<GitHubUsageService.RateLimit> rateLimit = gitHubUsageService.getRateLimit(RESOURCE);
+        rateLimit.ifPresent(latestRateLimit -> builder
+            .withDetail("limit", latestRateLimit.limit())
+            .withDetail("remaining", latestRateLimit.remaining())
+            .withDetail("reset", latestRateLimit.reset())
+        );
+        final Instant now = clock.instant();
+        final Instant recent = now.minus(ERROR_TIMEOUT);
+        if (failure.filter(lastFailure -> lastFailure.at().isAfter(recent)).isPresent()) {
+            builder.down();
+        } else if (rateLimit
+                .filter(latestRateLimit -> latestRateLimit.remaining() == 0)
+                .filter(latestRateLimit -> latestRateLimit.reset().isAfter(now))
+                .isPresent()) {
+            builder.outOfService();
+        } else {
+            builder.up();
         }
     }
 }
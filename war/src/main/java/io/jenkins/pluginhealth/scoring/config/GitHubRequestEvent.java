@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.config;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a request sent to the GitHub API.
+ * It is disabled by default, and enabled by the {@code plugin-health-scoring.jfc} settings.
+ */
+@Name("io.jenkins.pluginhealth.scoring.GitHubRequest")
+@Label("GitHub Request")
+@Description("Request sent to the GitHub API")
+@Category({"Plugin Health Scoring", "GitHub"})
+@Enabled(false)
+@StackTrace(false)
+final class GitHubRequestEvent extends Event {
+    @Label("Probe")
+    @Description("Key of the probe which sent the request, or none")
+    String probe;
+
+    @Label("Plugin")
+    @Description("Name of the plugin the probe was executed on, or none")
+    String plugin;
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Status")
+    @Description("HTTP status of the response, or 0 when the request failed")
+    int status;
+
+    @Label("Cached")
+    @Description("Whether the response was served from the HTTP cache, including after a conditional request")
+    boolean cached;
+
+    @Label("Rate Limit Remaining")
+    @Description("Number of requests remaining in the current rate limit window, or -1 when unknown")
+    long rateLimitRemaining;
+}
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.config;
+
+import java.io.IOException;
+
+import io.jenkins.pluginhealth.scoring.service.GitHubUsageService;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Emits a {@link GitHubRequestEvent} for each request sent to the GitHub API, when the event is enabled.
+ */
+final class GitHubRequestEventInterceptor implements Interceptor {
+    private static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+
+    private final GitHubUsageService gitHubUsageService;
+
+    GitHubRequestEventInterceptor(GitHubUsageService gitHubUsageService) {
+        this.gitHubUsageService = gitHubUsageService;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        final GitHubRequestEvent event = new GitHubRequestEvent();
+        event.begin();
+        Response response = null;
+        try {
+            response = chain.proceed(chain.request());
+            return response;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                final GitHubUsageService.Attribution attribution = gitHubUsageService.currentAttribution();
+                event.probe = attribution.probe();
+                event.plugin = attribution.plugin();
+                event.method = chain.request().method();
+                event.endpoint = chain.request().url().encodedPath();
+                if (response != null) {
+                    event.status = response.code();
+                    event.cached = response.networkResponse() == null
+                            || response.networkResponse().code() == 304;
+                    event.rateLimitRemaining = rateLimitRemaining(response);
+                }
+                event.commit();
+            }
+        }
+    }
+
+    private static long rateLimitRemaining(Response response) {
+        final String remaining = response.header(RATE_LIMIT_REMAINING);
+        if (remaining == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(remaining);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.config;
+
+import java.io.IOException;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Traces each request sent to the GitHub API in a {@code github.request} span, child of the current span of the
+ * thread sending it, such as the span of the probe using the GitHub API.
+ */
+final class GitHubRequestTracingInterceptor implements Interceptor {
+    private final Tracer tracer;
+
+    GitHubRequestTracingInterceptor(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        final Span span = tracer.spanBuilder()
+                .name("github.request")
+                .kind(Span.Kind.CLIENT)
+                .remoteServiceName("github")
+                .tag("http.method", request.method())
+                .tag("http.path", request.url().encodedPath())
+                .start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            final Response response = chain.proceed(request);
+            span.tag("http.status_code", response.code())
+                    .tag("cached", response.networkResponse() == null || response.networkResponse().code() == 304);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
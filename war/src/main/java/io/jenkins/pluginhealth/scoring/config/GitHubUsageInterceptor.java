@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.config;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.time.Instant;
+
+import io.jenkins.pluginhealth.scoring.service.GitHubUsageService;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records each request sent to the GitHub API in the {@link GitHubUsageService}, with the rate limit reported by its
+ * response.
+ */
+final class GitHubUsageInterceptor implements Interceptor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GitHubUsageInterceptor.class);
+    private static final String DEFAULT_RESOURCE = "core";
+
+    private final GitHubUsageService gitHubUsageService;
+
+    GitHubUsageInterceptor(GitHubUsageService gitHubUsageService) {
+        this.gitHubUsageService = gitHubUsageService;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        final Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException | RuntimeException e) {
+            gitHubUsageService.recordFailure(e);
+            throw e;
+        }
+        final Response networkResponse = response.networkResponse();
+        final GitHubUsageService.Outcome outcome;
+        if (networkResponse == null) {
+            outcome = GitHubUsageService.Outcome.CACHED;
+            gitHubUsageService.record(outcome, null);
+        } else if (networkResponse.code() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            outcome = GitHubUsageService.Outcome.NOT_MODIFIED;
+            gitHubUsageService.record(outcome, rateLimit(networkResponse));
+        } else if (networkResponse.isSuccessful() || networkResponse.code() == HttpURLConnection.HTTP_NOT_FOUND) {
+            // The probes look for files which plugins may not have, so a missing one is an answer, not a failure
+            outcome = GitHubUsageService.Outcome.NETWORK;
+            gitHubUsageService.record(outcome, rateLimit(networkResponse));
+        } else {
+            outcome = GitHubUsageService.Outcome.FAILED;
+            gitHubUsageService.recordFailure(networkResponse.code(), rateLimit(networkResponse));
+        }
+        if (LOGGER.isDebugEnabled()) {
+            final GitHubUsageService.Attribution attribution = gitHubUsageService.currentAttribution();
+            LOGGER.debug(
+                    "{} {} for {} on {}: {}",
+                    chain.request().method(),
+                    chain.request().url().encodedPath(),
+                    attribution.probe(),
+                    attribution.plugin(),
+                    outcome);
+        }
+        return response;
+    }
+
+    private static GitHubUsageService.RateLimit rateLimit(Response response) {
+        final String limit = response.header("X-RateLimit-Limit");
+        final String remaining = response.header("X-RateLimit-Remaining");
+        final String reset = response.header("X-RateLimit-Reset");
+        if (limit == null || remaining == null || reset == null) {
+            return null;
+        }
+        try {
+            return new GitHubUsageService.RateLimit(
+                    response.header("X-RateLimit-Resource", DEFAULT_RESOURCE),
+                    Long.parseLong(limit),
+                    Long.parseLong(remaining),
+                    Instant.ofEpochSecond(Long.parseLong(reset)));
+        } catch (NumberFormatException e) {
+            LOGGER.debug("Could not read the rate limit of the GitHub API", e);
+            return null;
+        }
+    }
+}
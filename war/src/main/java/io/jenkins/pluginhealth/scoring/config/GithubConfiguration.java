@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -28,7 +28,14 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.GeneralSecurityException;
+import java.time.Clock;
 
+import io.jenkins.pluginhealth.scoring.service.GitHubUsageService;
+import io.jenkins.pluginhealth.scoring.service.HttpArchive;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpMetricsEventListener;
+import io.micrometer.tracing.Tracer;
 import okhttp3.Cache;
 import okhttp3.OkHttpClient;
 import org.kohsuke.github.GHFileNotFoundException;
@@ -47,9 +54,26 @@ public class GithubConfiguration {
     private static final Logger LOGGER = LoggerFactory.getLogger(GithubConfiguration.class);
 
     private final ApplicationConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+    private final GitHubUsageService gitHubUsageService;
+    private final HttpArchive httpArchive;
+    private final HttpArchiveConfiguration httpArchiveConfiguration;
 
-    public GithubConfiguration(ApplicationConfiguration configuration) {
+    public GithubConfiguration(
+        ApplicationConfiguration configuration,
+        MeterRegistry meterRegistry,
+        Tracer tracer,
+        GitHubUsageService gitHubUsageService,
+        HttpArchive httpArchive,
+        HttpArchiveConfiguration httpArchiveConfiguration
+    ) {
         this.configuration = configuration;
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+        this.gitHubUsageService = gitHubUsageService;
+        this.httpArchive = httpArchive;
+        this.httpArchiveConfiguration = httpArchiveConfiguration;
     }
 
     @Bean
@@ -59,6 +83,16 @@ public class GithubConfiguration {
         try {
             final OkHttpClient httpClient = new OkHttpClient.Builder().cache(
                 new Cache(Files.createTempDirectory("http_cache").toFile(), 50 * 1024 * 1024)
+            ).eventListener(
+                OkHttpMetricsEventListener.builder(meterRegistry, "github.requests").build()
+            ).addInterceptor(
+                new GitHubRequestTracingInterceptor(tracer)
+            ).addInterceptor(
+                new GitHubUsageInterceptor(gitHubUsageService)
+            ).addInterceptor(
+                new GitHubRequestEventInterceptor(gitHubUsageService)
+            ).addInterceptor(
+                new HttpArchiveInterceptor(httpArchive, httpArchiveConfiguration, Clock.systemUTC())
             ).build();
             gitHubBuilder.withConnector(new OkHttpGitHubConnector(httpClient));
         } catch (IOException ex) {
@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Recording and replay of the responses of the GitHub API, the update-center and the plugin documentation links.
+ *
+ * @param mode            whether the responses are recorded, replayed, or neither
+ * @param directory       the folder of the archive in which the responses are recorded, and from which they are
+ *                        replayed
+ * @param latency         time waited before a replayed response is returned, to simulate the network
+ * @param rateLimit       number of requests to the GitHub API which can be replayed in each rate-limit window. Once
+ *                        it is reached, the requests are answered as GitHub does when its rate limit is exceeded.
+ *                        {@code 0} disables the simulation
+ * @param rateLimitWindow duration after which the simulated rate limit is reset
+ */
+@ConfigurationProperties(prefix = "app.http-archive")
+@Validated
+public record HttpArchiveConfiguration(
+        @NotNull Mode mode,
+        @NotNull Path directory,
+        @NotNull Duration latency,
+        @PositiveOrZero int rateLimit,
+        @NotNull Duration rateLimitWindow) {
+    public enum Mode {
+        OFF,
+        RECORD,
+        REPLAY
+    }
+}
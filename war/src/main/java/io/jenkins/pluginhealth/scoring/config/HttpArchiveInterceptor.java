@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.config;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import io.jenkins.pluginhealth.scoring.service.HttpArchive;
+
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Records the responses of the GitHub API in the {@link HttpArchive}, or replays them without sending the requests.
+ * <p>
+ * When replaying, the rate limit of the GitHub API can be simulated: the replayed responses report the requests left
+ * in the current window, and once there is none left, the requests are answered with a {@code 403}, as GitHub does.
+ */
+final class HttpArchiveInterceptor implements Interceptor {
+    private static final String REPLAYED = "Replayed";
+
+    private final HttpArchive httpArchive;
+    private final HttpArchiveConfiguration configuration;
+    private final Clock clock;
+    private Instant windowReset;
+    private int windowRequests;
+
+    HttpArchiveInterceptor(HttpArchive httpArchive, HttpArchiveConfiguration configuration, Clock clock) {
+        this.httpArchive = httpArchive;
+        this.configuration = configuration;
+        this.clock = clock;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        return switch (configuration.mode()) {
+            case OFF -> chain.proceed(chain.request());
+            case RECORD -> record(chain);
+            case REPLAY -> replay(chain.request());
+        };
+    }
+
+    private Response record(Chain chain) throws IOException {
+        final Request request = chain.request();
+        final Response response = chain.proceed(request);
+        final ResponseBody body = response.body();
+        final MediaType contentType = body.contentType();
+        final byte[] bytes = body.bytes();
+        httpArchive.record(new HttpArchive.Entry(
+                request.method(), request.url().toString(), response.code(), response.headers().toMultimap(), bytes));
+        return response.newBuilder().body(ResponseBody.create(bytes, contentType)).build();
+    }
+
+    private Response replay(Request request) throws IOException {
+        final HttpArchive.Entry entry =
+                httpArchive.replay(request.method(), request.url().toString()).orElse(null);
+        final Headers.Builder headers = new Headers.Builder();
+        int status = HttpURLConnection.HTTP_NOT_FOUND;
+        byte[] body = "{\"message\":\"Not Found\"}".getBytes(StandardCharsets.UTF_8);
+        if (entry != null) {
+            entry.headers().forEach((name, values) -> values.forEach(value -> headers.add(name, value)));
+            status = entry.status();
+            body = entry.body();
+        }
+        if (configuration.rateLimit() > 0 && !simulateRateLimit(headers)) {
+            status = HttpURLConnection.HTTP_FORBIDDEN;
+            body = "{\"message\":\"API rate limit exceeded\"}".getBytes(StandardCharsets.UTF_8);
+        }
+
+        final Response.Builder response = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(status)
+                .message(REPLAYED)
+                .headers(headers.build());
+        // The network response lets the replayed responses be accounted as if they were sent to the GitHub API
+        final Response networkResponse = response.build();
+        final String contentType = headers.get("Content-Type");
+        return response.networkResponse(networkResponse)
+                .body(ResponseBody.create(body, contentType == null ? null : MediaType.parse(contentType)))
+                .build();
+    }
+
+    /*
+     * Returns false when the simulated rate limit is exceeded.
+     */
+    private synchronized boolean simulateRateLimit(Headers.Builder headers) {
+        final Instant now = clock.instant();
+        if (windowReset == null || !now.isBefore(windowReset)) {
+            windowReset = now.plus(configuration.rateLimitWindow());
+            windowRequests = 0;
+        }
+        final boolean allowed = windowRequests < configuration.rateLimit();
+        if (allowed) {
+            windowRequests++;
+        }
+        for (Map.Entry<String, String> header : List.of(
+                Map.entry("X-RateLimit-Limit", String.valueOf(configuration.rateLimit())),
+                Map.entry("X-RateLimit-Remaining", String.valueOf(configuration.rateLimit() - windowRequests)),
+                Map.entry("X-RateLimit-Used", String.valueOf(windowRequests)),
+                Map.entry("X-RateLimit-Reset", String.valueOf(windowReset.getEpochSecond())),
+                Map.entry("X-RateLimit-Resource", "core"))) {
+            headers.set(header.getKey(), header.getValue());
+        }
+        return allowed;
+    }
+}
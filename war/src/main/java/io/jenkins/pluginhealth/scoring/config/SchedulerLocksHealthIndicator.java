@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.config;
+
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.jenkins.pluginhealth.scoring.model.SchedulerLock;
+import io.jenkins.pluginhealth.scoring.service.SchedulerLockService;
+
+import org.springframework.boot.health.contributor.AbstractHealthIndicator;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports which instance of the application holds, or last held, the lock of each scheduled job.
+ * The locks do not change the health of the application.
+ */
+@Component
+public class SchedulerLocksHealthIndicator extends AbstractHealthIndicator {
+    private final SchedulerLockService schedulerLockService;
+
+    public SchedulerLocksHealthIndicator(SchedulerLockService schedulerLockService) {
+        this.schedulerLockService = schedulerLockService;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        final ZonedDateTime now = ZonedDateTime.now();
+        builder.up();
+        for (SchedulerLock lock : schedulerLockService.findAll()) {
+            final Map<String, Object> details = new LinkedHashMap<>();
+            details.put("lockedBy", lock.getLockedBy());
+            details.put("lockedAt", lock.getLockedAt());
+            details.put("lockedUntil", lock.getLockedUntil());
+            details.put("held", lock.isHeld(now));
+            builder.withDetail(lock.getName(), details);
+        }
+    }
+}
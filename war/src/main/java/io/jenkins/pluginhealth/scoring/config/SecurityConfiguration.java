@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -26,6 +26,7 @@ package io.jenkins.pluginhealth.scoring.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
@@ -33,6 +34,28 @@ import org.springframework.security.web.SecurityFilterChain;
 @Configuration
 @EnableWebSecurity
 public class SecurityConfiguration {
+    /*
+     * The management server, serving the metrics, listens on its own port, which is not meant to be public.
+     * When it shares the port of the application, only the health endpoints are reachable.
+     */
+    @Bean
+    @Order(0)
+    public SecurityFilterChain managementFilterChain(HttpSecurity http, Environment environment) throws Exception {
+        // @formatter:off
+        http
+            .securityMatcher(request -> {
+                final Integer managementPort = environment.getProperty("local.management.port", Integer.class);
+                return managementPort != null
+                    && request.getLocalPort() == managementPort
+                    && !managementPort.equals(environment.getProperty("local.server.port", Integer.class));
+            })
+            .authorizeHttpRequests(authorize -> authorize
+                .anyRequest().permitAll()
+            );
+        // @formatter:on
+        return http.build();
+    }
+
     @Bean
     @Order(1)
     public SecurityFilterChain authorizedFilterChain(HttpSecurity http) throws Exception {
@@ -44,6 +67,9 @@ public class SecurityConfiguration {
             "/",
             "/actuator/health/**",
             "/api/scores",
+            "/api/scores/*/history",
+            "/api/scores/distribution",
+            "/api/runs",
             "/data/**",
             "/probes/**",
             "/scores/**",
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2025 Jenkins Infra
+ * Copyright (c) 2025-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,8 +23,14 @@
  */
 package io.jenkins.pluginhealth.scoring.http;
 
+import java.util.Map;
+import java.util.Optional;
+
+import io.jenkins.pluginhealth.scoring.model.ScoreDistribution;
+import io.jenkins.pluginhealth.scoring.service.ScoreDistributionService;
 import io.jenkins.pluginhealth.scoring.service.ScoreService;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -33,13 +39,16 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.ModelAndView;
 
 @Controller
+@Profile("!worker")
 @RequestMapping(path = "/data")
 public class DataController {
 
     private final ScoreService scoreService;
+    private final ScoreDistributionService scoreDistributionService;
 
-    public DataController(ScoreService scoreService) {
+    public DataController(ScoreService scoreService, ScoreDistributionService scoreDistributionService) {
         this.scoreService = scoreService;
+        this.scoreDistributionService = scoreDistributionService;
     }
 
     @ModelAttribute(name = "module")
@@ -50,8 +59,9 @@ public class DataController {
     @GetMapping(path = {"", "/"})
     public ModelAndView index() {
         final ModelAndView modelAndView = new ModelAndView("data/distribution");
-        modelAndView.addObject("distribution", scoreService.getScoresDistribution());
-        modelAndView.addObject("statistics", scoreService.getScoresStatistics().orElse(null));
+        final Optional<ScoreDistribution> latest = scoreDistributionService.getLatest();
+        modelAndView.addObject("distribution", latest.map(ScoreDistribution::getDistribution).orElse(Map.of()));
+        modelAndView.addObject("statistics", latest.orElse(null));
         return modelAndView;
     }
 
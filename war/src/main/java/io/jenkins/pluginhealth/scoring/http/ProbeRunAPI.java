@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.http;
+
+import java.util.List;
+
+import io.jenkins.pluginhealth.scoring.model.ProbeRun;
+import io.jenkins.pluginhealth.scoring.service.ProbeRunService;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Profile("!worker")
+@RequestMapping("/api/runs")
+public class ProbeRunAPI {
+    static final int MAX_RUNS = 100;
+
+    private final ProbeRunService probeRunService;
+
+    public ProbeRunAPI(ProbeRunService probeRunService) {
+        this.probeRunService = probeRunService;
+    }
+
+    /**
+     * Provides the reports of the latest runs of the probe engine.
+     *
+     * @param limit the maximum number of runs to return, up to {@value #MAX_RUNS}. Defaults to 20.
+     * @return the reports of the latest runs, the most recent first
+     */
+    @GetMapping(
+            value = {"", "/"},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ProbeRun>> getRuns(@RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_RUNS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(probeRunService.getLatest(limit));
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,11 +25,15 @@
 package io.jenkins.pluginhealth.scoring.http;
 
 import java.util.Comparator;
+import java.util.List;
 
+import io.jenkins.pluginhealth.scoring.model.ProbeRun;
 import io.jenkins.pluginhealth.scoring.probes.Probe;
 import io.jenkins.pluginhealth.scoring.service.PluginService;
+import io.jenkins.pluginhealth.scoring.service.ProbeRunService;
 import io.jenkins.pluginhealth.scoring.service.ProbeService;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -37,14 +41,17 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.ModelAndView;
 
 @Controller
+@Profile("!worker")
 @RequestMapping(path = "/probes")
 public class ProbesController {
     private final PluginService pluginService;
     private final ProbeService probeService;
+    private final ProbeRunService probeRunService;
 
-    public ProbesController(PluginService pluginService, ProbeService probeService) {
+    public ProbesController(PluginService pluginService, ProbeService probeService, ProbeRunService probeRunService) {
         this.pluginService = pluginService;
         this.probeService = probeService;
+        this.probeRunService = probeRunService;
     }
 
     @ModelAttribute(name = "module")
@@ -77,6 +84,36 @@ public class ProbesController {
         return modelAndView;
     }
 
+    @GetMapping(path = "/runs")
+    public ModelAndView listRuns() {
+        final ModelAndView modelAndView = new ModelAndView("probes/runs");
+        final List<ProbeRun> runs = probeRunService.getLatest(20);
+
+        modelAndView.addObject("runs", runs);
+        if (!runs.isEmpty()) {
+            final ProbeRun latest = runs.getFirst();
+            final ProbeRun previous = runs.size() > 1 ? runs.get(1) : null;
+            modelAndView
+                .addObject("latest", latest)
+                .addObject(
+                    "probeTimings",
+                    latest.getProbes().entrySet().stream()
+                        .map(entry -> new ProbeTimings(
+                            entry.getKey(),
+                            entry.getValue(),
+                            previous == null ? null : previous.getProbes().get(entry.getKey())
+                        ))
+                        .sorted(Comparator.comparingLong((ProbeTimings timings) -> timings.current().totalTimeMillis())
+                            .reversed())
+                        .toList()
+                );
+        }
+        return modelAndView;
+    }
+
+    record ProbeTimings(String probe, ProbeRun.ProbeStatistics current, ProbeRun.ProbeStatistics previous) {
+    }
+
     record ProbeDetails(String id, String description) {
         static ProbeDetails map(Probe probe) {
             return new ProbeDetails(
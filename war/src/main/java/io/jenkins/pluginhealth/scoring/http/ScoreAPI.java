@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2022-2025 Jenkins Infra
+ * Copyright (c) 2022-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,6 +23,8 @@
  */
 package io.jenkins.pluginhealth.scoring.http;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Comparator;
 import java.util.List;
@@ -31,36 +33,46 @@ import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import io.jenkins.pluginhealth.scoring.model.HistoryResolution;
 import io.jenkins.pluginhealth.scoring.model.Resolution;
-import io.jenkins.pluginhealth.scoring.model.Score;
+import io.jenkins.pluginhealth.scoring.model.ScoreDistribution;
 import io.jenkins.pluginhealth.scoring.model.ScoreResult;
+import io.jenkins.pluginhealth.scoring.model.ScoreSummary;
 import io.jenkins.pluginhealth.scoring.model.ScoringComponentResult;
+import io.jenkins.pluginhealth.scoring.service.ScoreDistributionService;
 import io.jenkins.pluginhealth.scoring.service.ScoreService;
 
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@Profile("!worker")
 @RequestMapping("/api/scores")
 public class ScoreAPI {
     private final ScoreService scoreService;
+    private final ScoreDistributionService scoreDistributionService;
 
-    public ScoreAPI(ScoreService scoreService) {
+    public ScoreAPI(ScoreService scoreService, ScoreDistributionService scoreDistributionService) {
         this.scoreService = scoreService;
+        this.scoreDistributionService = scoreDistributionService;
     }
 
     @GetMapping(
             value = {"", "/"},
             produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ScoreReport> getReport() {
-        final Map<String, Score> latestScoresSummaryMap = scoreService.getLatestScoresSummaryMap();
+        final Map<String, ScoreSummary> latestScoresSummaryMap = scoreService.getLatestScoresSummaryMap();
         final Optional<String> optETag = latestScoresSummaryMap.values().stream()
-                .max(Comparator.comparing(Score::getComputedAt))
-                .map(Score::getComputedAt)
+                .map(ScoreSummary::computedAt)
+                .max(Comparator.naturalOrder())
                 .map(ZonedDateTime::toEpochSecond)
                 .map(String::valueOf);
 
@@ -72,9 +84,9 @@ public class ScoreAPI {
                     return new Tuple(
                             entry.getKey(),
                             new PluginScoreSummary(
-                                    score.getValue(),
-                                    score.getComputedAt(),
-                                    score.getDetails().stream()
+                                    score.value(),
+                                    score.computedAt(),
+                                    score.details().stream()
                                             .collect(Collectors.toMap(ScoreResult::key, PluginScoreDetail::new))));
                 })
                 .collect(Collectors.toMap(Tuple::name, Tuple::summary));
@@ -86,6 +98,63 @@ public class ScoreAPI {
         return bodyBuilder.body(new ScoreReport(plugins, scoreService.getScoresStatistics()));
     }
 
+    /**
+     * Provides the history of the score of a plugin, aggregated per day, week or month.
+     *
+     * @param plugin     the name of the plugin
+     * @param from       the first day of the history, included. Defaults to one year before {@code to}.
+     * @param to         the last day of the history, included. Defaults to the current day.
+     * @param resolution the size of the intervals in which the history is aggregated. Defaults to daily intervals.
+     * @return the minimum, average and maximum score of the plugin, and of each of its scoring implementations, for
+     *     each interval with history
+     */
+    @GetMapping(value = "/{plugin}/history", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ScoreHistoryReport> getHistory(
+            @PathVariable String plugin,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAILY") HistoryResolution resolution) {
+        final LocalDate end = to == null ? LocalDate.now(ZoneOffset.UTC) : to;
+        final LocalDate start = from == null ? end.minusYears(1) : from;
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS))
+                .body(new ScoreHistoryReport(
+                        plugin, start, end, resolution, scoreService.getHistory(plugin, start, end, resolution)));
+    }
+
+    /**
+     * Provides the daily snapshots of the distribution of the plugin scores.
+     *
+     * @param from the first day, included. Defaults to one year before {@code to}.
+     * @param to   the last day, included. Defaults to the current day.
+     * @return the snapshots of the distribution of the scores, ordered by day
+     */
+    @GetMapping(value = "/distribution", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ScoreDistribution>> getDistributionHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        final LocalDate end = to == null ? LocalDate.now(ZoneOffset.UTC) : to;
+        final LocalDate start = from == null ? end.minusYears(1) : from;
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS))
+                .body(scoreDistributionService.getHistory(start, end));
+    }
+
+    public record ScoreHistoryReport(
+            String plugin,
+            LocalDate from,
+            LocalDate to,
+            HistoryResolution resolution,
+            List<ScoreService.ScoreHistoryInterval> history) {}
+
     public record ScoreReport(
             Map<String, PluginScoreSummary> plugins, Optional<ScoreService.ScoreStatistics> statistics) {}
 
@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.probes;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prevents the probes from being executed on the same plugin by two instances of the application at the same time,
+ * with a PostgreSQL session-level advisory lock per plugin, keyed by the identifier of the plugin so the locks of two
+ * plugins never collide.
+ * <p>
+ * The locks of an instance are all held by one connection, borrowed from the pool for as long as the application runs,
+ * so they do not use one connection per plugin being probed. When this connection fails, all its locks are released,
+ * and it is given back to the pool. The work items of the plugins being probed are then leased again by any instance,
+ * once their leases expire. As those plugins are still being probed by this instance, no plugin can be locked again
+ * until they are all unlocked.
+ * <p>
+ * As the advisory locks of a session are re-entrant, the plugins whose lock is held are also tracked in the instance,
+ * so a plugin cannot be locked twice by the same instance either.
+ */
+@Component
+@Profile("!web")
+public class PluginLocks implements DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PluginLocks.class);
+    /*
+     * First key of the advisory locks of the plugins, so they do not collide with other advisory locks.
+     */
+    private static final int NAMESPACE = 0x7068;
+
+    private final DataSource dataSource;
+    /*
+     * The plugins locked by this instance, with the identifier used as key of their advisory lock, or null when the
+     * plugin is not in the database, and only locked in this instance.
+     */
+    private final Map<String, Integer> lockedPlugins = new HashMap<>();
+    private Connection connection;
+
+    public PluginLocks(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * @param pluginName the name of the plugin
+     * @return true when the lock of the plugin was acquired, false when this or another instance holds it, or when the
+     *     database cannot be reached
+     */
+    public synchronized boolean tryLock(String pluginName) {
+        if (lockedPlugins.containsKey(pluginName)) {
+            return false;
+        }
+        if (connection == null && !lockedPlugins.isEmpty()) {
+            LOGGER.info(
+                    "Not locking {} until the {} plugins locked before the connection failed are unlocked",
+                    pluginName,
+                    lockedPlugins.size());
+            return false;
+        }
+        try (PreparedStatement statement = connection()
+                .prepareStatement("SELECT id, pg_try_advisory_lock(?, id::int) FROM plugins WHERE name = ?")) {
+            statement.setInt(1, NAMESPACE);
+            statement.setString(2, pluginName);
+            try (ResultSet result = statement.executeQuery()) {
+                if (!result.next()) {
+                    lockedPlugins.put(pluginName, null);
+                    return true;
+                }
+                if (result.getBoolean(2)) {
+                    lockedPlugins.put(pluginName, result.getInt(1));
+                    return true;
+                }
+                return false;
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Could not lock {}", pluginName, e);
+            close();
+            return false;
+        }
+    }
+
+    public synchronized void unlock(String pluginName) {
+        if (!lockedPlugins.containsKey(pluginName)) {
+            return;
+        }
+        final Integer id = lockedPlugins.remove(pluginName);
+        if (id == null || connection == null) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?, ?)")) {
+            statement.setInt(1, NAMESPACE);
+            statement.setInt(2, id);
+            statement.execute();
+        } catch (SQLException e) {
+            LOGGER.warn("Could not unlock {}", pluginName, e);
+            close();
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        close();
+        lockedPlugins.clear();
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null) {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(true);
+        }
+        return connection;
+    }
+
+    /*
+     * The connection goes back to the pool, so its locks must be released first. When the connection is broken, the
+     * database already released them. The plugins locked by this instance are kept, as they are still being probed.
+     */
+    private void close() {
+        final Connection held = connection;
+        if (held == null) {
+            return;
+        }
+        connection = null;
+        try (held;
+                PreparedStatement statement = held.prepareStatement("SELECT pg_advisory_unlock_all()")) {
+            statement.execute();
+        } catch (SQLException e) {
+            LOGGER.debug("Could not release the plugin locks", e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.probes;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.jenkins.pluginhealth.scoring.config.EngineConfiguration;
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes when the probes must be executed again on a plugin, from its activity and its popularity.
+ * <p>
+ * The latest activity on a plugin is its last commit, found by the {@link LastCommitDateProbe}, its last release, or
+ * the last change of one of its probe results. A plugin is due again after
+ * {@link EngineConfiguration.Cadence#activityRatio()} of the time elapsed since this activity, bounded by
+ * {@link EngineConfiguration.Cadence#minInterval()} and {@link EngineConfiguration.Cadence#maxInterval()}, so a plugin
+ * without any commit for years is probed a lot less often than one changing every day. A plugin installed at least
+ * {@link EngineConfiguration.Cadence#popularInstallations()} times, according to the {@link InstallationStatProbe}, is
+ * due again after at most {@link EngineConfiguration.Cadence#popularMaxInterval()}.
+ * <p>
+ * A new release of a plugin makes it due right away, as the update-center synchronization resets its next probe time.
+ */
+@Component
+@Profile("!web")
+public final class ProbeCadence {
+    private final EngineConfiguration.Cadence configuration;
+
+    public ProbeCadence(EngineConfiguration configuration) {
+        this.configuration = configuration.probe() == null ? null : configuration.probe().cadence();
+    }
+
+    /**
+     * Tells whether the runs of the probe engine only execute the probes on the plugins which are due.
+     *
+     * @return {@code true} if the cadence of the plugins is enabled
+     */
+    public boolean isEnabled() {
+        return configuration != null && configuration.enabled();
+    }
+
+    /**
+     * Computes when the probes must be executed again on a plugin on which they were just executed.
+     *
+     * @param plugin the plugin, with its new probe results
+     * @param now    when the probes were executed
+     * @return when the plugin is due again
+     */
+    public ZonedDateTime nextProbeAt(Plugin plugin, ZonedDateTime now) {
+        return now.plus(interval(plugin, now));
+    }
+
+    Duration interval(Plugin plugin, ZonedDateTime now) {
+        final Map<String, ProbeResult> details = plugin.getDetails();
+        final Duration maxInterval = installations(details) >= configuration.popularInstallations()
+                ? min(configuration.maxInterval(), configuration.popularMaxInterval())
+                : configuration.maxInterval();
+        final Duration interval = latestActivity(plugin, details)
+                .map(activity -> Duration.between(activity, now))
+                .map(elapsed -> Duration.ofMillis(
+                        Math.round(Math.max(0, elapsed.toMillis()) * configuration.activityRatio())))
+                .orElse(configuration.minInterval());
+        return max(configuration.minInterval(), min(interval, maxInterval));
+    }
+
+    /*
+     * The installation count changes with every update-center, so its probe result does not tell about the activity
+     * on the plugin.
+     */
+    private static Optional<ZonedDateTime> latestActivity(Plugin plugin, Map<String, ProbeResult> details) {
+        final Stream<ZonedDateTime> resultChanges = details.values().stream()
+                .filter(result -> !InstallationStatProbe.KEY.equals(result.id()))
+                .map(ProbeResult::timestamp);
+        return Stream.concat(Stream.of(lastCommitDate(details), plugin.getReleaseTimestamp()), resultChanges)
+                .filter(Objects::nonNull)
+                .max(ZonedDateTime::compareTo);
+    }
+
+    private static ZonedDateTime lastCommitDate(Map<String, ProbeResult> details) {
+        final ProbeResult result = details.get(LastCommitDateProbe.KEY);
+        if (result == null
+                || result.status() != ProbeResult.Status.SUCCESS
+                || !(result.message() instanceof String message)) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(message, DateTimeFormatter.ISO_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static long installations(Map<String, ProbeResult> details) {
+        final ProbeResult result = details.get(InstallationStatProbe.KEY);
+        return result != null && result.message() instanceof Number installations ? installations.longValue() : 0;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -24,19 +24,43 @@
 package io.jenkins.pluginhealth.scoring.probes;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import io.jenkins.pluginhealth.scoring.config.HttpArchiveConfiguration;
 import io.jenkins.pluginhealth.scoring.model.Plugin;
 import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+import io.jenkins.pluginhealth.scoring.model.ProbeRun;
 import io.jenkins.pluginhealth.scoring.model.updatecenter.UpdateCenter;
+import io.jenkins.pluginhealth.scoring.service.GitHubUsageService;
+import io.jenkins.pluginhealth.scoring.service.HttpArchive;
 import io.jenkins.pluginhealth.scoring.service.PluginDocumentationService;
 import io.jenkins.pluginhealth.scoring.service.PluginService;
+import io.jenkins.pluginhealth.scoring.service.ProbeRunService;
 import io.jenkins.pluginhealth.scoring.service.ProbeService;
 import io.jenkins.pluginhealth.scoring.service.UpdateCenterService;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import org.kohsuke.github.GitHub;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 /**
@@ -45,46 +69,125 @@ import org.springframework.stereotype.Component;
  * The engine gets its probes through injection.
  * The {@link Probe} implementations must be flagged as {@link Component}.
  * Each implementation can choose to placed before or after another implementation using {@link org.springframework.core.annotation.Order} flag.
+ * <p>
+ * The engine records the duration of each probe, by probe key and result, the duration and size of the clones of the
+ * plugin repositories, and the duration of its last run, in the {@link MeterRegistry}.
+ * <p>
+ * The probes of each plugin are traced in a {@code probe.engine.plugin} span, with child spans for the clone of its
+ * repository, each probe, and the save of its results.
+ * The requests sent to the GitHub API by each probe are attributed to it, and to the plugin, in the
+ * {@link GitHubUsageService}.
  */
 @Component
+@Profile("!web")
 public final class ProbeEngine {
     private static final Logger LOGGER = LoggerFactory.getLogger(ProbeEngine.class);
 
     private final ProbeService probeService;
     private final PluginService pluginService;
+    private final ProbeResultsWriter probeResultsWriter;
     private final UpdateCenterService updateCenterService;
     private final GitHub gitHub;
+    private final GitHubUsageService gitHubUsageService;
     private final PluginDocumentationService pluginDocumentationService;
+    private final ProbeRunService probeRunService;
+    private final ProbeCadence probeCadence;
+    private final HttpArchive httpArchive;
+    private final PluginLocks pluginLocks;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+    private final AtomicLong lastRunDuration = new AtomicLong();
 
     public ProbeEngine(
             ProbeService probeService,
             PluginService pluginService,
+            ProbeResultsWriter probeResultsWriter,
             UpdateCenterService updateCenterService,
             GitHub gitHub,
-            PluginDocumentationService pluginDocumentationService) {
+            GitHubUsageService gitHubUsageService,
+            PluginDocumentationService pluginDocumentationService,
+            ProbeRunService probeRunService,
+            ProbeCadence probeCadence,
+            HttpArchive httpArchive,
+            PluginLocks pluginLocks,
+            MeterRegistry meterRegistry,
+            Tracer tracer) {
         this.probeService = probeService;
         this.pluginService = pluginService;
+        this.probeResultsWriter = probeResultsWriter;
         this.updateCenterService = updateCenterService;
         this.gitHub = gitHub;
+        this.gitHubUsageService = gitHubUsageService;
         this.pluginDocumentationService = pluginDocumentationService;
+        this.probeRunService = probeRunService;
+        this.probeCadence = probeCadence;
+        this.httpArchive = httpArchive;
+        this.pluginLocks = pluginLocks;
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+
+        Gauge.builder("probe.engine.save.queue", probeResultsWriter, ProbeResultsWriter::getQueueDepth)
+                .description("Number of plugins waiting for their probe results to be saved")
+                .register(meterRegistry);
+        TimeGauge.builder("probe.engine.last.run.duration", lastRunDuration, TimeUnit.NANOSECONDS, AtomicLong::get)
+                .description("Duration of the last execution of the probes on all the plugins")
+                .register(meterRegistry);
     }
 
     /**
-     * Starts to apply all the {@link Probe} implementations on all the plugins registered in the database.
+     * Starts to apply all the {@link Probe} implementations on all the plugins registered in the database, or only on
+     * the ones which are due when the {@link ProbeCadence} is enabled.
      */
     public void run() throws IOException {
-        LOGGER.info("Start running probes on all plugins");
+        run(plugin -> {});
+    }
+
+    /**
+     * Starts to apply all the {@link Probe} implementations on all the plugins registered in the database, or only on
+     * the ones which are due when the {@link ProbeCadence} is enabled.
+     * The results of the probes are saved in the background, by the {@link ProbeResultsWriter}. Each plugin is handed
+     * to the provided consumer as soon as the results of its probes are saved, while the probes are executed on the
+     * other plugins.
+     * <p>
+     * This returns once the results of all the plugins are saved, and handed to the consumer. A {@link ProbeRun}
+     * report, with the timings of each probe and the slowest plugins, is then saved.
+     * <p>
+     * Each plugin is only probed while its {@link PluginLocks lock} is held, until its results are saved, so a plugin
+     * which is being probed by a {@link ProbeWorker}, from a previous run using the work queue, is skipped.
+     *
+     * @param probedPluginConsumer receives each plugin, with its new probe results, once they are saved
+     */
+    public void run(Consumer<Plugin> probedPluginConsumer) throws IOException {
+        final boolean dueOnly = probeCadence.isEnabled();
+        LOGGER.info("Start running probes on {} plugins", dueOnly ? "the due" : "all");
+        final long start = System.nanoTime();
+        final ZonedDateTime startedAt = ZonedDateTime.now();
+        final ProbeRunRecorder recorder = new ProbeRunRecorder(startedAt);
         final UpdateCenter updateCenter = updateCenterService.fetchUpdateCenter();
         final Map<String, String> pluginDocumentationUrl = pluginDocumentationService.fetchPluginDocumentationUrl();
-        pluginService
-                .streamAll()
-                .parallel()
-                .forEach(plugin -> this.runOn(plugin, updateCenter, pluginDocumentationUrl));
+        final Stream<Plugin> plugins = dueOnly ? pluginService.streamDue(startedAt) : pluginService.streamAll();
+        final List<CompletableFuture<Void>> probedPlugins = plugins.parallel()
+                .map(plugin -> probeLocked(plugin, updateCenter, pluginDocumentationUrl, recorder))
+                .flatMap(Optional::stream)
+                .map(submitted -> submitted
+                        .thenAcceptAsync(saved -> {
+                            try {
+                                probedPluginConsumer.accept(saved);
+                            } catch (Throwable t) {
+                                LOGGER.error("Could not process {} after running the probes", saved.getName(), t);
+                            }
+                        })
+                        // The writer already logged why the plugin could not be saved
+                        .exceptionally(t -> null))
+                .toList();
+        CompletableFuture.allOf(probedPlugins.toArray(CompletableFuture[]::new)).join();
+        lastRunDuration.set(System.nanoTime() - start);
+        saveReport(recorder.toProbeRun(ZonedDateTime.now()));
         LOGGER.info("Probe engine has finished");
     }
 
     /**
-     * Runs all the probes on a specific plugin
+     * Runs all the probes on a specific plugin, and saves their results right away.
      *
      * @param plugin the selected plugin to run all probes on
      * @throws IOException thrown when the update-center cannot be retrieved
@@ -93,36 +196,203 @@ public final class ProbeEngine {
         LOGGER.info("Start running probes on {}", plugin.getName());
         final UpdateCenter updateCenter = updateCenterService.fetchUpdateCenter();
         final Map<String, String> pluginDocumentationUrl = pluginDocumentationService.fetchPluginDocumentationUrl();
-        runOn(plugin, updateCenter, pluginDocumentationUrl);
+        if (!pluginLocks.tryLock(plugin.getName())) {
+            LOGGER.info("{} is already being probed", plugin.getName());
+            return;
+        }
+        final Span span = pluginSpan(plugin);
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            if (runOn(plugin, updateCenter, pluginDocumentationUrl, new ProbeRunRecorder(ZonedDateTime.now()))) {
+                save(plugin);
+            }
+        } finally {
+            span.end();
+            pluginLocks.unlock(plugin.getName());
+        }
         LOGGER.info("Probe engine has finished");
     }
 
-    private void runOn(Plugin plugin, UpdateCenter updateCenter, Map<String, String> pluginDocumentationUrl) {
+    /**
+     * Runs all the probes on a plugin leased from the queue of a distributed run, and queues their results to be saved
+     * by the {@link ProbeResultsWriter}.
+     *
+     * @return a future completed with the plugin once its results are saved, or exceptionally when the probes could not
+     *     be executed, or their results could not be saved
+     */
+    CompletableFuture<Plugin> runOn(
+            Plugin plugin,
+            UpdateCenter updateCenter,
+            Map<String, String> pluginDocumentationUrl,
+            ProbeRunRecorder recorder) {
+        return probe(plugin, updateCenter, pluginDocumentationUrl, recorder)
+                .orElseGet(() -> CompletableFuture.failedFuture(
+                        new IllegalStateException("Could not run the probes on " + plugin.getName())));
+    }
+
+    /*
+     * The lock of the plugin is released once its results are saved, or as soon as they cannot be.
+     */
+    private Optional<CompletableFuture<Plugin>> probeLocked(
+            Plugin plugin,
+            UpdateCenter updateCenter,
+            Map<String, String> pluginDocumentationUrl,
+            ProbeRunRecorder recorder) {
+        final String pluginName = plugin.getName();
+        if (!pluginLocks.tryLock(pluginName)) {
+            LOGGER.info("{} is already being probed", pluginName);
+            return Optional.empty();
+        }
+        Optional<CompletableFuture<Plugin>> submitted = Optional.empty();
+        try {
+            submitted = probe(plugin, updateCenter, pluginDocumentationUrl, recorder)
+                    .map(future -> future.whenComplete((saved, t) -> pluginLocks.unlock(pluginName)));
+            return submitted;
+        } finally {
+            if (submitted.isEmpty()) {
+                pluginLocks.unlock(pluginName);
+            }
+        }
+    }
+
+    /*
+     * The results of the probes are queued within the span of the plugin, so the span of their save, which ends once
+     * they are written, is part of the trace of the plugin.
+     */
+    private Optional<CompletableFuture<Plugin>> probe(
+            Plugin plugin,
+            UpdateCenter updateCenter,
+            Map<String, String> pluginDocumentationUrl,
+            ProbeRunRecorder recorder) {
+        final Span span = pluginSpan(plugin);
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return runOn(plugin, updateCenter, pluginDocumentationUrl, recorder)
+                    ? Optional.of(probeResultsWriter.submit(plugin))
+                    : Optional.empty();
+        } finally {
+            span.end();
+        }
+    }
+
+    private Span pluginSpan(Plugin plugin) {
+        return tracer.nextSpan().name("probe.engine.plugin").tag("plugin", plugin.getName()).start();
+    }
+
+    private void save(Plugin plugin) {
+        final Span span = tracer.nextSpan().name("probe.engine.save").start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            pluginService.saveProbeResults(plugin);
+        } catch (Throwable e) {
+            span.error(e);
+            LOGGER.error("Could not save result of probe engine for plugin {}", plugin.getName(), e);
+        } finally {
+            span.end();
+        }
+    }
+
+    /*
+     * Returns true when the probes could be executed, and their results must be saved.
+     */
+    private boolean runOn(
+            Plugin plugin,
+            UpdateCenter updateCenter,
+            Map<String, String> pluginDocumentationUrl,
+            ProbeRunRecorder recorder) {
+        final long start = System.nanoTime();
         try (ProbeContext probeContext = probeService.getProbeContext(plugin, updateCenter)) {
             probeContext.setGitHub(gitHub);
             probeContext.setPluginDocumentationLinks(pluginDocumentationUrl);
-            probeContext.cloneRepository();
+            cloneRepository(plugin, probeContext, recorder);
 
-            probeService.getProbes().forEach(probe -> {
-                try {
-                    final ProbeResult result = probe.apply(plugin, probeContext);
-                    plugin.addDetails(result);
-                    if (ProbeResult.Status.ERROR.equals(result.status())) {
-                        LOGGER.info("There was a problem while running {} on {}", probe.key(), plugin.getName());
-                        LOGGER.info((String) result.message());
-                    }
-                } catch (Throwable t) {
-                    LOGGER.error("Couldn't run {} on {}", probe.key(), plugin.getName(), t);
-                }
-            });
-
-            try {
-                pluginService.saveOrUpdate(plugin);
-            } catch (Throwable e) {
-                LOGGER.error("Could not save result of probe engine for plugin {}", plugin.getName(), e);
+            probeService.getProbes().forEach(probe -> runProbe(probe, plugin, probeContext, recorder));
+            if (probeCadence.isEnabled()) {
+                plugin.setNextProbeAt(probeCadence.nextProbeAt(plugin, ZonedDateTime.now()));
             }
+            return true;
         } catch (Exception ex) {
             LOGGER.error("Cannot create temporary plugin for {}", plugin.getName(), ex);
+        } finally {
+            recorder.recordPlugin(plugin.getName(), System.nanoTime() - start);
+        }
+        return false;
+    }
+
+    private void runProbe(Probe probe, Plugin plugin, ProbeContext probeContext, ProbeRunRecorder recorder) {
+        final ProbeResult previousResult = plugin.getDetails().get(probe.key());
+        final long start = System.nanoTime();
+        final Span span = tracer.nextSpan().name("probe.engine.probe").tag("probe", probe.key()).start();
+        ProbeResult result = null;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span);
+                GitHubUsageService.Scope attributed = gitHubUsageService.attribute(probe.key(), plugin.getName())) {
+            result = probe.apply(plugin, probeContext);
+            plugin.addDetails(result);
+            if (ProbeResult.Status.ERROR.equals(result.status())) {
+                LOGGER.info("There was a problem while running {} on {}", probe.key(), plugin.getName());
+                LOGGER.info((String) result.message());
+            }
+        } catch (Throwable t) {
+            span.error(t);
+            LOGGER.error("Couldn't run {} on {}", probe.key(), plugin.getName(), t);
+        } finally {
+            final long duration = System.nanoTime() - start;
+            // A probe which is not applicable returns the previous result as is
+            final boolean executed = result == null || result != previousResult;
+            final String outcome = result == null
+                    ? "failure"
+                    : executed ? result.status().name().toLowerCase(Locale.ROOT) : "skipped";
+            Timer.builder("probe.engine.probes")
+                    .description("Execution of a probe on a plugin")
+                    .tag("probe", probe.key())
+                    .tag("result", outcome)
+                    .register(meterRegistry)
+                    .record(duration, TimeUnit.NANOSECONDS);
+            recorder.recordProbe(probe.key(), result, executed, duration);
+            span.tag("result", outcome).end();
+        }
+    }
+
+    private void saveReport(ProbeRun probeRun) {
+        try {
+            probeRunService.save(probeRun);
+        } catch (Throwable t) {
+            LOGGER.error("Could not save the report of the probe engine run", t);
+        }
+    }
+
+    /*
+     * The clone is only measured when the plugin has a repository to clone.
+     * When the HTTP traffic is recorded, the clone is recorded as well, so the run can be replayed offline.
+     */
+    private void cloneRepository(Plugin plugin, ProbeContext probeContext, ProbeRunRecorder recorder) {
+        if (plugin.getScm() == null || plugin.getScm().isBlank()) {
+            probeContext.cloneRepository();
+            recorder.cloneSkipped();
+            return;
+        }
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        final Span span = tracer.nextSpan().name("probe.engine.clone").start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            probeContext.cloneRepository();
+        }
+        final Path repository = probeContext.getScmRepository().orElse(null);
+        span.tag("result", repository == null ? "failure" : "success").end();
+        sample.stop(Timer.builder("probe.engine.clones")
+                .description("Clone of the repository of a plugin")
+                .tag("result", repository == null ? "failure" : "success")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        if (repository == null) {
+            recorder.cloneFailed();
+        } else {
+            recorder.cloned();
+            if (httpArchive.getMode() == HttpArchiveConfiguration.Mode.RECORD) {
+                httpArchive.recordRepository(plugin.getScm(), repository);
+            }
+            final DistributionSummary cloneSize = DistributionSummary.builder("probe.engine.clone.size")
+                    .description("Size of the Git objects fetched by the clone of a plugin repository")
+                    .baseUnit(BaseUnits.BYTES)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            probeContext.getScmRepositorySize().ifPresent(cloneSize::record);
         }
     }
 }
@@ -0,0 +1,244 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.probes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import io.jenkins.pluginhealth.scoring.config.EngineConfiguration;
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.service.PluginService;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Saves the probe results of the plugins in the background, so the {@link ProbeEngine} does not wait for the database
+ * between two plugins.
+ * <p>
+ * The plugins are queued, and saved by a single thread, in batches of at most
+ * {@link EngineConfiguration.Probe#saveBatchSize()} plugins, each batch in one transaction. A batch is saved as soon
+ * as it is full, or {@link EngineConfiguration.Probe#saveInterval()} after its first plugin was queued.
+ * <p>
+ * The queue is bounded by {@link EngineConfiguration.Probe#saveQueueCapacity()}. When it is full, the plugins are not
+ * dropped: the threads queuing them wait until some room is made.
+ * The plugins still queued when the application stops are saved before the database connections are closed. The
+ * ones which could not be saved within a minute have their future completed exceptionally, so no
+ * caller waits forever.
+ * <p>
+ * The save of each plugin is traced from the moment it is queued, as a child of the current span of the thread
+ * queuing it. The span has a {@code write} event when the batch of the plugin starts being saved.
+ */
+@Component
+@Profile("!web")
+public class ProbeResultsWriter implements DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProbeResultsWriter.class);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofMinutes(1);
+    private static final PendingSave STOP = new PendingSave(null, new CompletableFuture<>(), Span.NOOP);
+
+    private final PluginService pluginService;
+    private final Tracer tracer;
+    private final int batchSize;
+    private final Duration interval;
+    private final BlockingQueue<PendingSave> queue;
+    private final Thread thread;
+    /*
+     * Held in read mode while queuing a plugin, and in write mode to stop accepting plugins, so no plugin can be
+     * queued once the writer is stopping.
+     */
+    private final ReadWriteLock stopping = new ReentrantReadWriteLock();
+    private volatile boolean stopped;
+
+    public ProbeResultsWriter(PluginService pluginService, EngineConfiguration configuration, Tracer tracer) {
+        this.pluginService = pluginService;
+        this.tracer = tracer;
+        this.batchSize = configuration.probe().saveBatchSize();
+        this.interval = configuration.probe().saveInterval();
+        this.queue = new ArrayBlockingQueue<>(configuration.probe().saveQueueCapacity());
+        this.thread = Thread.ofPlatform().name("probe-results-writer").daemon().start(this::run);
+    }
+
+    /**
+     * Queues a plugin for its probe results to be saved.
+     * This only waits when the queue is full.
+     *
+     * @param plugin the plugin to save
+     * @return a future completed with the plugin once it is saved, or exceptionally if it could not be saved
+     */
+    public CompletableFuture<Plugin> submit(Plugin plugin) {
+        final PendingSave pendingSave = new PendingSave(
+                plugin, new CompletableFuture<>(), tracer.nextSpan().name("probe.engine.save").start());
+        stopping.readLock().lock();
+        try {
+            if (stopped) {
+                pendingSave.failed(new IllegalStateException("The application is stopping"));
+                return pendingSave.future();
+            }
+            queue.put(pendingSave);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pendingSave.failed(e);
+        } finally {
+            stopping.readLock().unlock();
+        }
+        return pendingSave.future();
+    }
+
+    /**
+     * @return the number of plugins waiting for their probe results to be saved
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Saves the plugins still queued, and stops the thread saving them.
+     * The plugins which are still queued once the thread stopped, or after a minute, are failed.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        stopping.writeLock().lock();
+        try {
+            stopped = true;
+        } finally {
+            stopping.writeLock().unlock();
+        }
+        if (!queue.offer(STOP, SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            thread.interrupt();
+        }
+        if (!thread.join(SHUTDOWN_TIMEOUT)) {
+            LOGGER.warn("The probe results writer did not stop within {}", SHUTDOWN_TIMEOUT);
+        }
+        final List<PendingSave> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.remove(STOP);
+        if (!remaining.isEmpty()) {
+            LOGGER.warn("The probe results of {} plugins could not be saved before stopping", remaining.size());
+            final IllegalStateException cause = new IllegalStateException("The application stopped");
+            remaining.forEach(pendingSave -> pendingSave.failed(cause));
+        }
+    }
+
+    private void run() {
+        final List<PendingSave> batch = new ArrayList<>(batchSize);
+        boolean stop = false;
+        while (!stop) {
+            try {
+                stop = fill(batch);
+            } catch (InterruptedException e) {
+                stop = true;
+            }
+            save(batch);
+            batch.clear();
+        }
+        // Plugins queued while the application was stopping
+        queue.drainTo(batch);
+        batch.remove(STOP);
+        save(batch);
+    }
+
+    /*
+     * Waits for a first plugin, then until the batch is full or the save interval elapsed.
+     * Returns true when the writer must stop.
+     */
+    private boolean fill(List<PendingSave> batch) throws InterruptedException {
+        PendingSave next = queue.take();
+        final long deadline = System.nanoTime() + interval.toNanos();
+        while (next != STOP) {
+            batch.add(next);
+            if (batch.size() >= batchSize) {
+                return false;
+            }
+            next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * When the batch cannot be saved, its plugins are saved one by one, so a single plugin cannot prevent the others
+     * from being saved.
+     */
+    private void save(List<PendingSave> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batch.forEach(pendingSave -> pendingSave.span().tag("batch.size", batch.size()).event("write"));
+        if (batch.size() > 1) {
+            final long start = System.nanoTime();
+            try {
+                pluginService.saveAllProbeResults(batch.stream().map(PendingSave::plugin).toList());
+                batch.forEach(PendingSave::saved);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(
+                            "Saved the probe results of {} plugins in {} ms, {} plugins still queued",
+                            batch.size(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                            queue.size());
+                }
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not save the probe results of {} plugins at once", batch.size(), e);
+            }
+        }
+        batch.forEach(this::save);
+    }
+
+    private void save(PendingSave pendingSave) {
+        try {
+            pluginService.saveProbeResults(pendingSave.plugin());
+            pendingSave.saved();
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not save result of probe engine for plugin {}", pendingSave.plugin().getName(), e);
+            pendingSave.failed(e);
+        }
+    }
+
+    private record PendingSave(Plugin plugin, CompletableFuture<Plugin> future, Span span) {
+        void saved() {
+            span.end();
+            future.complete(plugin);
+        }
+
+        void failed(Throwable t) {
+            span.error(t).end();
+            future.completeExceptionally(t);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.probes;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+import io.jenkins.pluginhealth.scoring.model.ProbeRun;
+
+/**
+ * Collects the timings of a run of the {@link ProbeEngine}, from the threads executing the probes, to build its
+ * {@link ProbeRun} report.
+ */
+final class ProbeRunRecorder {
+    static final int SLOWEST_PLUGINS = 10;
+
+    private final ZonedDateTime startedAt;
+    private final LongAdder plugins = new LongAdder();
+    private final LongAdder clones = new LongAdder();
+    private final LongAdder skippedClones = new LongAdder();
+    private final LongAdder failedClones = new LongAdder();
+    private final Map<String, ProbeTimings> probes = new ConcurrentHashMap<>();
+    private final PriorityQueue<ProbeRun.PluginDuration> slowestPlugins =
+            new PriorityQueue<>(Comparator.comparingLong(ProbeRun.PluginDuration::durationMillis));
+
+    ProbeRunRecorder(ZonedDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    void cloned() {
+        clones.increment();
+    }
+
+    void cloneSkipped() {
+        skippedClones.increment();
+    }
+
+    void cloneFailed() {
+        failedClones.increment();
+    }
+
+    /**
+     * @param key      the key of the probe
+     * @param result   the result of the probe, or {@code null} if it threw an exception
+     * @param executed whether the probe was executed, or kept its previous result
+     * @param nanos    the time spent in the probe
+     */
+    void recordProbe(String key, ProbeResult result, boolean executed, long nanos) {
+        probes.computeIfAbsent(key, k -> new ProbeTimings()).record(result, executed, nanos);
+    }
+
+    void recordPlugin(String name, long nanos) {
+        plugins.increment();
+        final ProbeRun.PluginDuration duration =
+                new ProbeRun.PluginDuration(name, TimeUnit.NANOSECONDS.toMillis(nanos));
+        synchronized (slowestPlugins) {
+            slowestPlugins.add(duration);
+            if (slowestPlugins.size() > SLOWEST_PLUGINS) {
+                slowestPlugins.poll();
+            }
+        }
+    }
+
+    ProbeRun toProbeRun(ZonedDateTime finishedAt) {
+        synchronized (slowestPlugins) {
+            return new ProbeRun(
+                    startedAt,
+                    finishedAt,
+                    plugins.sum(),
+                    clones.sum(),
+                    skippedClones.sum(),
+                    failedClones.sum(),
+                    probes.entrySet().stream()
+                            .collect(Collectors.toMap(
+                                    Map.Entry::getKey, entry -> entry.getValue().statistics())),
+                    slowestPlugins.stream()
+                            .sorted(slowestPlugins.comparator().reversed())
+                            .toList());
+        }
+    }
+
+    /*
+     * The durations of all the executions of a probe are kept, to compute their exact percentile at the end of the run.
+     */
+    private static final class ProbeTimings {
+        private long[] durations = new long[64];
+        private int executed;
+        private long skipped;
+        private long errors;
+        private long totalTime;
+
+        synchronized void record(ProbeResult result, boolean executed, long nanos) {
+            if (result == null || ProbeResult.Status.ERROR.equals(result.status())) {
+                errors++;
+            }
+            if (!executed) {
+                skipped++;
+                return;
+            }
+            if (this.executed == durations.length) {
+                durations = Arrays.copyOf(durations, durations.length * 2);
+            }
+            durations[this.executed++] = nanos;
+            totalTime += nanos;
+        }
+
+        synchronized ProbeRun.ProbeStatistics statistics() {
+            final long[] sorted = Arrays.copyOf(durations, executed);
+            Arrays.sort(sorted);
+            final long p95 = executed == 0 ? 0 : sorted[(int) Math.ceil(executed * .95) - 1];
+            return new ProbeRun.ProbeStatistics(
+                    executed,
+                    skipped,
+                    errors,
+                    TimeUnit.NANOSECONDS.toMillis(totalTime),
+                    TimeUnit.NANOSECONDS.toMillis(p95));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.probes;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.jenkins.pluginhealth.scoring.config.EngineConfiguration;
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeWorkItem;
+import io.jenkins.pluginhealth.scoring.model.updatecenter.UpdateCenter;
+import io.jenkins.pluginhealth.scoring.scores.ScoringEngine;
+import io.jenkins.pluginhealth.scoring.service.PluginDocumentationService;
+import io.jenkins.pluginhealth.scoring.service.PluginService;
+import io.jenkins.pluginhealth.scoring.service.ProbeRunService;
+import io.jenkins.pluginhealth.scoring.service.ProbeWorkQueueService;
+import io.jenkins.pluginhealth.scoring.service.UpdateCenterService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the probes on the plugins of the runs distributed over several instances of the application, when
+ * {@link EngineConfiguration.Queue#enabled()} is set.
+ * <p>
+ * Each instance leases batches of work items from the {@link ProbeWorkQueueService}, until the queue is empty, and
+ * checks again every {@link EngineConfiguration.Queue#pollInterval()}. The leases held by the instance are renewed
+ * every {@link EngineConfiguration.Queue#heartbeatInterval()}, and the expired leases of the other instances are
+ * requeued before leasing new items. A plugin is only probed while its {@link PluginLocks lock} is held.
+ * <p>
+ * Each plugin is scored as soon as its probe results are saved, as when
+ * {@link EngineConfiguration.Scoring#streaming()} is enabled, because no instance knows when the whole run is done.
+ * For the same reason, each instance saves its own {@link io.jenkins.pluginhealth.scoring.model.ProbeRun} report of
+ * each run, once it finds the queue empty.
+ */
+@Component
+@Profile("!web")
+@ConditionalOnProperty(name = "app.engine.probe.queue.enabled", havingValue = "true")
+public class ProbeWorker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProbeWorker.class);
+
+    private final ProbeWorkQueueService queueService;
+    private final PluginService pluginService;
+    private final PluginLocks pluginLocks;
+    private final ProbeEngine probeEngine;
+    private final ScoringEngine scoringEngine;
+    private final UpdateCenterService updateCenterService;
+    private final PluginDocumentationService pluginDocumentationService;
+    private final ProbeRunService probeRunService;
+    private final EngineConfiguration.Queue configuration;
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName();
+    private final Set<Long> leased = ConcurrentHashMap.newKeySet();
+    private final Map<ZonedDateTime, ProbeRunRecorder> recorders = new ConcurrentHashMap<>();
+    private final AtomicBoolean polling = new AtomicBoolean();
+
+    public ProbeWorker(
+            ProbeWorkQueueService queueService,
+            PluginService pluginService,
+            PluginLocks pluginLocks,
+            ProbeEngine probeEngine,
+            ScoringEngine scoringEngine,
+            UpdateCenterService updateCenterService,
+            PluginDocumentationService pluginDocumentationService,
+            ProbeRunService probeRunService,
+            EngineConfiguration configuration,
+            MeterRegistry meterRegistry) {
+        this.queueService = queueService;
+        this.pluginService = pluginService;
+        this.pluginLocks = pluginLocks;
+        this.probeEngine = probeEngine;
+        this.scoringEngine = scoringEngine;
+        this.updateCenterService = updateCenterService;
+        this.pluginDocumentationService = pluginDocumentationService;
+        this.probeRunService = probeRunService;
+        this.configuration = configuration.probe().queue();
+
+        Gauge.builder("probe.engine.queue.leased", leased, Set::size)
+                .description("Number of work items leased by this instance")
+                .register(meterRegistry);
+        Gauge.builder("probe.engine.queue.pending", queueService, s -> s.countByStatus(ProbeWorkItem.Status.PENDING))
+                .description("Number of work items waiting to be leased by any instance")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Leases and processes batches of work items until the queue is empty.
+     * This does nothing when the previous poll is still processing work items.
+     */
+    @Async
+    @Scheduled(
+            initialDelayString = "${app.engine.probe.queue.poll-interval}",
+            fixedDelayString = "${app.engine.probe.queue.poll-interval}")
+    public void poll() throws IOException {
+        if (!polling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            polling.set(false);
+        }
+    }
+
+    /**
+     * Renews the leases of the work items being processed by this instance, so they are not leased by another one.
+     */
+    @Scheduled(fixedDelayString = "${app.engine.probe.queue.heartbeat-interval}")
+    public void heartbeat() {
+        final List<Long> ids = List.copyOf(leased);
+        final int renewed = queueService.renew(ids, workerId, configuration.leaseDuration());
+        if (renewed < ids.size()) {
+            // Also happens when an item is finished while its lease is renewed
+            LOGGER.debug("Renewed {} of the {} leases of {}", renewed, ids.size(), workerId);
+        }
+    }
+
+    void drain() throws IOException {
+        final int expired = queueService.requeueExpired(configuration.maxAttempts());
+        if (expired > 0) {
+            LOGGER.warn("The leases of {} work items expired", expired);
+        }
+        UpdateCenter updateCenter = null;
+        Map<String, String> pluginDocumentationUrl = null;
+        List<ProbeWorkItem> items;
+        while (!(items = queueService.lease(workerId, configuration.batchSize(), configuration.leaseDuration()))
+                .isEmpty()) {
+            items.forEach(item -> leased.add(item.getId()));
+            if (updateCenter == null) {
+                try {
+                    updateCenter = updateCenterService.fetchUpdateCenter();
+                    pluginDocumentationUrl = pluginDocumentationService.fetchPluginDocumentationUrl();
+                } catch (IOException e) {
+                    items.forEach(this::release);
+                    throw e;
+                }
+            }
+            final UpdateCenter leasedUpdateCenter = updateCenter;
+            final Map<String, String> leasedPluginDocumentationUrl = pluginDocumentationUrl;
+            final List<Boolean> processed = items.parallelStream()
+                    .map(item -> process(item, leasedUpdateCenter, leasedPluginDocumentationUrl))
+                    .toList();
+            if (!processed.contains(true)) {
+                // The released items would be leased again right away, so they wait for the next poll
+                LOGGER.info("None of the {} leased plugins could be locked, until the next poll", items.size());
+                break;
+            }
+        }
+        saveReports();
+    }
+
+    /*
+     * When the plugin is locked by another instance, which can only happen when the lease of its item expired while
+     * it was still being probed, or cannot be locked at all, the item is released without counting as an attempt,
+     * instead of being probed twice.
+     */
+    private boolean process(
+            ProbeWorkItem item, UpdateCenter updateCenter, Map<String, String> pluginDocumentationUrl) {
+        final String pluginName = item.getPluginName();
+        if (!pluginLocks.tryLock(pluginName)) {
+            LOGGER.info("{} could not be locked, it may already be probed by another instance", pluginName);
+            release(item);
+            return false;
+        }
+        try {
+            final Optional<Plugin> plugin = pluginService.findByName(pluginName);
+            if (plugin.isPresent()) {
+                final ProbeRunRecorder recorder =
+                        recorders.computeIfAbsent(item.getEnqueuedAt(), ProbeRunRecorder::new);
+                final Plugin saved = probeEngine
+                        .runOn(plugin.get(), updateCenter, pluginDocumentationUrl, recorder)
+                        .join();
+                scoringEngine.runOn(saved);
+            }
+            finish(item, ProbeWorkItem.Status.DONE);
+        } catch (CompletionException e) {
+            LOGGER.error("Could not run the probes on {}", pluginName, e.getCause());
+            finish(item, ProbeWorkItem.Status.FAILED);
+        } catch (Throwable t) {
+            LOGGER.error("Could not process the work item of {}", pluginName, t);
+            finish(item, ProbeWorkItem.Status.FAILED);
+        } finally {
+            leased.remove(item.getId());
+            pluginLocks.unlock(pluginName);
+        }
+        return true;
+    }
+
+    private void finish(ProbeWorkItem item, ProbeWorkItem.Status status) {
+        if (!queueService.finish(item, workerId, status)) {
+            LOGGER.warn("The lease of the work item of {} expired before it was finished", item.getPluginName());
+        }
+    }
+
+    private void release(ProbeWorkItem item) {
+        queueService.release(item, workerId);
+        leased.remove(item.getId());
+    }
+
+    private void saveReports() {
+        final ZonedDateTime now = ZonedDateTime.now();
+        for (ZonedDateTime enqueuedAt : List.copyOf(recorders.keySet())) {
+            final ProbeRunRecorder recorder = recorders.remove(enqueuedAt);
+            try {
+                probeRunService.save(recorder.toProbeRun(now));
+            } catch (Throwable t) {
+                LOGGER.error("Could not save the report of the probe engine run of {}", enqueuedAt, t);
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.schedule;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.jenkins.pluginhealth.scoring.config.SchedulerLockConfiguration;
+import io.jenkins.pluginhealth.scoring.model.SchedulerLock;
+import io.jenkins.pluginhealth.scoring.service.SchedulerLockService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the scheduled jobs on only one instance of the application at a time, when several instances share the same
+ * database.
+ * <p>
+ * Before running a job, the instance acquires the lock of the job in the {@link SchedulerLockService}. The other
+ * instances skip the job while the lock is held. The lock is extended while the job runs, and released once it is
+ * done, but not before {@link SchedulerLockConfiguration#minimumHold()}. When the instance stops while running a job,
+ * the lock expires after {@link SchedulerLockConfiguration#ttl()}, and the next schedule of the job runs on any
+ * instance.
+ */
+@Component
+@Profile("!web")
+public class ClusterJobLock implements DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClusterJobLock.class);
+
+    private final SchedulerLockService schedulerLockService;
+    private final SchedulerLockConfiguration configuration;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("scheduler-lock-heartbeat").daemon().factory());
+
+    public ClusterJobLock(SchedulerLockService schedulerLockService, SchedulerLockConfiguration configuration) {
+        this.schedulerLockService = schedulerLockService;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Runs the job when its lock can be acquired.
+     *
+     * @param name the name of the job
+     * @param job  the job to run
+     * @return true when the job ran on this instance, false when it is running, or just ran, on another instance
+     * @throws E when the job failed
+     */
+    public <E extends Exception> boolean runExclusively(String name, Job<E> job) throws E {
+        if (!schedulerLockService.tryAcquire(name, owner, configuration.ttl())) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(
+                        "Skipping {}, locked by {}",
+                        name,
+                        schedulerLockService.find(name).map(SchedulerLock::getLockedBy).orElse("unknown"));
+            }
+            return false;
+        }
+        final long period = Math.max(1, configuration.ttl().toMillis() / 3);
+        final ScheduledFuture<?> extension =
+                heartbeat.scheduleAtFixedRate(() -> extend(name), period, period, TimeUnit.MILLISECONDS);
+        try {
+            job.run();
+            return true;
+        } finally {
+            extension.cancel(false);
+            release(name);
+        }
+    }
+
+    /**
+     * @return the identifier of this instance in the locks it holds
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+    }
+
+    private void extend(String name) {
+        try {
+            if (!schedulerLockService.extend(name, owner, configuration.ttl())) {
+                LOGGER.warn("The lock of {} was taken over by another instance while the job was running", name);
+            }
+        } catch (Throwable t) {
+            LOGGER.warn("Could not extend the lock of {}", name, t);
+        }
+    }
+
+    private void release(String name) {
+        try {
+            schedulerLockService.release(name, owner, configuration.minimumHold());
+        } catch (Throwable t) {
+            LOGGER.warn("Could not release the lock of {}, it expires in {}", name, configuration.ttl(), t);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Job<E extends Exception> {
+        void run() throws E;
+    }
+}
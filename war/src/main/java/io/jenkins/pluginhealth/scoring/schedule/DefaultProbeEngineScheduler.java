@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2022-2025 Jenkins Infra
+ * Copyright (c) 2022-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,29 +25,25 @@ package io.jenkins.pluginhealth.scoring.schedule;
 
 import java.io.IOException;
 
-import io.jenkins.pluginhealth.scoring.probes.ProbeEngine;
-import io.jenkins.pluginhealth.scoring.scores.ScoringEngine;
-
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Component
-@Profile("production")
+@Profile("production & !web")
 public class DefaultProbeEngineScheduler {
-    private final ProbeEngine probeEngine;
-    private final ScoringEngine scoringEngine;
+    private final ProbeEngineRunner probeEngineRunner;
+    private final ClusterJobLock clusterJobLock;
 
-    public DefaultProbeEngineScheduler(ProbeEngine probeEngine, ScoringEngine scoringEngine) {
-        this.probeEngine = probeEngine;
-        this.scoringEngine = scoringEngine;
+    public DefaultProbeEngineScheduler(ProbeEngineRunner probeEngineRunner, ClusterJobLock clusterJobLock) {
+        this.probeEngineRunner = probeEngineRunner;
+        this.clusterJobLock = clusterJobLock;
     }
 
     @Async
     @Scheduled(cron = "${app.cron.probe-engine}", zone = "UTC")
     public void run() throws IOException {
-        probeEngine.run();
-        scoringEngine.run();
+        clusterJobLock.runExclusively("probe-engine", probeEngineRunner::run);
     }
 }
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -37,19 +37,26 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Component
-@Profile("production")
+@Profile("production & !web")
 public class DefaultUpdateCenterScheduler {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultUpdateCenterScheduler.class);
     private final UpdateCenterService updateCenterService;
     private final PluginService pluginService;
+    private final ClusterJobLock clusterJobLock;
 
-    public DefaultUpdateCenterScheduler(UpdateCenterService updateCenterService, PluginService pluginService) {
+    public DefaultUpdateCenterScheduler(
+            UpdateCenterService updateCenterService, PluginService pluginService, ClusterJobLock clusterJobLock) {
         this.updateCenterService = updateCenterService;
         this.pluginService = pluginService;
+        this.clusterJobLock = clusterJobLock;
     }
 
     @Async
     @Scheduled(cron = "${app.cron.update-center}", zone = "UTC")
+    public void run() throws IOException {
+        clusterJobLock.runExclusively("update-center", this::updateDatabase);
+    }
+
     public void updateDatabase() throws IOException {
         LOGGER.info("Updating plugins from update-center");
         updateCenterService.fetchUpdateCenter().plugins().values().stream()
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -28,23 +28,44 @@ import io.jenkins.pluginhealth.scoring.service.ScoreService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Component
+@Profile("!web")
 public class DeleteOldScoreScheduler {
     private static final Logger LOGGER = LoggerFactory.getLogger(DeleteOldScoreScheduler.class);
     private final ScoreService scoreService;
+    private final ClusterJobLock clusterJobLock;
 
-    public DeleteOldScoreScheduler(ScoreService scoreService) {
+    public DeleteOldScoreScheduler(ScoreService scoreService, ClusterJobLock clusterJobLock) {
         this.scoreService = scoreService;
+        this.clusterJobLock = clusterJobLock;
+    }
+
+    /*
+     * The scores table is partitioned once the application started, and the partitions of the next months are then
+     * created every night, before deleting the old scores.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preparePartitions() {
+        clusterJobLock.runExclusively("score-partitions", scoreService::preparePartitions);
     }
 
     @Scheduled(cron = "@midnight", zone = "UTC")
     public void deleteOldScores() {
+        clusterJobLock.runExclusively("delete-old-scores", this::deleteOldScoresExclusively);
+    }
+
+    private void deleteOldScoresExclusively() {
+        scoreService.preparePartitions();
+
         LOGGER.info("Deleting old scores");
 
-        int numberOfRowsDeleted  = scoreService.deleteOldScores();
+        int numberOfRowsDeleted = scoreService.deleteOldScores();
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Deleted {} rows when deleting old scores", numberOfRowsDeleted);
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2025 Jenkins Infra
+ * Copyright (c) 2025-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,33 +25,23 @@ package io.jenkins.pluginhealth.scoring.schedule;
 
 import java.io.IOException;
 
-import io.jenkins.pluginhealth.scoring.probes.ProbeEngine;
-import io.jenkins.pluginhealth.scoring.scores.ScoringEngine;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Component
-@Profile("dev")
+@Profile("dev & !web")
 public class DevProbeEngineScheduler {
-    private static final Logger LOGGER = LoggerFactory.getLogger(DevProbeEngineScheduler.class);
-
-    private final ProbeEngine probeEngine;
-    private final ScoringEngine scoringEngine;
+    private final ProbeEngineRunner probeEngineRunner;
 
-    public DevProbeEngineScheduler(ProbeEngine probeEngine, ScoringEngine scoringEngine) {
-        this.probeEngine = probeEngine;
-        this.scoringEngine = scoringEngine;
+    public DevProbeEngineScheduler(ProbeEngineRunner probeEngineRunner) {
+        this.probeEngineRunner = probeEngineRunner;
     }
 
     @Async
     @Scheduled(initialDelay = 20 * 1000 /* 20 secs after startup */, fixedDelay = 1000 * 60 * 90)
     public void run() throws IOException {
-        probeEngine.run();
-        scoringEngine.run();
+        probeEngineRunner.run();
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.schedule;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+
+import io.jenkins.pluginhealth.scoring.config.EngineConfiguration;
+import io.jenkins.pluginhealth.scoring.probes.ProbeEngine;
+import io.jenkins.pluginhealth.scoring.scores.ScoringEngine;
+import io.jenkins.pluginhealth.scoring.service.ProbeWorkQueueService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Starts a run of the probe engine and of the scoring engine, as configured, for the schedulers of each profile.
+ * <p>
+ * When {@link EngineConfiguration.Queue#enabled()} is set, the run is only enqueued, and the plugins are probed and
+ * scored by the {@link io.jenkins.pluginhealth.scoring.probes.ProbeWorker} of each instance. Otherwise, the plugins are
+ * probed by this instance, and scored as soon as their probe results are saved when
+ * {@link EngineConfiguration.Scoring#streaming()} is set, or all together once they are all probed.
+ */
+@Component
+@Profile("!web")
+public class ProbeEngineRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProbeEngineRunner.class);
+
+    private final ProbeEngine probeEngine;
+    private final ScoringEngine scoringEngine;
+    private final ProbeWorkQueueService probeWorkQueueService;
+    private final EngineConfiguration configuration;
+
+    public ProbeEngineRunner(
+            ProbeEngine probeEngine,
+            ScoringEngine scoringEngine,
+            ProbeWorkQueueService probeWorkQueueService,
+            EngineConfiguration configuration) {
+        this.probeEngine = probeEngine;
+        this.scoringEngine = scoringEngine;
+        this.probeWorkQueueService = probeWorkQueueService;
+        this.configuration = configuration;
+    }
+
+    public void run() throws IOException {
+        final EngineConfiguration.Queue queue = configuration.probe().queue();
+        if (queue != null && queue.enabled()) {
+            final EngineConfiguration.Cadence cadence = configuration.probe().cadence();
+            final int enqueued =
+                    probeWorkQueueService.enqueueRun(ZonedDateTime.now(), cadence != null && cadence.enabled());
+            LOGGER.info("Enqueued {} plugins in the probe engine work queue", enqueued);
+        } else if (configuration.scoring().streaming()) {
+            probeEngine.run(scoringEngine::runOn);
+        } else {
+            probeEngine.run();
+            scoringEngine.run();
+        }
+    }
+}
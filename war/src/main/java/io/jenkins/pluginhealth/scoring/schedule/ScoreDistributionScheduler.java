@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.schedule;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import io.jenkins.pluginhealth.scoring.service.ScoreDistributionService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("!web")
+public class ScoreDistributionScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScoreDistributionScheduler.class);
+    private static final String JOB = "score-distribution";
+    private final ScoreDistributionService scoreDistributionService;
+    private final ClusterJobLock clusterJobLock;
+
+    public ScoreDistributionScheduler(
+            ScoreDistributionService scoreDistributionService, ClusterJobLock clusterJobLock) {
+        this.scoreDistributionService = scoreDistributionService;
+        this.clusterJobLock = clusterJobLock;
+    }
+
+    /*
+     * Makes sure the data page has a distribution to present after the first deployment. The check is done while
+     * holding the lock, so the instances starting together do not compute it each in turn.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rollupIfMissing() {
+        clusterJobLock.runExclusively(JOB, () -> {
+            if (!scoreDistributionService.hasRollup(LocalDate.now(ZoneOffset.UTC))) {
+                rollupExclusively();
+            }
+        });
+    }
+
+    @Scheduled(cron = "@daily", zone = "UTC")
+    public void rollup() {
+        clusterJobLock.runExclusively(JOB, this::rollupExclusively);
+    }
+
+    private void rollupExclusively() {
+        final LocalDate day = LocalDate.now(ZoneOffset.UTC);
+        LOGGER.info("Computing the distribution of the scores of {}", day);
+        scoreDistributionService
+                .rollup(day)
+                .ifPresentOrElse(
+                        distribution -> LOGGER.info(
+                                "Distribution of {} computed, {} plugins with a median score of {}",
+                                day,
+                                distribution.getPlugins(),
+                                distribution.getMedian()),
+                        () -> LOGGER.info("No score to compute the distribution of {}", day));
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,17 +23,27 @@
  */
 package io.jenkins.pluginhealth.scoring.scores;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.Comparator;
-import java.util.EnumSet;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiConsumer;
-import java.util.function.BinaryOperator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
-import java.util.function.Supplier;
-import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Gatherers;
+import java.util.stream.Stream;
 
+import io.jenkins.pluginhealth.scoring.config.EngineConfiguration;
 import io.jenkins.pluginhealth.scoring.model.Plugin;
 import io.jenkins.pluginhealth.scoring.model.ProbeResult;
 import io.jenkins.pluginhealth.scoring.model.Score;
@@ -42,93 +52,321 @@ import io.jenkins.pluginhealth.scoring.service.PluginService;
 import io.jenkins.pluginhealth.scoring.service.ScoreService;
 import io.jenkins.pluginhealth.scoring.service.ScoringService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+/**
+ * Represents the entrypoint to compute the scores of the plugins.
+ * <p>
+ * When scoring all the plugins, they are processed in batches of {@link EngineConfiguration.Scoring#batchSize()}.
+ * The latest scores of a batch are fetched at once, the new scores are computed on the scoring executor and saved
+ * together.
+ * <p>
+ * A scoring is only applied again on a plugin when its version changed, or when the results of the probes it uses
+ * changed, since the latest score of the plugin. Otherwise, its result is reused from the latest score. The result of
+ * a {@link Scoring#isTimeDependent() time-dependent} scoring is only reused on the day the latest score was verified.
+ * <p>
+ * The numbers of the {@link RunSummary} of each run, and the duration of the last run, are recorded in the
+ * {@link MeterRegistry}.
+ */
 @Component
+@Profile("!web")
 public final class ScoringEngine {
     private static final Logger LOGGER = LoggerFactory.getLogger(ScoringEngine.class);
 
     private final ScoringService scoringService;
     private final PluginService pluginService;
     private final ScoreService scoreService;
+    private final EngineConfiguration configuration;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final AtomicBoolean fullRunRequired = new AtomicBoolean(true);
+    private final AtomicLong lastRunDuration = new AtomicLong();
+
+    @Autowired
+    public ScoringEngine(
+            ScoringService scoringService,
+            PluginService pluginService,
+            ScoreService scoreService,
+            EngineConfiguration configuration,
+            @Qualifier("scoringExecutor") Executor executor,
+            MeterRegistry meterRegistry) {
+        this(
+                scoringService,
+                pluginService,
+                scoreService,
+                configuration,
+                executor,
+                meterRegistry,
+                Clock.systemDefaultZone());
+    }
 
-    public ScoringEngine(ScoringService scoringService, PluginService pluginService, ScoreService scoreService) {
+    ScoringEngine(
+            ScoringService scoringService,
+            PluginService pluginService,
+            ScoreService scoreService,
+            EngineConfiguration configuration,
+            Executor executor,
+            MeterRegistry meterRegistry,
+            Clock clock) {
         this.scoringService = scoringService;
         this.pluginService = pluginService;
         this.scoreService = scoreService;
+        this.configuration = configuration;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+
+        TimeGauge.builder("scoring.engine.last.run.duration", lastRunDuration, TimeUnit.NANOSECONDS, AtomicLong::get)
+                .description("Duration of the last scoring of the plugins")
+                .register(meterRegistry);
     }
 
-    public void run() {
-        LOGGER.info("Start scoring all plugins");
-        pluginService.streamAll().forEach(this::runOn);
-        LOGGER.info("Score engine has finished");
+    /**
+     * Computes the score of the plugins registered in the database.
+     * <p>
+     * The first run visits all the plugins, as the scoring implementations could have changed since the plugins were
+     * last scored. The following runs only visit the {@link Plugin#isDirty() dirty} plugins, and, when a scoring is
+     * {@link Scoring#isTimeDependent() time-dependent}, the plugins whose latest score was verified before today.
+     *
+     * @return a summary of the run
+     */
+    public RunSummary run() {
+        final boolean fullRun = fullRunRequired.getAndSet(false);
+        final Stream<Plugin> plugins;
+        if (fullRun) {
+            LOGGER.info("Start scoring all plugins");
+            plugins = pluginService.streamAll();
+        } else if (scoringService.getScoringList().stream().anyMatch(Scoring::isTimeDependent)) {
+            LOGGER.info("Start scoring plugins which changed since their latest score, or were not scored today");
+            plugins = pluginService.streamDirtyOrNotScoredSince(ZonedDateTime.now(clock).truncatedTo(ChronoUnit.DAYS));
+        } else {
+            LOGGER.info("Start scoring plugins which changed since their latest score");
+            plugins = pluginService.streamDirty();
+        }
+        final long start = System.nanoTime();
+        final RunSummary summary = plugins.gather(Gatherers.windowFixed(configuration.scoring().batchSize()))
+                .map(this::runOn)
+                .reduce(RunSummary.EMPTY, RunSummary::add)
+                .withDuration(Duration.ofNanos(System.nanoTime() - start));
+        LOGGER.info(
+                "Score engine finished. {} plugins, {} scored, {} unchanged, {} reused results in {} ms ({} plugins/s)",
+                summary.plugins(),
+                summary.scored(),
+                summary.verified(),
+                summary.reused(),
+                summary.duration().toMillis(),
+                "%.1f".formatted(summary.throughput()));
+        record(summary);
+        return summary;
     }
 
+    /**
+     * Computes the score of a specific plugin, and marks it as scored.
+     * If the latest score of the plugin is still valid, it is returned as is.
+     * <p>
+     * This is also used to score each plugin as soon as its probes are executed, when
+     * {@link EngineConfiguration.Scoring#streaming()} is enabled.
+     *
+     * @param plugin the plugin to score
+     * @return the latest valid score of the plugin or {@code null} if it could not be saved
+     */
     public Score runOn(Plugin plugin) {
+        final Optional<Score> latestScore = scoreService.latestScoreFor(plugin);
+        final Evaluation evaluation = computeScore(plugin, latestScore, ZonedDateTime.now(clock));
+
+        try {
+            final List<Score> saved = scoreService.saveAll(
+                    evaluation.score().stream().toList(),
+                    evaluation.verified().stream().toList(),
+                    List.of(plugin));
+            return saved.isEmpty() ? latestScore.orElse(null) : saved.getFirst();
+        } catch (Throwable t) {
+            LOGGER.error("Could not save the score for {}", plugin.getName(), t);
+            return null;
+        }
+    }
+
+    private RunSummary runOn(List<Plugin> plugins) {
+        final Map<Plugin, Score> latestScores = scoreService.latestScoresFor(plugins);
+        final ZonedDateTime now = ZonedDateTime.now(clock);
+        final List<CompletableFuture<Evaluation>> futures = plugins.stream()
+                .map(plugin -> CompletableFuture.supplyAsync(
+                                () -> computeScore(plugin, Optional.ofNullable(latestScores.get(plugin)), now),
+                                executor)
+                        .exceptionally(t -> {
+                            LOGGER.error("Could not score {}", plugin.getName(), t);
+                            return null;
+                        }))
+                .toList();
+        final List<Evaluation> evaluations = futures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
+        final List<Score> scores = evaluations.stream()
+                .map(Evaluation::score)
+                .flatMap(Optional::stream)
+                .toList();
+        final List<Score> verified = evaluations.stream()
+                .map(Evaluation::verified)
+                .flatMap(Optional::stream)
+                .toList();
+        final long reused = evaluations.stream().mapToLong(Evaluation::reused).sum();
+
+        if (!evaluations.isEmpty()) {
+            try {
+                scoreService.saveAll(scores, verified, evaluations.stream().map(Evaluation::plugin).toList());
+            } catch (Throwable t) {
+                LOGGER.error("Could not save the scores of {} plugins", scores.size(), t);
+                return new RunSummary(plugins.size(), 0, 0, reused, Duration.ZERO);
+            }
+        }
+        return new RunSummary(plugins.size(), scores.size(), verified.size(), reused, Duration.ZERO);
+    }
+
+    /*
+     * Each evaluation of a plugin, from the runs on all the plugins or on a single one, is recorded as a ScoringEvent.
+     */
+    private Evaluation computeScore(Plugin plugin, Optional<Score> latestScore, ZonedDateTime now) {
+        final ScoringEvent event = new ScoringEvent();
+        event.begin();
+        final Evaluation evaluation = evaluate(plugin, latestScore, now);
+        event.end();
+        if (event.shouldCommit()) {
+            event.plugin = plugin.getName();
+            event.applied = scoringService.getScoringList().size() - evaluation.reused();
+            event.reused = evaluation.reused();
+            event.outcome = evaluation.score().isPresent()
+                    ? "NEW"
+                    : evaluation.verified().isPresent() ? "VERIFIED" : "UNCHANGED";
+            event.commit();
+        }
+        return evaluation;
+    }
+
+    /*
+     * Only the scorings whose version changed, or whose probe results changed since the latest score, are applied.
+     * The other results are reused from the latest score. When all of them can be reused, the latest score is still
+     * valid and the evaluation has no new score.
+     * When the scorings applied gave the same results as the latest score, the latest score is verified instead of
+     * creating a new one.
+     */
+    private Evaluation evaluate(Plugin plugin, Optional<Score> latestScore, ZonedDateTime now) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Scoring {}", plugin.getName());
         }
-        final Optional<ZonedDateTime> latestProbeResult = plugin.getDetails().values().stream()
-                .map(ProbeResult::timestamp)
-                .max(Comparator.naturalOrder());
-        final Optional<Score> latestScore = scoreService.latestScoreFor(plugin);
-        if (latestScore.isPresent()
-                && (latestProbeResult.isEmpty()
-                        || latestProbeResult.get().isBefore(latestScore.get().getComputedAt()))) {
-            final Score score = latestScore.get();
-            boolean scoringIsSame = scoringService.getScoringList().stream()
-                    .allMatch(scoring -> score.getDetails().stream()
-                            .filter(sr -> sr.key().equals(scoring.key()))
-                            .findFirst()
-                            .map(result -> scoring.version() == result.version())
-                            .orElseGet(() -> false));
-            if (scoringIsSame) {
-                LOGGER.debug("Previous score, computed at {} is still valid.", score.getComputedAt());
-                return score;
+        final List<Scoring> scorings = scoringService.getScoringList();
+        final Map<String, ScoreResult> previousResults = latestScore.stream()
+                .flatMap(score -> score.getDetails().stream())
+                .collect(Collectors.toMap(ScoreResult::key, Function.identity(), (a, b) -> a));
+
+        final List<ScoreResult> results = new ArrayList<>(scorings.size());
+        int reused = 0;
+        for (Scoring scoring : scorings) {
+            final ScoreResult previousResult = previousResults.get(scoring.key());
+            if (previousResult != null
+                    && isStillValid(plugin, scoring, previousResult, latestScore.get().getVerifiedAt(), now)) {
+                results.add(previousResult);
+                reused++;
+            } else {
+                results.add(scoring.apply(plugin));
             }
         }
 
-        Score score = this.scoringService.getScoringList().stream()
-                .map(scoring -> scoring.apply(plugin))
-                .collect(new Collector<ScoreResult, Score, Score>() {
-                    @Override
-                    public Supplier<Score> supplier() {
-                        return () -> new Score(plugin, ZonedDateTime.now());
-                    }
-
-                    @Override
-                    public BiConsumer<Score, ScoreResult> accumulator() {
-                        return Score::addDetail;
-                    }
-
-                    @Override
-                    public BinaryOperator<Score> combiner() {
-                        return (score1, score2) -> {
-                            for (ScoreResult res : score2.getDetails()) {
-                                score1.addDetail(res);
-                            }
-                            return score1;
-                        };
-                    }
-
-                    @Override
-                    public Function<Score, Score> finisher() {
-                        return Function.identity();
-                    }
-
-                    @Override
-                    public Set<Characteristics> characteristics() {
-                        return EnumSet.of(Characteristics.IDENTITY_FINISH, Characteristics.UNORDERED);
-                    }
-                });
+        if (latestScore.isPresent() && reused == scorings.size()) {
+            LOGGER.debug(
+                    "Previous score, verified at {} is still valid.",
+                    latestScore.get().getVerifiedAt());
+            return new Evaluation(plugin, Optional.empty(), Optional.empty(), reused);
+        }
+        final Score score = new Score(plugin, now);
+        results.forEach(score::addDetail);
+        if (latestScore.isPresent() && score.hasSameResultsAs(latestScore.get())) {
+            LOGGER.debug("Score of {} did not change since {}", plugin.getName(), latestScore.get().getComputedAt());
+            return new Evaluation(plugin, Optional.empty(), Optional.of(latestScore.get().setVerifiedAt(now)), reused);
+        }
+        return new Evaluation(plugin, Optional.of(score), Optional.empty(), reused);
+    }
 
-        try {
-            return scoreService.save(score);
-        } catch (Throwable t) {
-            LOGGER.error("Could not save the score for {}", score.getPlugin().getName(), t);
-            return null;
+    private void record(RunSummary summary) {
+        lastRunDuration.set(summary.duration().toNanos());
+        meterRegistry.counter("scoring.engine.plugins").increment(summary.plugins());
+        meterRegistry.counter("scoring.engine.scores", "result", "new").increment(summary.scored());
+        meterRegistry.counter("scoring.engine.scores", "result", "verified").increment(summary.verified());
+        meterRegistry.counter("scoring.engine.reused.results").increment(summary.reused());
+    }
+
+    private boolean isStillValid(
+            Plugin plugin, Scoring scoring, ScoreResult previousResult, ZonedDateTime verifiedAt, ZonedDateTime now) {
+        if (scoring.version() != previousResult.version()) {
+            return false;
+        }
+        if (scoring.isTimeDependent()
+                && verifiedAt.withZoneSameInstant(now.getZone()).toLocalDate().isBefore(now.toLocalDate())) {
+            return false;
+        }
+        if (scoring.usesReleaseTimestamp()
+                && plugin.getReleaseTimestamp() != null
+                && !plugin.getReleaseTimestamp().isBefore(verifiedAt)) {
+            return false;
+        }
+        // A probe result in error is removed from the plugin, which changes the inputs of the scoring as well
+        final ZonedDateTime removedAt = plugin.getProbeResultsRemovedAt();
+        final boolean removedSince = removedAt != null && !removedAt.isBefore(verifiedAt);
+        final Map<String, ProbeResult> details = plugin.getDetails();
+        final Set<String> probeKeys = scoring.probeKeys();
+        if (probeKeys.isEmpty()) {
+            return !removedSince
+                    && details.values().stream().allMatch(result -> result.timestamp().isBefore(verifiedAt));
+        }
+        return probeKeys.stream()
+                .map(details::get)
+                .allMatch(result -> result == null ? !removedSince : result.timestamp().isBefore(verifiedAt));
+    }
+
+    /*
+     * The new score of a plugin, if its latest score is not valid anymore, or its latest score if it was computed again
+     * with the same results, and the number of scoring results which could be reused from the latest score.
+     */
+    private record Evaluation(Plugin plugin, Optional<Score> score, Optional<Score> verified, int reused) {}
+
+    /**
+     * Summary of a {@link ScoringEngine#run()}.
+     *
+     * @param plugins  number of plugins processed
+     * @param scored   number of new scores saved
+     * @param verified number of scores computed again with the same results, which were verified instead of saved
+     * @param reused   number of scoring results reused from the latest scores instead of applying the scoring again
+     * @param duration time spent to score all the plugins
+     */
+    public record RunSummary(long plugins, long scored, long verified, long reused, Duration duration) {
+        static final RunSummary EMPTY = new RunSummary(0, 0, 0, 0, Duration.ZERO);
+
+        RunSummary add(RunSummary other) {
+            return new RunSummary(
+                    plugins + other.plugins,
+                    scored + other.scored,
+                    verified + other.verified,
+                    reused + other.reused,
+                    duration.plus(other.duration));
+        }
+
+        RunSummary withDuration(Duration duration) {
+            return new RunSummary(plugins, scored, verified, reused, duration);
+        }
+
+        /**
+         * @return the number of plugins processed per second
+         */
+        public double throughput() {
+            return duration.isZero() ? 0 : plugins * 1_000_000_000d / duration.toNanos();
         }
     }
 }
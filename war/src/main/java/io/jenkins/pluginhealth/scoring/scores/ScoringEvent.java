@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.scores;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of the computation of the score of a plugin by the {@link ScoringEngine}.
+ * It is disabled by default, and enabled by the {@code plugin-health-scoring.jfc} settings.
+ */
+@Name("io.jenkins.pluginhealth.scoring.Scoring")
+@Label("Plugin Scoring")
+@Description("Computation of the score of a plugin")
+@Category({"Plugin Health Scoring", "Scoring"})
+@Enabled(false)
+@StackTrace(false)
+final class ScoringEvent extends Event {
+    @Label("Plugin")
+    String plugin;
+
+    @Label("Applied Scorings")
+    int applied;
+
+    @Label("Reused Results")
+    @Description("Number of scoring results reused from the latest score of the plugin")
+    int reused;
+
+    @Label("Outcome")
+    @Description("NEW when a new score was computed, VERIFIED when it had the same results as the latest score, or "
+            + "UNCHANGED when the latest score was still valid")
+    String outcome;
+}
@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.service;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+/**
+ * Accounts for the requests sent to the GitHub API, and the rate limits reported by its responses.
+ * <p>
+ * Each request is attributed to the probe and plugin set by {@link #attribute(String, String)} on the thread sending
+ * it, and counted in the {@code github.api.requests} counter, by probe and {@link Outcome}. Only the requests with
+ * the {@link Outcome#NETWORK} or {@link Outcome#FAILED} outcomes use the rate limit: the responses served from the
+ * HTTP cache, even after a conditional request answered with {@code 304 Not Modified}, do not.
+ * <p>
+ * The latest rate limit of each GitHub API resource is kept, so it can be known without calling the API.
+ */
+@Service
+public class GitHubUsageService {
+    static final String UNATTRIBUTED = "none";
+    private static final Attribution NO_ATTRIBUTION = new Attribution(UNATTRIBUTED, UNATTRIBUTED);
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<Attribution> attribution = ThreadLocal.withInitial(() -> NO_ATTRIBUTION);
+    private final Map<String, RateLimit> rateLimits = new ConcurrentHashMap<>();
+    private volatile Failure lastFailure;
+
+    public GitHubUsageService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Attributes the requests sent to the GitHub API by the current thread to a probe and a plugin, until the returned
+     * scope is closed.
+     *
+     * @param probe  the key of the probe sending the requests
+     * @param plugin the name of the plugin the probe is executed on
+     * @return the scope of the attribution, which restores the previous one when closed
+     */
+    public Scope attribute(String probe, String plugin) {
+        final Attribution previous = attribution.get();
+        attribution.set(new Attribution(probe, plugin));
+        return () -> attribution.set(previous);
+    }
+
+    /**
+     * @return the probe and plugin to which the requests sent by the current thread are attributed
+     */
+    public Attribution currentAttribution() {
+        return attribution.get();
+    }
+
+    /**
+     * Records a request sent to the GitHub API by the current thread.
+     *
+     * @param outcome   how the request was answered
+     * @param rateLimit the rate limit reported by the GitHub API in its response, or {@code null} when it was not
+     *                  reported, or the response was served from the HTTP cache without reaching the API
+     */
+    public void record(Outcome outcome, RateLimit rateLimit) {
+        count(outcome);
+        if (outcome != Outcome.CACHED) {
+            lastFailure = null;
+        }
+        keep(rateLimit);
+    }
+
+    /**
+     * Records a request to the GitHub API, sent by the current thread, which was answered with an error status.
+     *
+     * @param status    the HTTP status of the response
+     * @param rateLimit the rate limit reported by the GitHub API in its response, or {@code null} when it was not
+     *                  reported
+     */
+    public void recordFailure(int status, RateLimit rateLimit) {
+        count(Outcome.FAILED);
+        lastFailure = new Failure("HTTP " + status, Instant.now());
+        keep(rateLimit);
+    }
+
+    /**
+     * Records a request to the GitHub API, sent by the current thread, which failed before a response was received.
+     *
+     * @param error the reason of the failure
+     */
+    public void recordFailure(Throwable error) {
+        count(Outcome.ERROR);
+        lastFailure = new Failure(error.getClass().getName() + ": " + error.getMessage(), Instant.now());
+    }
+
+    /**
+     * @param resource the GitHub API resource, such as {@code core}, {@code search} or {@code graphql}
+     * @return the latest rate limit reported by the GitHub API for the resource, or empty if no response reported it
+     *     yet
+     */
+    public Optional<RateLimit> getRateLimit(String resource) {
+        return Optional.ofNullable(rateLimits.get(resource));
+    }
+
+    /**
+     * @return the failure of the last request to the GitHub API, or empty if it succeeded, or no request was sent yet
+     */
+    public Optional<Failure> getLastFailure() {
+        return Optional.ofNullable(lastFailure);
+    }
+
+    private void keep(RateLimit rateLimit) {
+        if (rateLimit != null) {
+            if (rateLimits.put(rateLimit.resource(), rateLimit) == null) {
+                registerGauges(rateLimit.resource());
+            }
+        }
+    }
+
+    private void count(Outcome outcome) {
+        meterRegistry
+                .counter(
+                        "github.api.requests",
+                        "probe",
+                        attribution.get().probe(),
+                        "outcome",
+                        outcome.name().toLowerCase(Locale.ROOT))
+                .increment();
+    }
+
+    private void registerGauges(String resource) {
+        Gauge.builder("github.rate.limit.remaining", rateLimits, limits -> limits.get(resource).remaining())
+                .description("Number of requests remaining in the current rate limit window of the GitHub API")
+                .tag("resource", resource)
+                .register(meterRegistry);
+        Gauge.builder("github.rate.limit.limit", rateLimits, limits -> limits.get(resource).limit())
+                .description("Maximum number of requests in a rate limit window of the GitHub API")
+                .tag("resource", resource)
+                .register(meterRegistry);
+    }
+
+    /**
+     * How a request to the GitHub API was answered.
+     */
+    public enum Outcome {
+        /**
+         * Answered by the GitHub API, using the rate limit.
+         */
+        NETWORK,
+        /**
+         * Answered by the GitHub API with {@code 304 Not Modified} to a conditional request, and served from the HTTP
+         * cache, without using the rate limit.
+         */
+        NOT_MODIFIED,
+        /**
+         * Served from the HTTP cache without reaching the GitHub API.
+         */
+        CACHED,
+        /**
+         * Answered by the GitHub API with an error status, such as {@code 403 Forbidden} when the rate limit is
+         * exceeded, or a server error.
+         */
+        FAILED,
+        /**
+         * Failed before a response was received.
+         */
+        ERROR
+    }
+
+    public record Attribution(String probe, String plugin) {}
+
+    /**
+     * @param resource  the GitHub API resource the rate limit applies to
+     * @param limit     the maximum number of requests in a rate limit window
+     * @param remaining the number of requests remaining in the current window
+     * @param reset     when the current window ends
+     */
+    public record RateLimit(String resource, long limit, long remaining, Instant reset) {}
+
+    /**
+     * @param error the reason of the failure
+     * @param at    when the request failed
+     */
+    public record Failure(String error, Instant at) {}
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
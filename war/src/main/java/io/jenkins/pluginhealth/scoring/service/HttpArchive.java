@@ -0,0 +1,289 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.jenkins.pluginhealth.scoring.config.HttpArchiveConfiguration;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.errors.ConfigInvalidException;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.storage.file.FileBasedConfig;
+import org.eclipse.jgit.util.FS;
+import org.eclipse.jgit.util.FileUtils;
+import org.eclipse.jgit.util.SystemReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Records the responses received from the GitHub API, the update-center and the plugin documentation links in an
+ * archive, and replays them, so that the probe engine can be executed offline, deterministically.
+ * <p>
+ * Each response is stored in its own file of the {@link HttpArchiveConfiguration#directory()}, named after the method
+ * and the URL of its request. When the same request is sent several times while recording, its last response is kept.
+ * <p>
+ * The files downloaded with the {@link HttpClient} go through {@link #open(URI)}, and the requests sent to the GitHub
+ * API through an OkHttp interceptor using {@link #replay(String, String)} and {@link #record(Entry)}.
+ * <p>
+ * The repositories cloned by the probe engine are recorded with {@link #recordRepository(String, Path)}, as bare
+ * repositories in the {@code repositories} folder of the archive. When replaying, the clones of the repositories are
+ * redirected to them, like the {@code url.<base>.insteadOf} option of the user Git configuration would, and the clones
+ * of the repositories which were not recorded fail. As JGit reads this configuration from its global
+ * {@link SystemReader}, the redirection applies to the whole JVM until the archive is destroyed, which restores the
+ * previous reader.
+ */
+@Service
+public class HttpArchive implements DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpArchive.class);
+    private static final String REPOSITORIES = "repositories";
+    private static final String URL_SECTION = "pluginhealth";
+
+    private final HttpArchiveConfiguration configuration;
+    private final ObjectMapper objectMapper;
+    private SystemReader previousSystemReader;
+    private Path userConfigFile;
+
+    public HttpArchive(HttpArchiveConfiguration configuration, ObjectMapper objectMapper) {
+        this.configuration = configuration;
+        this.objectMapper = objectMapper;
+        if (configuration.mode() != HttpArchiveConfiguration.Mode.OFF) {
+            LOGGER.info(
+                    "HTTP responses are {} in {}",
+                    configuration.mode() == HttpArchiveConfiguration.Mode.RECORD ? "recorded" : "replayed",
+                    configuration.directory().toAbsolutePath());
+        }
+        if (configuration.mode() == HttpArchiveConfiguration.Mode.REPLAY) {
+            replayRepositories();
+        }
+    }
+
+    public HttpArchiveConfiguration.Mode getMode() {
+        return configuration.mode();
+    }
+
+    /**
+     * Downloads a file with a {@code GET} request, recording or replaying its response depending on the mode.
+     *
+     * @param uri the location of the file
+     * @return the content of the file
+     * @throws FileNotFoundException when replaying, if no response was recorded for the URI
+     */
+    public InputStream open(URI uri) throws IOException {
+        if (configuration.mode() == HttpArchiveConfiguration.Mode.REPLAY) {
+            return replay("GET", uri.toString())
+                    .map(entry -> new ByteArrayInputStream(entry.body()))
+                    .orElseThrow(() -> new FileNotFoundException("No recorded response for GET " + uri));
+        }
+        try (HttpClient client = HttpClient.newBuilder().build()) {
+            final HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+            if (configuration.mode() == HttpArchiveConfiguration.Mode.OFF) {
+                return client.send(request, HttpResponse.BodyHandlers.ofInputStream()).body();
+            }
+            final HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            record(new Entry(
+                    "GET", uri.toString(), response.statusCode(), response.headers().map(), response.body()));
+            return new ByteArrayInputStream(response.body());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while downloading " + uri, e);
+        }
+    }
+
+    /**
+     * Finds the response recorded for a request, after waiting for the configured latency.
+     *
+     * @param method the method of the request
+     * @param url    the URL of the request, with its query
+     * @return the recorded response, or empty when none was recorded for this request
+     */
+    public Optional<Entry> replay(String method, String url) throws IOException {
+        final Path file = file(method, url);
+        if (!Files.exists(file)) {
+            LOGGER.warn("No recorded response for {} {}", method, url);
+            return Optional.empty();
+        }
+        try {
+            final Entry entry = objectMapper.readValue(file.toFile(), Entry.class);
+            if (configuration.latency().isPositive()) {
+                Thread.sleep(configuration.latency());
+            }
+            return Optional.of(entry);
+        } catch (JacksonException e) {
+            throw new IOException("Could not read the recorded response in " + file, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while replaying " + method + " " + url, e);
+        }
+    }
+
+    /**
+     * Records a response in the archive, replacing the one previously recorded for the same request.
+     *
+     * @param entry the request and its response
+     */
+    public void record(Entry entry) {
+        final Path file = file(entry.method(), entry.url());
+        try {
+            Files.createDirectories(file.getParent());
+            objectMapper.writeValue(file.toFile(), entry);
+        } catch (IOException | JacksonException e) {
+            LOGGER.warn("Could not record the response of {} {}", entry.method(), entry.url(), e);
+        }
+    }
+
+    /**
+     * Keeps a copy of a cloned repository in the archive, replacing the one previously recorded for the same URL, so
+     * that it is cloned from the archive when replaying.
+     *
+     * @param url   the URL the repository was cloned from
+     * @param clone the folder of the clone
+     */
+    public void recordRepository(String url, Path clone) {
+        final Path bare = configuration.directory().resolve(REPOSITORIES).resolve(hash(url) + ".git");
+        try {
+            FileUtils.delete(bare.toFile(), FileUtils.RECURSIVE | FileUtils.SKIP_MISSING);
+            try (Git git = Git.cloneRepository()
+                    .setBare(true)
+                    .setURI(clone.toUri().toString())
+                    .setDirectory(bare.toFile())
+                    .call()) {
+                final StoredConfig config = git.getRepository().getConfig();
+                config.setString(URL_SECTION, null, "url", url);
+                config.save();
+            }
+        } catch (IOException | GitAPIException e) {
+            LOGGER.warn("Could not record the repository {}", url, e);
+        }
+    }
+
+    /*
+     * The redirections are written in a Git configuration file, used as the user configuration of JGit. As the longest
+     * matching prefix is the one applied, the recorded repositories take precedence over the catch-all redirection of
+     * the HTTPS URLs to a folder which does not exist.
+     */
+    private void replayRepositories() {
+        final Path repositories = configuration.directory().resolve(REPOSITORIES).toAbsolutePath();
+        try {
+            userConfigFile = Files.createTempFile("gitconfig", "");
+            final FileBasedConfig userConfig = new FileBasedConfig(null, userConfigFile.toFile(), FS.DETECTED);
+            userConfig.setString("url", repositories.resolve("unrecorded").toUri() + "/", "insteadOf", "https://");
+            if (Files.isDirectory(repositories)) {
+                try (Stream<Path> recorded = Files.list(repositories)) {
+                    for (Path repository : recorded.toList()) {
+                        final FileBasedConfig config =
+                                new FileBasedConfig(repository.resolve("config").toFile(), FS.DETECTED);
+                        config.load();
+                        final String url = config.getString(URL_SECTION, null, "url");
+                        if (url != null) {
+                            userConfig.setString("url", repository.toUri().toString(), "insteadOf", url);
+                        }
+                    }
+                }
+            }
+            userConfig.save();
+            previousSystemReader = SystemReader.getInstance();
+            SystemReader.setInstance(new ArchivedRepositoriesSystemReader(previousSystemReader, userConfig));
+        } catch (IOException | ConfigInvalidException e) {
+            throw new IllegalStateException("Could not redirect the clones to the repositories in " + repositories, e);
+        }
+    }
+
+    /**
+     * Stops redirecting the clones to the recorded repositories, by restoring the {@link SystemReader} used before the
+     * archive was created.
+     */
+    @Override
+    public void destroy() throws IOException {
+        if (previousSystemReader != null) {
+            SystemReader.setInstance(previousSystemReader);
+            previousSystemReader = null;
+        }
+        if (userConfigFile != null) {
+            Files.deleteIfExists(userConfigFile);
+            userConfigFile = null;
+        }
+    }
+
+    private Path file(String method, String url) {
+        return configuration.directory().resolve(hash(method + " " + url) + ".json");
+    }
+
+    private static String hash(String value) {
+        try {
+            return HexFormat.of()
+                    .formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ArchivedRepositoriesSystemReader extends SystemReader.Delegate {
+        private final FileBasedConfig userConfig;
+
+        private ArchivedRepositoriesSystemReader(SystemReader delegate, FileBasedConfig userConfig) {
+            super(delegate);
+            this.userConfig = userConfig;
+        }
+
+        @Override
+        public StoredConfig getUserConfig() {
+            return userConfig;
+        }
+    }
+
+    /**
+     * A request and its recorded response.
+     *
+     * @param method  the method of the request
+     * @param url     the URL of the request, with its query
+     * @param status  the status code of the response
+     * @param headers the headers of the response
+     * @param body    the body of the response
+     */
+    public record Entry(String method, String url, int status, Map<String, List<String>> headers, byte[] body) {}
+}
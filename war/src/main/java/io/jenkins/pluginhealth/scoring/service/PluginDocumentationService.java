@@ -27,9 +27,6 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -47,25 +44,19 @@ public class PluginDocumentationService {
 
     private final ObjectMapper objectMapper;
     private final ApplicationConfiguration configuration;
+    private final HttpArchive httpArchive;
 
-    public PluginDocumentationService(ObjectMapper objectMapper, ApplicationConfiguration configuration) {
+    public PluginDocumentationService(
+            ObjectMapper objectMapper, ApplicationConfiguration configuration, HttpArchive httpArchive) {
         this.objectMapper = objectMapper;
         this.configuration = configuration;
+        this.httpArchive = httpArchive;
     }
 
     private InputStream getDataStream(String source) throws IOException {
         var uri = URI.create(source);
         return switch (uri.getScheme()) {
-            case "http", "https" -> {
-                try (HttpClient client = HttpClient.newBuilder().build()) {
-                    HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
-                    HttpResponse<InputStream> response =
-                            client.send(request, HttpResponse.BodyHandlers.ofInputStream());
-                    yield response.body();
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
-            }
+            case "http", "https" -> httpArchive.open(uri);
             case "file", "content" -> { // This should only be for tests
                 yield new FileInputStream(uri.getPath());
             }
@@ -27,13 +27,14 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 
 import io.jenkins.pluginhealth.scoring.config.ApplicationConfiguration;
 import io.jenkins.pluginhealth.scoring.model.updatecenter.UpdateCenter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import org.springframework.stereotype.Service;
 import tools.jackson.databind.ObjectMapper;
 
@@ -41,25 +42,27 @@ import tools.jackson.databind.ObjectMapper;
 public class UpdateCenterService {
     private final ObjectMapper objectMapper;
     private final ApplicationConfiguration configuration;
+    private final HttpArchive httpArchive;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
 
-    public UpdateCenterService(ObjectMapper objectMapper, ApplicationConfiguration configuration) {
+    public UpdateCenterService(
+            ObjectMapper objectMapper,
+            ApplicationConfiguration configuration,
+            HttpArchive httpArchive,
+            MeterRegistry meterRegistry,
+            Tracer tracer) {
         this.objectMapper = objectMapper;
         this.configuration = configuration;
+        this.httpArchive = httpArchive;
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
     }
 
     private InputStream getDataStream(String source) throws IOException {
         var uri = URI.create(source);
         return switch (uri.getScheme()) {
-            case "http", "https" -> {
-                try (HttpClient client = HttpClient.newBuilder().build()) {
-                    HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
-                    HttpResponse<InputStream> response =
-                            client.send(request, HttpResponse.BodyHandlers.ofInputStream());
-                    yield response.body();
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
-            }
+            case "http", "https" -> httpArchive.open(uri);
             case "file", "content" -> { // This should only be for tests
                 yield new FileInputStream(uri.getPath());
             }
@@ -69,6 +72,23 @@ public class UpdateCenterService {
     }
 
     public UpdateCenter fetchUpdateCenter() throws IOException {
-        return objectMapper.readValue(getDataStream(configuration.jenkins().updateCenter()), UpdateCenter.class);
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        final Span span = tracer.nextSpan().name("update-center.fetch").start();
+        String outcome = "failure";
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            final UpdateCenter updateCenter =
+                    objectMapper.readValue(getDataStream(configuration.jenkins().updateCenter()), UpdateCenter.class);
+            outcome = "success";
+            return updateCenter;
+        } catch (IOException | RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("update-center.fetch")
+                    .description("Download and parsing of the update-center")
+                    .tag("result", outcome)
+                    .register(meterRegistry));
+            span.tag("result", outcome).end();
+        }
     }
 }
@@ -1,8 +1,9 @@
 import * as echarts from 'echarts/core';
-import {BarChart} from 'echarts/charts';
+import {BarChart, LineChart} from 'echarts/charts';
 import {
   DatasetComponent,
   GridComponent,
+  LegendComponent,
   MarkLineComponent,
   TitleComponent,
   TooltipComponent,
@@ -15,6 +16,8 @@ echarts.use([
   DatasetComponent,
   GridComponent,
   LabelLayout,
+  LegendComponent,
+  LineChart,
   MarkLineComponent,
   SVGRenderer,
   TitleComponent,
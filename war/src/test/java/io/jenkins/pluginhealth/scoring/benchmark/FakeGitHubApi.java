@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for the GitHub API, answering the requests sent by the probes for any repository.
+ * <p>
+ * Every repository exists, has no open pull request, no commit status and no check run. One repository out of fifty
+ * is archived. Any other request is answered with a {@code 404}, like GitHub does for unknown resources.
+ */
+final class FakeGitHubApi implements AutoCloseable {
+    private static final Pattern REPOSITORY = Pattern.compile("/repos/(?<owner>[^/]+)/(?<name>[^/]+)(?<resource>/.*)?");
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder requests = new LongAdder();
+
+    FakeGitHubApi() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String getUrl() {
+        return "http://%s:%d".formatted(server.getAddress().getHostString(), server.getAddress().getPort());
+    }
+
+    long getRequests() {
+        return requests.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        final String body = respond(exchange.getRequestURI().getPath());
+        final byte[] bytes = (body == null ? "{\"message\":\"Not Found\"}" : body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.getResponseHeaders().add("X-RateLimit-Resource", "core");
+        exchange.getResponseHeaders().add("X-RateLimit-Limit", "5000");
+        exchange.getResponseHeaders().add("X-RateLimit-Remaining", "4999");
+        exchange.getResponseHeaders()
+                .add("X-RateLimit-Reset", String.valueOf(Instant.now().plus(1, ChronoUnit.HOURS).getEpochSecond()));
+        exchange.sendResponseHeaders(body == null ? 404 : 200, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private String respond(String path) {
+        final Matcher matcher = REPOSITORY.matcher(path);
+        if (!matcher.matches()) {
+            return null;
+        }
+        final String resource = matcher.group("resource") == null ? "" : matcher.group("resource");
+        if (resource.isEmpty()) {
+            return repository(matcher.group("owner"), matcher.group("name"));
+        }
+        if (resource.equals("/pulls") || resource.startsWith("/statuses/")) {
+            return "[]";
+        }
+        if (resource.startsWith("/commits/") && resource.endsWith("/check-runs")) {
+            return "{\"total_count\":0,\"check_runs\":[]}";
+        }
+        if (resource.startsWith("/commits/") && resource.endsWith("/status")) {
+            return "{\"state\":\"success\",\"total_count\":0,\"statuses\":[]}";
+        }
+        return null;
+    }
+
+    private String repository(String owner, String name) {
+        final String fullName = owner + "/" + name;
+        return """
+                {
+                  "id": %d,
+                  "name": "%s",
+                  "full_name": "%s",
+                  "owner": {"login": "%s", "type": "Organization"},
+                  "default_branch": "main",
+                  "archived": %b,
+                  "html_url": "https://github.com/%3$s",
+                  "url": "%s/repos/%3$s"
+                }
+                """
+                .formatted(
+                        Math.abs(fullName.hashCode()),
+                        name,
+                        fullName,
+                        owner,
+                        Math.floorMod(fullName.hashCode(), 50) == 0,
+                        getUrl());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+}
@@ -0,0 +1,497 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+
+import io.jenkins.pluginhealth.scoring.AbstractDBContainerTest;
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+import io.jenkins.pluginhealth.scoring.model.Score;
+import io.jenkins.pluginhealth.scoring.model.ScoreResult;
+import io.jenkins.pluginhealth.scoring.model.ScoringComponentResult;
+import io.jenkins.pluginhealth.scoring.service.PluginService;
+import io.jenkins.pluginhealth.scoring.service.ScoreDistributionService;
+import io.jenkins.pluginhealth.scoring.service.ScoreService;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import hudson.util.VersionNumber;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures the request rate the public read endpoints can sustain, on a database seeded with synthetic plugins and
+ * scores.
+ * <p>
+ * The endpoints, the number of plugins, the number of concurrent clients and the duration of each measure are read
+ * from a scenario file, {@code load-test/scenario.json} by default. Each endpoint is loaded on its own, after a
+ * warm-up, so the throughput, the latency percentiles and the saturation of the database connection pool can be
+ * attributed to it. In the path and the form of an endpoint, {@code {plugin}} is replaced by the name of a random
+ * plugin, {@code {score}} by a random score value and {@code {query}} by a random search query.
+ * <p>
+ * The results are printed, and written in {@code target/load-test-<plugins>.json}. The throughput and the 99th
+ * percentile of each endpoint are compared with the reference report of the same number of plugins,
+ * {@code load-test/load-test-<plugins>.json}, or with the report given with {@code benchmark.baseline}. With
+ * {@code benchmark.update-baseline}, the results replace the reference report in {@code src/test/resources}.
+ * Otherwise, the test fails when the reference report is missing, or has an endpoint without any request, as a
+ * regression could not be noticed.
+ * <p>
+ * Run with {@code mvn -pl war verify -Dit.test=LoadTestIT -Dbenchmark=true}, and
+ * {@code -Dbenchmark.scenario=<file>}, {@code -Dbenchmark.baseline=<file>} or {@code -Dbenchmark.update-baseline=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoadTestIT extends AbstractDBContainerTest {
+    private static final int SEED_BATCH_SIZE = 500;
+    private static final int PROBE_RESULTS = 30;
+    private static final List<String> SCORINGS = List.of(
+            "adoption",
+            "deprecation",
+            "documentation",
+            "repository-configuration",
+            "security",
+            "spotbugs",
+            "update-center-plugin-publication");
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Duration SAMPLING_INTERVAL = Duration.ofMillis(50);
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private PluginService pluginService;
+
+    @Autowired
+    private ScoreService scoreService;
+
+    @Autowired
+    private ScoreDistributionService scoreDistributionService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void readEndpoints() throws Exception {
+        final Scenario scenario = readScenario();
+        seed(scenario.plugins());
+
+        final HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .cookieHandler(new CookieManager())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        final String csrfToken = csrfToken(client);
+        final HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+
+        final List<EndpointReport> reports = new ArrayList<>();
+        for (Endpoint endpoint : scenario.endpoints()) {
+            final Load load = new Load(client, endpoint, scenario.plugins(), csrfToken);
+            load.run(scenario.concurrency(), scenario.warmup(), null);
+            final PoolSampler sampler = new PoolSampler(pool.getHikariPoolMXBean(), pool.getMaximumPoolSize());
+            final Latencies latencies = load.run(scenario.concurrency(), scenario.duration(), sampler);
+            reports.add(report(endpoint, scenario, latencies, sampler));
+        }
+
+        final String report = "load-test-%d.json".formatted(scenario.plugins());
+        jsonMapper.writeValue(Path.of("target", report).toFile(), reports);
+        final List<EndpointReport> baseline = readBaseline(report);
+        compare(reports, baseline);
+        final boolean updateBaseline = Boolean.getBoolean("benchmark.update-baseline");
+        if (updateBaseline) {
+            jsonMapper
+                    .writerWithDefaultPrettyPrinter()
+                    .writeValue(Path.of("src", "test", "resources", "load-test", report).toFile(), reports);
+        }
+        assertThat(reports).allSatisfy(endpointReport -> assertThat(endpointReport.errors()).isZero());
+        if (!updateBaseline) {
+            assertThat(baseline)
+                    .as("reference report %s, created with -Dbenchmark.update-baseline=true", report)
+                    .isNotEmpty()
+                    .allSatisfy(before -> assertThat(before.requests())
+                            .as("requests of %s in the reference report", before.endpoint())
+                            .isPositive());
+        }
+    }
+
+    private Scenario readScenario() throws IOException {
+        final String file = System.getProperty("benchmark.scenario");
+        if (file != null) {
+            return jsonMapper.readValue(Path.of(file).toFile(), Scenario.class);
+        }
+        try (InputStream scenario = getClass().getResourceAsStream("/load-test/scenario.json")) {
+            return jsonMapper.readValue(scenario, Scenario.class);
+        }
+    }
+
+    /*
+     * Each plugin has as many probe results as a real one, and a score from each scoring implementation.
+     */
+    private void seed(int plugins) {
+        final long start = System.nanoTime();
+        final ZonedDateTime now = ZonedDateTime.now();
+        for (int first = 0; first < plugins; first += SEED_BATCH_SIZE) {
+            final List<Plugin> batch = IntStream.range(first, Math.min(plugins, first + SEED_BATCH_SIZE))
+                    .mapToObj(i -> plugin(i, now))
+                    .toList();
+            pluginService.saveOrUpdateAll(batch);
+            scoreService.saveAll(batch.stream().map(plugin -> score(plugin, now)).toList(), List.of(), batch);
+        }
+        scoreDistributionService.rollup(LocalDate.now());
+        System.out.printf(
+                "load-test seeding plugins=%d duration=%.1fs%n", plugins, (System.nanoTime() - start) / 1e9);
+    }
+
+    private static Plugin plugin(int i, ZonedDateTime now) {
+        final Plugin plugin = new Plugin(
+                pluginName(i), new VersionNumber("1." + i), "https://github.com/jenkinsci/load-test-" + i, now);
+        for (int probe = 0; probe < PROBE_RESULTS; probe++) {
+            plugin.addDetails(ProbeResult.success("probe-" + probe, "message ".repeat(25) + probe, 1));
+        }
+        return plugin;
+    }
+
+    private static Score score(Plugin plugin, ZonedDateTime now) {
+        final Score score = new Score(plugin, now);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (String scoring : SCORINGS) {
+            final int value = random.nextInt(101);
+            score.addDetail(new ScoreResult(
+                    scoring,
+                    value,
+                    1,
+                    Set.of(
+                            new ScoringComponentResult(
+                                    value, 1, List.of("The plugin is %d%% healthy.".formatted(value))),
+                            new ScoringComponentResult(100, 0.5f, List.of("The plugin has no issue."))),
+                    1));
+        }
+        return score;
+    }
+
+    private static String pluginName(int i) {
+        return "load-test-" + i;
+    }
+
+    /*
+     * The search form is protected against CSRF, so the token of the session is read from the index page.
+     */
+    private String csrfToken(HttpClient client) throws IOException, InterruptedException {
+        final HttpResponse<String> index = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        final Matcher matcher = CSRF_TOKEN.matcher(index.body());
+        assertThat(matcher.find()).as("CSRF token in the index page").isTrue();
+        return matcher.group(1);
+    }
+
+    private EndpointReport report(Endpoint endpoint, Scenario scenario, Latencies latencies, PoolSampler sampler) {
+        final double seconds = scenario.duration().toNanos() / 1e9;
+        final EndpointReport report = new EndpointReport(
+                endpoint.name(),
+                scenario.plugins(),
+                scenario.concurrency(),
+                latencies.count(),
+                latencies.errors(),
+                latencies.count() / seconds,
+                latencies.percentile(0.5) / 1e6,
+                latencies.percentile(0.99) / 1e6,
+                latencies.percentile(1) / 1e6,
+                sampler.activePeak(),
+                sampler.awaitingPeak(),
+                sampler.utilization());
+        System.out.printf(
+                "load-test endpoint=%s plugins=%d concurrency=%d requests=%d errors=%d throughput=%.1f/s p50=%.1fms"
+                        + " p99=%.1fms max=%.1fms pool-active-peak=%d pool-awaiting-peak=%d pool-utilization=%.0f%%%n",
+                report.endpoint(),
+                report.plugins(),
+                report.concurrency(),
+                report.requests(),
+                report.errors(),
+                report.throughput(),
+                report.p50Millis(),
+                report.p99Millis(),
+                report.maxMillis(),
+                report.poolActivePeak(),
+                report.poolAwaitingPeak(),
+                report.poolUtilization() * 100);
+        return report;
+    }
+
+    /*
+     * The reference report is missing when the scenario uses a number of plugins which was not measured yet.
+     */
+    private List<EndpointReport> readBaseline(String report) throws IOException {
+        final TypeReference<List<EndpointReport>> type = new TypeReference<>() {};
+        final String file = System.getProperty("benchmark.baseline");
+        if (file != null) {
+            return jsonMapper.readValue(Path.of(file).toFile(), type);
+        }
+        try (InputStream baseline = getClass().getResourceAsStream("/load-test/" + report)) {
+            if (baseline == null) {
+                System.out.printf("load-test baseline %s not found%n", report);
+                return List.of();
+            }
+            return jsonMapper.readValue(baseline, type);
+        }
+    }
+
+    private void compare(List<EndpointReport> reports, List<EndpointReport> baseline) {
+        final Map<String, EndpointReport> previous = baseline.stream()
+                .collect(Collectors.toMap(EndpointReport::endpoint, Function.identity()));
+        for (EndpointReport report : reports) {
+            final EndpointReport before = previous.get(report.endpoint());
+            if (before == null || before.requests() == 0) {
+                System.out.printf("load-test baseline endpoint=%s not measured%n", report.endpoint());
+                continue;
+            }
+            System.out.printf(
+                    "load-test baseline endpoint=%s throughput=%+.1f%% p99=%+.1f%%%n",
+                    report.endpoint(),
+                    change(before.throughput(), report.throughput()),
+                    change(before.p99Millis(), report.p99Millis()));
+        }
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    record Scenario(int plugins, int concurrency, Duration warmup, Duration duration, List<Endpoint> endpoints) {}
+
+    /**
+     * @param name   the name of the endpoint in the reports
+     * @param method {@code GET} or {@code POST}
+     * @param path   the path of the requests, with placeholders
+     * @param form   the URL encoded form sent with a {@code POST} request, with placeholders
+     */
+    record Endpoint(String name, String method, String path, String form) {}
+
+    record EndpointReport(
+            String endpoint,
+            int plugins,
+            int concurrency,
+            long requests,
+            long errors,
+            double throughput,
+            double p50Millis,
+            double p99Millis,
+            double maxMillis,
+            int poolActivePeak,
+            int poolAwaitingPeak,
+            double poolUtilization) {}
+
+    /*
+     * A closed workload: each client sends its next request as soon as the response to the previous one is read.
+     */
+    private final class Load {
+        private final HttpClient client;
+        private final Endpoint endpoint;
+        private final int plugins;
+        private final String csrfToken;
+
+        private Load(HttpClient client, Endpoint endpoint, int plugins, String csrfToken) {
+            this.client = client;
+            this.endpoint = endpoint;
+            this.plugins = plugins;
+            this.csrfToken = csrfToken;
+        }
+
+        private Latencies run(int concurrency, Duration duration, PoolSampler sampler) throws Exception {
+            final long deadline = System.nanoTime() + duration.toNanos();
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                final List<Future<Latencies>> results = new ArrayList<>();
+                for (int i = 0; i < concurrency; i++) {
+                    results.add(clients.submit(() -> client(deadline)));
+                }
+                if (sampler != null) {
+                    sampler.sampleUntil(deadline);
+                }
+                final Latencies latencies = new Latencies();
+                for (Future<Latencies> result : results) {
+                    latencies.addAll(result.get());
+                }
+                return latencies;
+            }
+        }
+
+        private Latencies client(long deadline) throws InterruptedException {
+            final Latencies latencies = new Latencies();
+            while (System.nanoTime() < deadline) {
+                final HttpRequest request = request();
+                final long start = System.nanoTime();
+                try {
+                    final HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    latencies.add(System.nanoTime() - start, response.statusCode() >= 500);
+                } catch (IOException e) {
+                    latencies.add(System.nanoTime() - start, true);
+                }
+            }
+            return latencies;
+        }
+
+        private HttpRequest request() {
+            final HttpRequest.Builder request =
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + resolve(endpoint.path())));
+            if ("POST".equals(endpoint.method())) {
+                return request.header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                resolve(endpoint.form()) + "&_csrf=" + encode(csrfToken)))
+                        .build();
+            }
+            return request.GET().build();
+        }
+
+        private String resolve(String template) {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            return template.replace("{plugin}", encode(pluginName(random.nextInt(plugins))))
+                    .replace("{score}", String.valueOf(random.nextInt(101)))
+                    .replace("{query}", encode(String.valueOf(random.nextInt(plugins))));
+        }
+
+        private static String encode(String value) {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class Latencies {
+        private long[] values = new long[1024];
+        private int count;
+        private long errors;
+
+        private void add(long nanos, boolean error) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = nanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        private void addAll(Latencies other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.values[i], false);
+            }
+            errors += other.errors;
+        }
+
+        private long count() {
+            return count;
+        }
+
+        private long errors() {
+            return errors;
+        }
+
+        private long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            final long[] sorted = Arrays.copyOf(values, count);
+            Arrays.sort(sorted);
+            return sorted[Math.max(0, (int) Math.ceil(percentile * count) - 1)];
+        }
+    }
+
+    /*
+     * The active connections and the threads waiting for a connection are sampled while the endpoint is loaded. The
+     * utilization is the average share of the connections of the pool which are in use.
+     */
+    private static final class PoolSampler {
+        private final HikariPoolMXBean pool;
+        private final int maximumPoolSize;
+        private int activePeak;
+        private int awaitingPeak;
+        private long activeSum;
+        private long samples;
+
+        private PoolSampler(HikariPoolMXBean pool, int maximumPoolSize) {
+            this.pool = pool;
+            this.maximumPoolSize = maximumPoolSize;
+        }
+
+        private void sampleUntil(long deadline) throws InterruptedException {
+            while (System.nanoTime() < deadline) {
+                final int active = pool.getActiveConnections();
+                activePeak = Math.max(activePeak, active);
+                awaitingPeak = Math.max(awaitingPeak, pool.getThreadsAwaitingConnection());
+                activeSum += active;
+                samples++;
+                Thread.sleep(SAMPLING_INTERVAL);
+            }
+        }
+
+        private int activePeak() {
+            return activePeak;
+        }
+
+        private int awaitingPeak() {
+            return awaitingPeak;
+        }
+
+        private double utilization() {
+            return samples == 0 ? 0 : (double) activeSum / samples / maximumPoolSize;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.jenkins.pluginhealth.scoring.AbstractDBContainerTest;
+import io.jenkins.pluginhealth.scoring.probes.ProbeEngine;
+import io.jenkins.pluginhealth.scoring.schedule.ClusterJobLock;
+import io.jenkins.pluginhealth.scoring.schedule.DefaultUpdateCenterScheduler;
+import io.jenkins.pluginhealth.scoring.scores.ScoringEngine;
+import io.jenkins.pluginhealth.scoring.service.PluginService;
+import io.jenkins.pluginhealth.scoring.service.UpdateCenterService;
+
+import org.eclipse.jgit.errors.ConfigInvalidException;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.storage.file.FileBasedConfig;
+import org.eclipse.jgit.util.FS;
+import org.eclipse.jgit.util.SystemReader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures how the update center import, the probe engine and the scoring engine scale with the number of plugins.
+ * <p>
+ * The plugins are generated by {@link SyntheticEcosystem}: the update center and the documentation links are read from
+ * local files, the repositories are cloned from local bare repositories, and the GitHub API is a {@link FakeGitHubApi}.
+ * Only the database is real, in the same container as the integration tests.
+ * <p>
+ * For each stage, the wall time, the throughput, the peak of the heap usage and the size of the database once the
+ * stage is done are printed, and written in {@code target/scaling-benchmark-<plugins>.json} to compare runs.
+ * The peak of the heap is the sum of the peaks of each heap memory pool, so it is an upper bound.
+ * <p>
+ * Run with {@code mvn -pl war verify -Dit.test=ScalingBenchmarkIT -Dbenchmark=true -Dbenchmark.plugins=10000}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ScalingBenchmarkIT extends AbstractDBContainerTest {
+    private static final int PLUGINS = Integer.getInteger("benchmark.plugins", 2_000);
+    private static final long SEED = Long.getLong("benchmark.seed", 42);
+
+    private static SyntheticEcosystem ecosystem;
+    private static FakeGitHubApi gitHubApi;
+
+    @Autowired
+    private UpdateCenterService updateCenterService;
+
+    @Autowired
+    private PluginService pluginService;
+
+    @Autowired
+    private ClusterJobLock clusterJobLock;
+
+    @Autowired
+    private ProbeEngine probeEngine;
+
+    @Autowired
+    private ScoringEngine scoringEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void syntheticEcosystem(DynamicPropertyRegistry registry) throws Exception {
+        final long start = System.nanoTime();
+        ecosystem = SyntheticEcosystem.generate(Files.createTempDirectory("synthetic-ecosystem"), PLUGINS, SEED);
+        System.out.printf(
+                "scaling generation plugins=%d duration=%.1fs%n", PLUGINS, (System.nanoTime() - start) / 1e9);
+        gitHubApi = new FakeGitHubApi();
+        SystemReader.setInstance(new LocalRepositoriesSystemReader(SystemReader.getInstance(), ecosystem));
+
+        registry.add("app.jenkins.update-center", () -> ecosystem.getUpdateCenter().toUri().toString());
+        registry.add("app.jenkins.documentation-urls", () -> ecosystem.getDocumentationUrls().toUri().toString());
+    }
+
+    @AfterAll
+    static void cleanup() throws IOException {
+        SystemReader.setInstance(null);
+        if (gitHubApi != null) {
+            gitHubApi.close();
+        }
+        if (ecosystem != null) {
+            ecosystem.delete();
+        }
+    }
+
+    @Test
+    void scaling() throws IOException {
+        final DefaultUpdateCenterScheduler updateCenterScheduler =
+                new DefaultUpdateCenterScheduler(updateCenterService, pluginService, clusterJobLock);
+        final List<StageReport> reports = new ArrayList<>();
+
+        reports.add(measure("update-center", updateCenterScheduler::updateDatabase));
+        assertThat(pluginService.getPluginsCount()).isEqualTo(PLUGINS);
+        reports.add(measure("probe-engine", probeEngine::run));
+        reports.add(measure("scoring-engine", () -> {
+            assertThat(scoringEngine.run().plugins()).isEqualTo(PLUGINS);
+        }));
+
+        JsonMapper.builder()
+                .build()
+                .writeValue(Path.of("target", "scaling-benchmark-%d.json".formatted(PLUGINS)).toFile(), reports);
+    }
+
+    private StageReport measure(String stage, Stage execution) throws IOException {
+        final List<MemoryPoolMXBean> heap = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        System.gc();
+        heap.forEach(MemoryPoolMXBean::resetPeakUsage);
+        final long requests = gitHubApi.getRequests();
+        final long start = System.nanoTime();
+
+        execution.run();
+
+        final double duration = (System.nanoTime() - start) / 1e9;
+        final StageReport report = new StageReport(
+                stage,
+                PLUGINS,
+                duration,
+                PLUGINS / duration,
+                heap.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum(),
+                jdbcTemplate.queryForObject("SELECT pg_database_size(current_database())", Long.class),
+                gitHubApi.getRequests() - requests);
+        System.out.printf(
+                "scaling stage=%s plugins=%d duration=%.1fs throughput=%.1f/s heap-peak=%.1fMB database=%.1fMB"
+                        + " github-requests=%d%n",
+                report.stage(),
+                report.plugins(),
+                report.durationSeconds(),
+                report.throughput(),
+                report.heapPeakBytes() / (1024.0 * 1024.0),
+                report.databaseBytes() / (1024.0 * 1024.0),
+                report.gitHubRequests());
+        return report;
+    }
+
+    @FunctionalInterface
+    private interface Stage {
+        void run() throws IOException;
+    }
+
+    record StageReport(
+            String stage,
+            int plugins,
+            double durationSeconds,
+            double throughput,
+            long heapPeakBytes,
+            long databaseBytes,
+            long gitHubRequests) {}
+
+    /*
+     * The probes use the GitHub API of the fake server instead of the one configured for the application.
+     */
+    @TestConfiguration
+    static class FakeGitHubConfiguration {
+        @Bean
+        @Primary
+        GitHub fakeGitHub() throws IOException {
+            return new GitHubBuilder().withEndpoint(gitHubApi.getUrl()).build();
+        }
+    }
+
+    /*
+     * The scm links of the plugins are GitHub URLs, used by the probes to find the repository of the plugins on the
+     * GitHub API. Like the `url.<base>.insteadOf` option of the user Git configuration would, this clones them from
+     * the local repositories instead.
+     */
+    private static final class LocalRepositoriesSystemReader extends SystemReader.Delegate {
+        private final FileBasedConfig userConfig;
+
+        private LocalRepositoriesSystemReader(SystemReader delegate, SyntheticEcosystem ecosystem)
+                throws IOException, ConfigInvalidException {
+            super(delegate);
+            final Path file = Files.createTempFile("gitconfig", "");
+            Files.writeString(file, """
+                    [url "%s"]
+                        insteadOf = %s
+                    """.formatted(ecosystem.getRepositoriesUrl(), SyntheticEcosystem.SCM_BASE_URL));
+            userConfig = new FileBasedConfig(null, file.toFile(), FS.DETECTED);
+            userConfig.load();
+        }
+
+        @Override
+        public StoredConfig getUserConfig() {
+            return userConfig;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheBuilder;
+import org.eclipse.jgit.dircache.DirCacheEntry;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Generates the update center, the documentation links and the Git repositories of synthetic plugins.
+ * <p>
+ * Each plugin has a bare Git repository, whose history is made of a few to a dozen commits, some of them after the
+ * release of the plugin. Its content looks like a plugin: a POM, a Jenkinsfile, some GitHub configuration files, and
+ * Java classes. The scm links of the plugins are GitHub URLs, which {@link #getRepositoriesUrl()} replaces.
+ * The generation is deterministic for a given seed so that runs can be compared.
+ */
+final class SyntheticEcosystem {
+    static final String SCM_BASE_URL = "https://github.com/";
+    private static final String ORGANIZATION = "jenkinsci";
+    private static final PersonIdent AUTHOR = new PersonIdent("Synthetic Developer", "developer@example.com");
+
+    private final Path root;
+    private final int plugins;
+
+    private SyntheticEcosystem(Path root, int plugins) {
+        this.root = root;
+        this.plugins = plugins;
+    }
+
+    static SyntheticEcosystem generate(Path root, int plugins, long seed) throws IOException, GitAPIException {
+        final Random random = new Random(seed);
+        final ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+        final Path repositories = Files.createDirectories(root.resolve("repositories").resolve(ORGANIZATION));
+        final Map<String, Object> updateCenterPlugins = new TreeMap<>();
+        final Map<String, Object> documentationUrls = new TreeMap<>();
+        final Map<String, Object> deprecations = new TreeMap<>();
+        final List<Object> warnings = new ArrayList<>();
+
+        for (int index = 0; index < plugins; index++) {
+            final String name = pluginName(index);
+            final String repository = name + "-plugin";
+            final int major = 1 + random.nextInt(5);
+            final String version = "%d.%d".formatted(major, random.nextInt(500));
+            final ZonedDateTime release = now.minusDays(1 + random.nextInt(3 * 365));
+            final List<String> dependencies = IntStream.range(0, random.nextInt(8))
+                    .mapToObj(i -> pluginName(random.nextInt(plugins)))
+                    .distinct()
+                    .toList();
+            generateRepository(repositories.resolve(repository), name, version, release, dependencies, now, random);
+
+            final Map<String, Object> plugin = new LinkedHashMap<>();
+            plugin.put("name", name);
+            plugin.put("version", version);
+            plugin.put("scm", SCM_BASE_URL + ORGANIZATION + "/" + repository);
+            plugin.put("releaseTimestamp", DateTimeFormatter.ISO_INSTANT.format(release));
+            plugin.put("labels", List.of("synthetic"));
+            plugin.put("popularity", random.nextInt(500_000));
+            plugin.put("requiredCore", "2.479.3");
+            plugin.put("defaultBranch", "main");
+            updateCenterPlugins.put(name, plugin);
+            documentationUrls.put(
+                    name, Map.of("url", SCM_BASE_URL + ORGANIZATION + "/" + repository + "/blob/main/README.md"));
+            if (random.nextInt(100) == 0) {
+                deprecations.put(name, Map.of("url", "https://github.com/jenkins-infra/helpdesk/issues/" + index));
+            }
+            if (random.nextInt(30) == 0) {
+                warnings.add(Map.of(
+                        "id", "SECURITY-" + index,
+                        "name", name,
+                        "type", "plugin",
+                        "url", "https://www.jenkins.io/security/advisory/",
+                        "versions", List.of(Map.of(
+                                "lastVersion", version,
+                                "pattern", "%d[.]([0-9]|[1-9][0-9]|[1-4][0-9][0-9])(|[.-].*)".formatted(major)))));
+            }
+        }
+
+        final JsonMapper mapper = JsonMapper.builder().build();
+        mapper.writeValue(
+                root.resolve("update-center.json").toFile(),
+                Map.of("plugins", updateCenterPlugins, "deprecations", deprecations, "warnings", warnings));
+        mapper.writeValue(root.resolve("plugin-documentation-urls.json").toFile(), documentationUrls);
+        return new SyntheticEcosystem(root, plugins);
+    }
+
+    static String pluginName(int index) {
+        return "synthetic-" + index;
+    }
+
+    int getPlugins() {
+        return plugins;
+    }
+
+    Path getUpdateCenter() {
+        return root.resolve("update-center.json");
+    }
+
+    Path getDocumentationUrls() {
+        return root.resolve("plugin-documentation-urls.json");
+    }
+
+    /**
+     * @return the URL of the folder of the local repositories, to be used instead of {@link #SCM_BASE_URL}
+     */
+    String getRepositoriesUrl() {
+        return root.resolve("repositories").toUri().toString();
+    }
+
+    void delete() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /*
+     * The objects are written directly in the bare repository, which is much faster than committing files from a
+     * working tree.
+     */
+    private static void generateRepository(
+            Path directory,
+            String name,
+            String version,
+            ZonedDateTime release,
+            List<String> dependencies,
+            ZonedDateTime now,
+            Random random)
+            throws IOException, GitAPIException {
+        final Map<String, String> files = new TreeMap<>();
+        files.put("pom.xml", pom(name, version, dependencies, random.nextInt(4) == 0));
+        files.put("README.md", "# %s%n%nA synthetic plugin.%n".formatted(name));
+        files.put("src/main/resources/index.jelly", "<div>%s</div>%n".formatted(name));
+        if (random.nextInt(10) != 0) {
+            files.put("Jenkinsfile", "buildPlugin(useContainerAgent: true)\n");
+        }
+        if (random.nextInt(5) < 3) {
+            files.put(".github/CODEOWNERS", "* @jenkinsci/%s-plugin-developers%n".formatted(name));
+        }
+        if (random.nextBoolean()) {
+            files.put(".github/dependabot.yml", "version: 2\nupdates:\n- package-ecosystem: maven\n  directory: /\n");
+        } else if (random.nextInt(3) == 0) {
+            files.put("renovate.json", "{\"extends\": [\"github>jenkinsci/renovate-config\"]}\n");
+        }
+        if (random.nextBoolean()) {
+            files.put(".github/release-drafter.yml", "_extends: .github\n");
+        }
+        if (random.nextInt(5) < 2) {
+            files.put(
+                    ".github/workflows/cd.yaml",
+                    "jobs:\n  maven-cd:\n    uses: jenkins-infra/github-reusable-workflows/"
+                            + ".github/workflows/maven-cd.yml@v1\n");
+        }
+
+        final int commits = 3 + random.nextInt(12);
+        final ZonedDateTime first = release.minusDays(30 + random.nextInt(2 * 365));
+        // Three plugins out of ten have unreleased commits
+        final ZonedDateTime last =
+                random.nextInt(10) < 3 ? min(release.plusDays(1 + random.nextInt(60)), now) : release;
+        final long step = ChronoUnit.SECONDS.between(first, last) / commits;
+
+        try (Git git = Git.init()
+                        .setBare(true)
+                        .setInitialBranch("main")
+                        .setDirectory(directory.toFile())
+                        .call();
+                ObjectInserter inserter = git.getRepository().newObjectInserter()) {
+            final Repository repository = git.getRepository();
+            ObjectId head = null;
+            for (int commit = 0; commit < commits; commit++) {
+                final int classes = commit == 0 ? 5 + random.nextInt(20) : 1 + random.nextInt(3);
+                for (int i = 0; i < classes; i++) {
+                    final int id = files.size();
+                    files.put(
+                            "src/main/java/io/jenkins/plugins/synthetic/Class%d.java".formatted(id),
+                            javaClass(id, random.nextInt(10) == 0));
+                }
+                if (random.nextInt(3) == 0) {
+                    files.put(
+                            "src/test/java/io/jenkins/plugins/synthetic/Test%d.java".formatted(commit),
+                            "package io.jenkins.plugins.synthetic;\n\nclass Test%d {}\n".formatted(commit));
+                }
+                final ZonedDateTime date = commit == commits - 1 ? last : first.plusSeconds(step * commit);
+                head = commit(inserter, files, head, date, commit == 0 ? "Initial commit" : "Change " + commit);
+            }
+            inserter.flush();
+            final RefUpdate update = repository.updateRef(Constants.R_HEADS + "main");
+            update.setNewObjectId(head);
+            update.forceUpdate();
+        }
+    }
+
+    private static ObjectId commit(
+            ObjectInserter inserter, Map<String, String> files, ObjectId parent, ZonedDateTime date, String message)
+            throws IOException {
+        final DirCache index = DirCache.newInCore();
+        final DirCacheBuilder builder = index.builder();
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            final DirCacheEntry entry = new DirCacheEntry(file.getKey());
+            entry.setFileMode(FileMode.REGULAR_FILE);
+            entry.setObjectId(
+                    inserter.insert(Constants.OBJ_BLOB, file.getValue().getBytes(StandardCharsets.UTF_8)));
+            builder.add(entry);
+        }
+        builder.finish();
+
+        final PersonIdent ident = new PersonIdent(AUTHOR, date.toInstant());
+        final CommitBuilder commit = new CommitBuilder();
+        commit.setTreeId(index.writeTree(inserter));
+        if (parent != null) {
+            commit.setParentId(parent);
+        }
+        commit.setAuthor(ident);
+        commit.setCommitter(ident);
+        commit.setMessage(message);
+        return inserter.insert(commit);
+    }
+
+    private static String pom(String name, String version, List<String> dependencies, boolean skipJUnit4Ban) {
+        return """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <parent>
+                    <groupId>org.jenkins-ci.plugins</groupId>
+                    <artifactId>plugin</artifactId>
+                    <version>5.9</version>
+                  </parent>
+                  <groupId>io.jenkins.plugins</groupId>
+                  <artifactId>%s</artifactId>
+                  <version>%s</version>
+                  <packaging>hpi</packaging>
+                  <properties>
+                    <jenkins.baseline>2.479</jenkins.baseline>
+                    <jenkins.version>${jenkins.baseline}.3</jenkins.version>
+                    <ban-junit4-imports.skip>%b</ban-junit4-imports.skip>
+                  </properties>
+                  <dependencies>
+                %s
+                  </dependencies>
+                </project>
+                """
+                .formatted(
+                        name,
+                        version,
+                        skipJUnit4Ban,
+                        dependencies.stream()
+                                .map(dependency -> """
+                                            <dependency>
+                                              <groupId>io.jenkins.plugins</groupId>
+                                              <artifactId>%s</artifactId>
+                                            </dependency>\
+                                        """
+                                        .formatted(dependency))
+                                .collect(Collectors.joining("\n")));
+    }
+
+    private static String javaClass(int id, boolean jsr305) {
+        return """
+                package io.jenkins.plugins.synthetic;
+
+                import %s;
+
+                public class Class%d {
+                    public @NonNull String getName() {
+                        return "class-%2$d";
+                    }
+                }
+                """
+                .formatted(
+                        jsr305 ? "javax.annotation.Nonnull" : "edu.umd.cs.findbugs.annotations.NonNull", id);
+    }
+
+    private static ZonedDateTime min(ZonedDateTime first, ZonedDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import io.jenkins.pluginhealth.scoring.service.GitHubUsageService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kohsuke.github.GitHub;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.Status;
+
+@ExtendWith(MockitoExtension.class)
+class GitHubHealthIndicatorTest {
+    @Mock
+    private GitHub github;
+
+    private final GitHubUsageService gitHubUsageService = new GitHubUsageService(new SimpleMeterRegistry());
+
+    @Test
+    void shouldReportLatestRateLimitWithoutCallingGitHub() {
+        final Instant reset = Instant.ofEpochSecond(1_700_000_000);
+        gitHubUsageService.record(
+                GitHubUsageService.Outcome.NETWORK, new GitHubUsageService.RateLimit("core", 5000, 1234, reset));
+
+        final Health health = new GitHubHealthIndicator(github, gitHubUsageService).health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails())
+                .containsEntry("limit", 5000L)
+                .containsEntry("remaining", 1234L)
+                .containsEntry("reset", reset);
+        verifyNoInteractions(github);
+    }
+
+    @Test
+    void shouldBeUpBeforeFirstRequest() {
+        final Health health = new GitHubHealthIndicator(github, gitHubUsageService).health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).isEmpty();
+    }
+
+    @Test
+    void shouldBeDownWhenLastRequestFailed() {
+        gitHubUsageService.recordFailure(new IOException("Connection refused"));
+
+        final Health health = new GitHubHealthIndicator(github, gitHubUsageService).health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("error", "java.io.IOException: Connection refused");
+    }
+
+    @Test
+    void shouldOnlyReportOldFailureAsDetail() {
+        gitHubUsageService.recordFailure(new IOException("Connection refused"));
+        final Clock later = Clock.offset(Clock.systemUTC(), GitHubHealthIndicator.ERROR_TIMEOUT.plusMinutes(1));
+
+        final Health health = new GitHubHealthIndicator(github, gitHubUsageService, later).health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("error", "java.io.IOException: Connection refused");
+    }
+
+    @Test
+    void shouldBeDownWhenLastResponseWasAnError() {
+        final Instant reset = Instant.now().plusSeconds(600);
+        gitHubUsageService.record(
+                GitHubUsageService.Outcome.NETWORK, new GitHubUsageService.RateLimit("core", 5000, 1234, reset));
+        gitHubUsageService.recordFailure(503, new GitHubUsageService.RateLimit("core", 5000, 1233, reset));
+
+        final Health health = new GitHubHealthIndicator(github, gitHubUsageService).health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("error", "HTTP 503").containsEntry("remaining", 1233L);
+    }
+
+    @Test
+    void shouldBeOutOfServiceUntilExhaustedRateLimitIsReset() {
+        final Instant resetAt = Instant.ofEpochSecond(1_700_000_000);
+        gitHubUsageService.record(
+                GitHubUsageService.Outcome.NETWORK, new GitHubUsageService.RateLimit("core", 5000, 0, resetAt));
+        final Clock beforeReset = Clock.fixed(resetAt.minusSeconds(60), ZoneOffset.UTC);
+        final Clock afterReset = Clock.fixed(resetAt.plusSeconds(60), ZoneOffset.UTC);
+
+        final Health exhausted = new GitHubHealthIndicator(github, gitHubUsageService, beforeReset).health();
+        final Health reset = new GitHubHealthIndicator(github, gitHubUsageService, afterReset).health();
+
+        assertThat(exhausted.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(exhausted.getDetails()).containsEntry("remaining", 0L);
+        assertThat(reset.getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void shouldBeDownWithoutGitHub() {
+        final Health health = new GitHubHealthIndicator(null, gitHubUsageService).health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import io.jenkins.pluginhealth.scoring.service.HttpArchive;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+class HttpArchiveInterceptorTest {
+    // Nothing listens on this port, so the test fails if a request is actually sent
+    private static final String URL = "http://127.0.0.1:9/repos/jenkinsci/foo-plugin";
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochSecond(1_700_000_000), ZoneOffset.UTC);
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void recordResponse() {
+        archive(0).record(new HttpArchive.Entry(
+                "GET",
+                URL,
+                200,
+                Map.of("content-type", List.of("application/json")),
+                "{\"name\":\"foo-plugin\"}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void shouldReplayRecordedResponse() throws IOException {
+        try (Response response = client(0).newCall(request(URL)).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.networkResponse()).isNotNull();
+            assertThat(response.body().string()).isEqualTo("{\"name\":\"foo-plugin\"}");
+        }
+    }
+
+    @Test
+    void shouldAnswerNotFoundWhenNoResponseWasRecorded() throws IOException {
+        try (Response response = client(0).newCall(request(URL.replace("foo", "bar"))).execute()) {
+            assertThat(response.code()).isEqualTo(404);
+        }
+    }
+
+    @Test
+    void shouldSimulateRateLimit() throws IOException {
+        final OkHttpClient client = client(2);
+        try (Response response = client.newCall(request(URL)).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.header("X-RateLimit-Limit")).isEqualTo("2");
+            assertThat(response.header("X-RateLimit-Remaining")).isEqualTo("1");
+            assertThat(response.header("X-RateLimit-Reset")).isEqualTo("1700003600");
+        }
+        try (Response response = client.newCall(request(URL)).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.header("X-RateLimit-Remaining")).isEqualTo("0");
+        }
+        try (Response response = client.newCall(request(URL)).execute()) {
+            assertThat(response.code()).isEqualTo(403);
+            assertThat(response.header("X-RateLimit-Remaining")).isEqualTo("0");
+        }
+    }
+
+    private OkHttpClient client(int rateLimit) {
+        return new OkHttpClient.Builder()
+                .addInterceptor(new HttpArchiveInterceptor(archive(rateLimit), configuration(rateLimit), clock))
+                .build();
+    }
+
+    private HttpArchive archive(int rateLimit) {
+        return new HttpArchive(configuration(rateLimit), JsonMapper.builder().build());
+    }
+
+    private HttpArchiveConfiguration configuration(int rateLimit) {
+        return new HttpArchiveConfiguration(
+                HttpArchiveConfiguration.Mode.REPLAY, directory, Duration.ZERO, rateLimit, Duration.ofHours(1));
+    }
+
+    private static Request request(String url) {
+        return new Request.Builder().url(url).build();
+    }
+}
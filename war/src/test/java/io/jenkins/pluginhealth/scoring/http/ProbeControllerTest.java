@@ -32,11 +32,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 
 import io.jenkins.pluginhealth.scoring.config.SecurityConfiguration;
+import io.jenkins.pluginhealth.scoring.model.ProbeRun;
 import io.jenkins.pluginhealth.scoring.probes.Probe;
 import io.jenkins.pluginhealth.scoring.service.PluginService;
+import io.jenkins.pluginhealth.scoring.service.ProbeRunService;
 import io.jenkins.pluginhealth.scoring.service.ProbeService;
 
 import org.junit.jupiter.api.Test;
@@ -60,6 +64,9 @@ class ProbeControllerTest {
     @MockitoBean
     private ProbeService probeService;
 
+    @MockitoBean
+    private ProbeRunService probeRunService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -89,4 +96,58 @@ class ProbeControllerTest {
         verify(pluginService).getPluginsCount();
         verify(probeService).getProbesFinalResults();
     }
+
+    @Test
+    void shouldDisplayProbeRuns() throws Exception {
+        final ZonedDateTime now = ZonedDateTime.now();
+        final ProbeRun latest = new ProbeRun(
+                now.minusMinutes(10),
+                now,
+                2,
+                1,
+                1,
+                0,
+                Map.of(
+                        "foo", new ProbeRun.ProbeStatistics(2, 0, 0, 10, 8),
+                        "bar", new ProbeRun.ProbeStatistics(2, 0, 1, 30, 20)),
+                List.of(new ProbeRun.PluginDuration("plugin-a", 25), new ProbeRun.PluginDuration("plugin-b", 15)));
+        final ProbeRun previous = new ProbeRun(
+                now.minusDays(1).minusMinutes(10),
+                now.minusDays(1),
+                2,
+                2,
+                0,
+                0,
+                Map.of("foo", new ProbeRun.ProbeStatistics(2, 0, 0, 12, 9)),
+                List.of());
+        when(probeRunService.getLatest(20)).thenReturn(List.of(latest, previous));
+
+        mockMvc.perform(get("/probes/runs"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("probes/runs"))
+                .andExpectAll(
+                        model().attribute("runs", hasSize(2)),
+                        model().attribute("latest", latest),
+                        model().attribute(
+                                "probeTimings",
+                                List.of(
+                                        new ProbesController.ProbeTimings(
+                                                "bar", new ProbeRun.ProbeStatistics(2, 0, 1, 30, 20), null),
+                                        new ProbesController.ProbeTimings(
+                                                "foo",
+                                                new ProbeRun.ProbeStatistics(2, 0, 0, 10, 8),
+                                                new ProbeRun.ProbeStatistics(2, 0, 0, 12, 9)))));
+    }
+
+    @Test
+    void shouldDisplayNoProbeRun() throws Exception {
+        when(probeRunService.getLatest(20)).thenReturn(List.of());
+
+        mockMvc.perform(get("/probes/runs"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("probes/runs"))
+                .andExpectAll(
+                        model().attribute("runs", hasSize(0)),
+                        model().attributeDoesNotExist("latest", "probeTimings"));
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.http;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import io.jenkins.pluginhealth.scoring.config.SecurityConfiguration;
+import io.jenkins.pluginhealth.scoring.model.ProbeRun;
+import io.jenkins.pluginhealth.scoring.service.ProbeRunService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.info.ProjectInfoAutoConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ExtendWith({SpringExtension.class, MockitoExtension.class})
+@ImportAutoConfiguration({ProjectInfoAutoConfiguration.class, SecurityConfiguration.class})
+@WebMvcTest(controllers = ProbeRunAPI.class)
+class ProbeRunAPITest {
+    @MockitoBean
+    private ProbeRunService probeRunService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldProvideLatestProbeRuns() throws Exception {
+        final ZonedDateTime now = ZonedDateTime.now();
+        when(probeRunService.getLatest(20))
+                .thenReturn(List.of(new ProbeRun(
+                        now.minusMinutes(2),
+                        now,
+                        10,
+                        8,
+                        1,
+                        1,
+                        Map.of("foo", new ProbeRun.ProbeStatistics(10, 0, 1, 200, 40)),
+                        List.of(new ProbeRun.PluginDuration("bar", 1_000)))));
+
+        mockMvc.perform(get("/api/runs"))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$", hasSize(1)),
+                        jsonPath("$[0].durationMillis", is(120_000)),
+                        jsonPath("$[0].plugins", is(10)),
+                        jsonPath("$[0].failedClones", is(1)),
+                        jsonPath("$[0].probes.foo.p95Millis", is(40)),
+                        jsonPath("$[0].slowestPlugins[0].name", is("bar")));
+    }
+
+    @Test
+    void shouldUseRequestedLimit() throws Exception {
+        when(probeRunService.getLatest(5)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/runs?limit=5")).andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void shouldRejectInvalidLimit() throws Exception {
+        mockMvc.perform(get("/api/runs?limit=0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/runs?limit=101")).andExpect(status().isBadRequest());
+        verify(probeRunService, never()).getLatest(anyInt());
+    }
+}
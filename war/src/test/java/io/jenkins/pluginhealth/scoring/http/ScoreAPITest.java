@@ -25,25 +25,36 @@ package io.jenkins.pluginhealth.scoring.http;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import io.jenkins.pluginhealth.scoring.config.SecurityConfiguration;
+import io.jenkins.pluginhealth.scoring.model.HistoryResolution;
 import io.jenkins.pluginhealth.scoring.model.Plugin;
 import io.jenkins.pluginhealth.scoring.model.Score;
+import io.jenkins.pluginhealth.scoring.model.ScoreDistribution;
 import io.jenkins.pluginhealth.scoring.model.ScoreResult;
+import io.jenkins.pluginhealth.scoring.model.ScoreSummary;
 import io.jenkins.pluginhealth.scoring.model.ScoringComponentResult;
+import io.jenkins.pluginhealth.scoring.service.ScoreDistributionService;
 import io.jenkins.pluginhealth.scoring.service.ScoreService;
 
 import org.junit.jupiter.api.Test;
@@ -68,6 +79,9 @@ class ScoreAPITest {
     @MockitoBean
     private ScoreService scoreService;
 
+    @MockitoBean
+    private ScoreDistributionService scoreDistributionService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -117,8 +131,8 @@ class ScoreAPITest {
 
         when(scoreService.getLatestScoresSummaryMap())
                 .thenReturn(Map.of(
-                        "plugin-1", scoreP1,
-                        "plugin-2", scoreP2));
+                        "plugin-1", summaryOf("plugin-1", scoreP1),
+                        "plugin-2", summaryOf("plugin-2", scoreP2)));
         when(scoreService.getScoresStatistics())
                 .thenReturn(Optional.of(new ScoreService.ScoreStatistics(87.5, 50, 100, 100, 100, 100)));
 
@@ -213,7 +227,8 @@ class ScoreAPITest {
                         100, 1, List.of("There is no active security advisory for the plugin."))),
                 1));
 
-        when(scoreService.getLatestScoresSummaryMap()).thenReturn(Map.of("plugin-1", scoreP1));
+        when(scoreService.getLatestScoresSummaryMap())
+                .thenReturn(Map.of("plugin-1", summaryOf("plugin-1", scoreP1)));
 
         MvcResult mvcResult = mockMvc.perform(get("/api/scores"))
                 .andExpectAll(
@@ -247,7 +262,8 @@ class ScoreAPITest {
                         100, 1, List.of("There is no active security advisory for the plugin."))),
                 1));
 
-        when(scoreService.getLatestScoresSummaryMap()).thenReturn(Map.of("plugin-1", newScoreP1));
+        when(scoreService.getLatestScoresSummaryMap())
+                .thenReturn(Map.of("plugin-1", summaryOf("plugin-1", newScoreP1)));
 
         mockMvc.perform(get("/api/scores").headers(httpHeaders))
                 .andExpectAll(
@@ -274,4 +290,75 @@ class ScoreAPITest {
             );
         // @formatter:on
     }
+
+    @Test
+    void shouldProvideScoreHistoryOfPlugin() throws Exception {
+        final LocalDate from = LocalDate.parse("2024-01-01");
+        final LocalDate to = LocalDate.parse("2024-01-31");
+        when(scoreService.getHistory("plugin-1", from, to, HistoryResolution.WEEKLY))
+                .thenReturn(List.of(new ScoreService.ScoreHistoryInterval(
+                        from,
+                        new ScoreService.ScoreHistoryValues(50, 60, 70),
+                        Map.of("scoring-1", new ScoreService.ScoreHistoryValues(50, 60, 70)))));
+
+        // @formatter:off
+        mockMvc.perform(get("/api/scores/plugin-1/history?from=2024-01-01&to=2024-01-31&resolution=WEEKLY"))
+            .andExpectAll(
+                status().isOk(),
+                content().contentType(MediaType.APPLICATION_JSON),
+                content().json("""
+                    {
+                        'plugin': 'plugin-1',
+                        'from': '2024-01-01',
+                        'to': '2024-01-31',
+                        'resolution': 'WEEKLY',
+                        'history': [{
+                            'start': '2024-01-01',
+                            'value': {'minimum': 50, 'average': 60, 'maximum': 70},
+                            'categories': {
+                                'scoring-1': {'minimum': 50, 'average': 60, 'maximum': 70}
+                            }
+                        }]
+                    }
+                    """
+                )
+            );
+        // @formatter:on
+    }
+
+    @Test
+    void shouldRejectScoreHistoryEndingBeforeItStarts() throws Exception {
+        mockMvc.perform(get("/api/scores/plugin-1/history?from=2024-02-01&to=2024-01-01"))
+                .andExpect(status().isBadRequest());
+        verify(scoreService, never()).getHistory(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldProvideDistributionHistory() throws Exception {
+        final LocalDate from = LocalDate.parse("2024-01-01");
+        final LocalDate to = LocalDate.parse("2024-01-31");
+        final List<Long> counts = new ArrayList<>(Collections.nCopies(101, 0L));
+        counts.set(50, 2L);
+        counts.set(80, 1L);
+        when(scoreDistributionService.getHistory(from, to))
+                .thenReturn(List.of(new ScoreDistribution(from, counts, 60, 50, 50, 50, 80, 80)));
+
+        // @formatter:off
+        mockMvc.perform(get("/api/scores/distribution?from=2024-01-01&to=2024-01-31"))
+            .andExpectAll(
+                status().isOk(),
+                content().contentType(MediaType.APPLICATION_JSON),
+                jsonPath("$[0].day").value("2024-01-01"),
+                jsonPath("$[0].plugins").value(3),
+                jsonPath("$[0].median").value(50),
+                jsonPath("$[0].thirdQuartile").value(80),
+                jsonPath("$[0].counts.length()").value(101),
+                jsonPath("$[0].distribution").doesNotExist()
+            );
+        // @formatter:on
+    }
+
+    private static ScoreSummary summaryOf(String pluginName, Score score) {
+        return new ScoreSummary(pluginName, score.getValue(), score.getComputedAt(), score.getDetails());
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.probes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.ZonedDateTime;
+import javax.sql.DataSource;
+
+import io.jenkins.pluginhealth.scoring.AbstractDBContainerTest;
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.repository.PluginRepository;
+
+import hudson.util.VersionNumber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * The locks are taken on their own connection, which only sees the committed plugins.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PluginLocksIT extends AbstractDBContainerTest {
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PluginRepository pluginRepository;
+
+    private PluginLocks instance1;
+    private PluginLocks instance2;
+
+    @BeforeEach
+    void setup() {
+        pluginRepository.save(new Plugin("foo", new VersionNumber("1.0"), "scm", ZonedDateTime.now()));
+        pluginRepository.save(new Plugin("bar", new VersionNumber("1.0"), "scm", ZonedDateTime.now()));
+        instance1 = new PluginLocks(dataSource);
+        instance2 = new PluginLocks(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        instance1.destroy();
+        instance2.destroy();
+        pluginRepository.deleteAll();
+    }
+
+    @Test
+    void shouldOnlyBeLockedOnceAcrossInstances() {
+        assertThat(instance1.tryLock("foo")).isTrue();
+        assertThat(instance2.tryLock("foo")).isFalse();
+        assertThat(instance2.tryLock("bar")).isTrue();
+
+        instance1.unlock("foo");
+        assertThat(instance2.tryLock("foo")).isTrue();
+    }
+
+    @Test
+    void shouldNotBeLockedTwiceBySameInstance() {
+        assertThat(instance1.tryLock("foo")).isTrue();
+        assertThat(instance1.tryLock("foo")).isFalse();
+
+        instance1.unlock("foo");
+        assertThat(instance2.tryLock("foo")).isTrue();
+    }
+
+    @Test
+    void shouldOnlyLockUnknownPluginInInstance() {
+        assertThat(instance1.tryLock("baz")).isTrue();
+        assertThat(instance1.tryLock("baz")).isFalse();
+        assertThat(instance2.tryLock("baz")).isTrue();
+    }
+}
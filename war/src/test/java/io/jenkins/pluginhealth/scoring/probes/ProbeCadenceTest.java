@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.probes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import io.jenkins.pluginhealth.scoring.config.EngineConfiguration;
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+
+import hudson.util.VersionNumber;
+import org.junit.jupiter.api.Test;
+
+class ProbeCadenceTest {
+    private static final ZonedDateTime NOW = ZonedDateTime.parse("2026-01-01T00:00:00Z");
+    private static final ProbeCadence CADENCE = new ProbeCadence(new EngineConfiguration(
+            new EngineConfiguration.Probe(
+                    10,
+                    Duration.ofSeconds(2),
+                    10,
+                    null,
+                    new EngineConfiguration.Cadence(
+                            true, Duration.ofHours(2), Duration.ofDays(7), 0.05, 10_000, Duration.ofDays(1))),
+            null));
+
+    @Test
+    void shouldBeDisabledWithoutConfiguration() {
+        assertThat(new ProbeCadence(new EngineConfiguration(null, null)).isEnabled()).isFalse();
+        assertThat(CADENCE.isEnabled()).isTrue();
+    }
+
+    @Test
+    void shouldProbeActivePluginsAtTheMinimumInterval() {
+        final Plugin plugin = plugin(NOW.minusYears(1), NOW.minusHours(6), NOW.minusYears(1));
+
+        assertThat(CADENCE.interval(plugin, NOW)).isEqualTo(Duration.ofHours(2));
+    }
+
+    @Test
+    void shouldProbeInactivePluginsAtTheMaximumInterval() {
+        final Plugin plugin = plugin(NOW.minusYears(6), NOW.minusYears(6), NOW.minusYears(6));
+
+        assertThat(CADENCE.interval(plugin, NOW)).isEqualTo(Duration.ofDays(7));
+        assertThat(CADENCE.nextProbeAt(plugin, NOW)).isEqualTo(NOW.plusDays(7));
+    }
+
+    @Test
+    void shouldScaleIntervalWithTimeSinceLatestActivity() {
+        final Plugin plugin = plugin(NOW.minusDays(40), NOW.minusDays(20), NOW.minusDays(60));
+
+        assertThat(CADENCE.interval(plugin, NOW)).isEqualTo(Duration.ofDays(1));
+    }
+
+    @Test
+    void shouldProbeRecentlyChangedResultsMoreOften() {
+        final Plugin plugin = plugin(NOW.minusYears(1), NOW.minusYears(1), NOW.minusYears(1))
+                .addDetails(new ProbeResult("probe", "changed", ProbeResult.Status.SUCCESS, NOW.minusDays(10), 1));
+
+        assertThat(CADENCE.interval(plugin, NOW)).isEqualTo(Duration.ofHours(12));
+    }
+
+    @Test
+    void shouldCapIntervalOfPopularPlugins() {
+        final Plugin plugin = plugin(NOW.minusYears(6), NOW.minusYears(6), NOW.minusYears(6))
+                .addDetails(new ProbeResult(
+                        InstallationStatProbe.KEY, 500_000, ProbeResult.Status.SUCCESS, NOW.minusHours(1), 2));
+
+        assertThat(CADENCE.interval(plugin, NOW)).isEqualTo(Duration.ofDays(1));
+    }
+
+    @Test
+    void shouldUseMinimumIntervalWithoutKnownActivity() {
+        final Plugin plugin = new Plugin("foo", new VersionNumber("1.0"), null, null);
+
+        assertThat(CADENCE.interval(plugin, NOW)).isEqualTo(Duration.ofHours(2));
+    }
+
+    private static Plugin plugin(
+            ZonedDateTime releaseTimestamp, ZonedDateTime lastCommitDate, ZonedDateTime resultsTimestamp) {
+        return new Plugin("foo", new VersionNumber("1.0"), "scm", releaseTimestamp)
+                .addDetails(new ProbeResult(
+                        LastCommitDateProbe.KEY,
+                        lastCommitDate.format(DateTimeFormatter.ISO_DATE_TIME),
+                        ProbeResult.Status.SUCCESS,
+                        resultsTimestamp,
+                        1));
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,7 +25,10 @@ package io.jenkins.pluginhealth.scoring.probes;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -34,29 +37,47 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.file.Files;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
+import io.jenkins.pluginhealth.scoring.config.EngineConfiguration;
 import io.jenkins.pluginhealth.scoring.model.Plugin;
 import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+import io.jenkins.pluginhealth.scoring.model.ProbeRun;
 import io.jenkins.pluginhealth.scoring.model.updatecenter.UpdateCenter;
+import io.jenkins.pluginhealth.scoring.service.GitHubUsageService;
+import io.jenkins.pluginhealth.scoring.service.HttpArchive;
 import io.jenkins.pluginhealth.scoring.service.PluginDocumentationService;
 import io.jenkins.pluginhealth.scoring.service.PluginService;
+import io.jenkins.pluginhealth.scoring.service.ProbeRunService;
 import io.jenkins.pluginhealth.scoring.service.ProbeService;
 import io.jenkins.pluginhealth.scoring.service.UpdateCenterService;
 
+import hudson.util.VersionNumber;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kohsuke.github.GitHub;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class ProbeEngineTest {
+    private static final EngineConfiguration CONFIGURATION =
+            new EngineConfiguration(new EngineConfiguration.Probe(10, Duration.ofMillis(100), 10, null, null), null);
+
     @Mock
     private PluginService pluginService;
 
@@ -72,9 +93,29 @@ class ProbeEngineTest {
     @Mock
     private PluginDocumentationService pluginDocumentationService;
 
+    @Mock
+    private ProbeRunService probeRunService;
+
+    @Mock
+    private HttpArchive httpArchive;
+
+    @Mock
+    private PluginLocks pluginLocks;
+
+    private ProbeResultsWriter probeResultsWriter;
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GitHubUsageService gitHubUsageService = new GitHubUsageService(meterRegistry);
+
     @BeforeEach
     void setup() throws Exception {
+        probeResultsWriter = new ProbeResultsWriter(pluginService, CONFIGURATION, Tracer.NOOP);
         when(updateCenterService.fetchUpdateCenter()).thenReturn(new UpdateCenter(Map.of(), Map.of(), List.of()));
+        lenient().when(pluginLocks.tryLock(any())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        probeResultsWriter.destroy();
     }
 
     @Test
@@ -94,13 +135,127 @@ class ProbeEngineTest {
         when(probeService.getProbes()).thenReturn(List.of(probe));
         when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
 
-        final ProbeEngine probeEngine =
-                new ProbeEngine(probeService, pluginService, updateCenterService, gitHub, pluginDocumentationService);
+        final ProbeEngine probeEngine = probeEngine();
         probeEngine.run();
 
         verify(probe).doApply(plugin, ctx);
         verify(plugin).addDetails(expectedResult);
-        verify(pluginService).saveOrUpdate(plugin);
+        verify(pluginService).saveProbeResults(plugin);
+    }
+
+    @Test
+    void shouldSkipPluginsBeingProbedAndReleaseTheLocksOnceSaved() throws Exception {
+        final Plugin locked = new Plugin("locked", new VersionNumber("1.0"), null, ZonedDateTime.now());
+        final Plugin free = new Plugin("free", new VersionNumber("1.0"), null, ZonedDateTime.now());
+        final Probe probe = spy(Probe.class);
+        final ProbeContext ctx = mock(ProbeContext.class);
+
+        when(probe.key()).thenReturn("probe");
+        when(probe.doApply(free, ctx)).thenReturn(ProbeResult.success("probe", "bar", 1));
+        when(pluginLocks.tryLock("locked")).thenReturn(false);
+        when(probeService.getProbeContext(any(Plugin.class), any(UpdateCenter.class)))
+                .thenReturn(ctx);
+        when(probeService.getProbes()).thenReturn(List.of(probe));
+        when(pluginService.streamAll()).thenReturn(Stream.of(locked, free));
+
+        probeEngine().run();
+
+        verify(probe, never()).doApply(eq(locked), any(ProbeContext.class));
+        verify(pluginService).saveProbeResults(free);
+        verify(pluginLocks).unlock("free");
+        verify(pluginLocks, never()).unlock("locked");
+    }
+
+    @Test
+    void shouldSaveReportOfTheRun() throws Exception {
+        final Plugin plugin = mock(Plugin.class);
+        final Probe probe = spy(Probe.class);
+        final Probe failingProbe = spy(Probe.class);
+        final ProbeContext ctx = mock(ProbeContext.class);
+
+        when(plugin.getName()).thenReturn("foo");
+        when(plugin.getDetails()).thenReturn(Map.of());
+        when(probe.key()).thenReturn("probe");
+        when(probe.doApply(plugin, ctx)).thenReturn(ProbeResult.success("probe", "bar", 1));
+        when(failingProbe.key()).thenReturn("failing");
+        when(failingProbe.doApply(plugin, ctx)).thenThrow(new RuntimeException("wiz"));
+
+        when(probeService.getProbeContext(any(Plugin.class), any(UpdateCenter.class)))
+                .thenReturn(ctx);
+        when(probeService.getProbes()).thenReturn(List.of(probe, failingProbe));
+        when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
+
+        probeEngine().run();
+
+        final ArgumentCaptor<ProbeRun> captor = ArgumentCaptor.forClass(ProbeRun.class);
+        verify(probeRunService).save(captor.capture());
+        final ProbeRun run = captor.getValue();
+        assertThat(run.getPlugins()).isEqualTo(1);
+        assertThat(run.getFinishedAt()).isAfterOrEqualTo(run.getStartedAt());
+        assertThat(run.getProbes()).containsOnlyKeys("probe", "failing");
+        assertThat(run.getProbes().get("probe").executed()).isEqualTo(1);
+        assertThat(run.getProbes().get("probe").errors()).isZero();
+        assertThat(run.getProbes().get("failing").errors()).isEqualTo(1);
+        assertThat(run.getSlowestPlugins())
+                .extracting(ProbeRun.PluginDuration::name)
+                .containsExactly("foo");
+    }
+
+    @Test
+    void shouldTraceProbesOfPlugin() throws Exception {
+        final Plugin plugin = mock(Plugin.class);
+        final Probe probe = spy(Probe.class);
+        final ProbeContext ctx = mock(ProbeContext.class);
+        final SimpleTracer tracer = new SimpleTracer();
+
+        when(plugin.getName()).thenReturn("foo");
+        when(plugin.getDetails()).thenReturn(Map.of());
+        when(probe.key()).thenReturn("probe");
+        when(probe.doApply(plugin, ctx)).thenReturn(ProbeResult.success("probe", "bar", 1));
+        when(probeService.getProbeContext(any(Plugin.class), any(UpdateCenter.class)))
+                .thenReturn(ctx);
+        when(probeService.getProbes()).thenReturn(List.of(probe));
+
+        probeEngine(tracer).runOn(plugin);
+
+        assertThat(tracer.getSpans())
+                .extracting(SimpleSpan::getName)
+                .containsExactlyInAnyOrder("probe.engine.plugin", "probe.engine.probe", "probe.engine.save");
+        assertThat(tracer.getSpans())
+                .filteredOn(span -> "probe.engine.plugin".equals(span.getName()))
+                .singleElement()
+                .satisfies(span -> assertThat(span.getTags()).containsEntry("plugin", "foo"));
+        assertThat(tracer.getSpans())
+                .filteredOn(span -> "probe.engine.probe".equals(span.getName()))
+                .singleElement()
+                .satisfies(span ->
+                        assertThat(span.getTags()).containsEntry("probe", "probe").containsEntry("result", "success"));
+        verify(pluginService).saveProbeResults(plugin);
+    }
+
+    @Test
+    void shouldAttributeGitHubRequestsToProbeAndPlugin() throws Exception {
+        final Plugin plugin = mock(Plugin.class);
+        final Probe probe = spy(Probe.class);
+        final ProbeContext ctx = mock(ProbeContext.class);
+        final List<GitHubUsageService.Attribution> attributions = new CopyOnWriteArrayList<>();
+
+        when(plugin.getName()).thenReturn("foo");
+        when(plugin.getDetails()).thenReturn(Map.of());
+        when(probe.key()).thenReturn("probe");
+        when(probe.doApply(plugin, ctx)).thenAnswer(invocation -> {
+            attributions.add(gitHubUsageService.currentAttribution());
+            return ProbeResult.success("probe", "bar", 1);
+        });
+        when(probeService.getProbeContext(any(Plugin.class), any(UpdateCenter.class)))
+                .thenReturn(ctx);
+        when(probeService.getProbes()).thenReturn(List.of(probe));
+
+        probeEngine().runOn(plugin);
+
+        assertThat(attributions).containsExactly(new GitHubUsageService.Attribution("probe", "foo"));
+        assertThat(gitHubUsageService.currentAttribution())
+                .isEqualTo(new GitHubUsageService.Attribution("none", "none"));
     }
 
     @Test
@@ -123,12 +278,50 @@ class ProbeEngineTest {
         when(probeService.getProbes()).thenReturn(List.of(probe));
         when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
 
-        final ProbeEngine probeEngine =
-                new ProbeEngine(probeService, pluginService, updateCenterService, gitHub, pluginDocumentationService);
+        final ProbeEngine probeEngine = probeEngine();
         probeEngine.run();
 
         verify(probe, never()).doApply(plugin, ctx);
-        verify(pluginService).saveOrUpdate(plugin);
+        verify(pluginService).saveProbeResults(plugin);
+    }
+
+    @Test
+    void shouldRecordProbeExecutionsByResult() throws Exception {
+        final Plugin plugin = mock(Plugin.class);
+        final Probe executedProbe = spy(Probe.class);
+        final Probe skippedProbe = spy(Probe.class);
+        final ProbeContext ctx = mock(ProbeContext.class);
+
+        when(plugin.getReleaseTimestamp()).thenReturn(ZonedDateTime.now().minusDays(1));
+        when(plugin.getDetails()).thenReturn(Map.of("skipped", ProbeResult.success("skipped", "This is good", 1)));
+
+        when(executedProbe.key()).thenReturn("executed");
+        when(executedProbe.doApply(plugin, ctx)).thenReturn(ProbeResult.success("executed", "This is good", 1));
+        when(skippedProbe.requiresRelease()).thenReturn(true);
+        when(skippedProbe.key()).thenReturn("skipped");
+        when(skippedProbe.getVersion()).thenReturn(1L);
+
+        when(probeService.getProbeContext(any(Plugin.class), any(UpdateCenter.class)))
+                .thenReturn(ctx);
+        when(probeService.getProbes()).thenReturn(List.of(executedProbe, skippedProbe));
+        when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
+
+        probeEngine().run();
+
+        assertThat(meterRegistry
+                        .get("probe.engine.probes")
+                        .tags("probe", "executed", "result", "success")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("probe.engine.probes")
+                        .tags("probe", "skipped", "result", "skipped")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("probe.engine.last.run.duration").timeGauge().value())
+                .isPositive();
     }
 
     @Test
@@ -158,8 +351,7 @@ class ProbeEngineTest {
         when(probeService.getProbes()).thenReturn(List.of(probe));
         when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
 
-        final ProbeEngine probeEngine =
-                new ProbeEngine(probeService, pluginService, updateCenterService, gitHub, pluginDocumentationService);
+        final ProbeEngine probeEngine = probeEngine();
         probeEngine.run();
 
         verify(probe, never()).doApply(plugin, ctx);
@@ -199,8 +391,7 @@ class ProbeEngineTest {
         when(probeService.getProbes()).thenReturn(List.of(probe));
         when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
 
-        final ProbeEngine probeEngine =
-                new ProbeEngine(probeService, pluginService, updateCenterService, gitHub, pluginDocumentationService);
+        final ProbeEngine probeEngine = probeEngine();
         probeEngine.run();
 
         verify(probe).doApply(plugin, ctx);
@@ -235,12 +426,11 @@ class ProbeEngineTest {
         when(probeService.getProbes()).thenReturn(List.of(probe));
         when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
 
-        final ProbeEngine probeEngine =
-                new ProbeEngine(probeService, pluginService, updateCenterService, gitHub, pluginDocumentationService);
+        final ProbeEngine probeEngine = probeEngine();
         probeEngine.run();
 
         verify(probe).doApply(eq(plugin), any(ProbeContext.class));
-        verify(pluginService).saveOrUpdate(plugin);
+        verify(pluginService).saveProbeResults(plugin);
     }
 
     @Test
@@ -270,12 +460,34 @@ class ProbeEngineTest {
         when(probeService.getProbes()).thenReturn(List.of(probe));
         when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
 
-        final ProbeEngine probeEngine =
-                new ProbeEngine(probeService, pluginService, updateCenterService, gitHub, pluginDocumentationService);
+        final ProbeEngine probeEngine = probeEngine();
         probeEngine.run();
 
         verify(probe).doApply(plugin, ctx);
-        verify(pluginService).saveOrUpdate(plugin);
+        verify(pluginService).saveProbeResults(plugin);
+    }
+
+    @Test
+    void shouldHandPluginsToConsumerOnceTheirResultsAreSaved() throws Exception {
+        final Plugin pluginA = mock(Plugin.class);
+        final Plugin pluginB = mock(Plugin.class);
+        final ProbeContext ctx = mock(ProbeContext.class);
+
+        when(probeService.getProbeContext(any(Plugin.class), any(UpdateCenter.class)))
+                .thenReturn(ctx);
+        when(probeService.getProbes()).thenReturn(List.of());
+        when(pluginService.streamAll()).thenReturn(Stream.of(pluginA, pluginB));
+        lenient()
+                .doThrow(IllegalStateException.class)
+                .when(pluginService)
+                .saveAllProbeResults(argThat(plugins -> plugins.contains(pluginB)));
+        lenient().doThrow(IllegalStateException.class).when(pluginService).saveProbeResults(pluginB);
+
+        final List<Plugin> probedPlugins = new CopyOnWriteArrayList<>();
+        final ProbeEngine probeEngine = probeEngine();
+        probeEngine.run(probedPlugins::add);
+
+        assertThat(probedPlugins).containsExactly(pluginA);
     }
 
     @Test
@@ -284,6 +496,7 @@ class ProbeEngineTest {
         final Probe probe = spy(Probe.class);
         final ProbeContext ctx = mock(ProbeContext.class);
 
+        when(probe.key()).thenReturn("foo");
         when(probe.doApply(plugin, ctx)).thenReturn(ProbeResult.error("foo", "bar", 1));
 
         when(probeService.getProbeContext(any(Plugin.class), any(UpdateCenter.class)))
@@ -291,8 +504,7 @@ class ProbeEngineTest {
         when(probeService.getProbes()).thenReturn(List.of(probe));
         when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
 
-        final ProbeEngine probeEngine =
-                new ProbeEngine(probeService, pluginService, updateCenterService, gitHub, pluginDocumentationService);
+        final ProbeEngine probeEngine = probeEngine();
         probeEngine.run();
 
         verify(plugin).addDetails(any(ProbeResult.class));
@@ -335,8 +547,7 @@ class ProbeEngineTest {
         when(probeService.getProbes()).thenReturn(List.of(probeOne, probeTwo));
         when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
 
-        final ProbeEngine probeEngine =
-                new ProbeEngine(probeService, pluginService, updateCenterService, gitHub, pluginDocumentationService);
+        final ProbeEngine probeEngine = probeEngine();
         probeEngine.run();
 
         verify(plugin, times(2)).addDetails(any(ProbeResult.class));
@@ -388,8 +599,7 @@ class ProbeEngineTest {
         when(probeService.getProbes()).thenReturn(List.of(probe));
         when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
 
-        final ProbeEngine probeEngine =
-                new ProbeEngine(probeService, pluginService, updateCenterService, gitHub, pluginDocumentationService);
+        final ProbeEngine probeEngine = probeEngine();
         probeEngine.run();
 
         verify(probe).doApply(plugin, ctx);
@@ -411,8 +621,7 @@ class ProbeEngineTest {
                 .thenReturn(ctx);
         when(pluginService.streamAll()).thenReturn(Stream.of(p1, p2));
 
-        final ProbeEngine probeEngine =
-                new ProbeEngine(probeService, pluginService, updateCenterService, gitHub, pluginDocumentationService);
+        final ProbeEngine probeEngine = probeEngine();
         probeEngine.run();
 
         verify(pluginDocumentationService).fetchPluginDocumentationUrl();
@@ -433,10 +642,65 @@ class ProbeEngineTest {
                 .thenReturn(ctx);
         when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
 
-        final ProbeEngine probeEngine =
-                new ProbeEngine(probeService, pluginService, updateCenterService, gitHub, pluginDocumentationService);
+        final ProbeEngine probeEngine = probeEngine();
         probeEngine.run();
 
         verify(probe).doApply(plugin, ctx);
     }
+
+    @Test
+    void shouldOnlyProbeDuePluginsWhenCadenceIsEnabled() throws Exception {
+        final Plugin plugin = new Plugin("foo", new VersionNumber("1.0"), null, ZonedDateTime.now());
+        final Probe probe = spy(Probe.class);
+        final ProbeContext ctx = mock(ProbeContext.class);
+
+        when(probe.key()).thenReturn("probe");
+        when(probe.doApply(plugin, ctx)).thenReturn(ProbeResult.success("probe", "this is fine", 1));
+
+        when(probeService.getProbes()).thenReturn(List.of(probe));
+        when(probeService.getProbeContext(any(Plugin.class), any(UpdateCenter.class)))
+                .thenReturn(ctx);
+        when(pluginService.streamDue(any(ZonedDateTime.class))).thenReturn(Stream.of(plugin));
+
+        final ProbeCadence cadence = new ProbeCadence(new EngineConfiguration(
+                new EngineConfiguration.Probe(
+                        10,
+                        Duration.ofMillis(100),
+                        10,
+                        null,
+                        new EngineConfiguration.Cadence(
+                                true, Duration.ofHours(2), Duration.ofDays(7), 0.05, 10_000, Duration.ofDays(1))),
+                null));
+        final ZonedDateTime start = ZonedDateTime.now();
+        probeEngine(Tracer.NOOP, cadence).run();
+
+        verify(pluginService, never()).streamAll();
+        verify(pluginService).saveProbeResults(plugin);
+        assertThat(plugin.getNextProbeAt()).isBetween(start.plusHours(2), ZonedDateTime.now().plusHours(2));
+    }
+
+    private ProbeEngine probeEngine() {
+        return probeEngine(Tracer.NOOP);
+    }
+
+    private ProbeEngine probeEngine(Tracer tracer) {
+        return probeEngine(tracer, new ProbeCadence(CONFIGURATION));
+    }
+
+    private ProbeEngine probeEngine(Tracer tracer, ProbeCadence probeCadence) {
+        return new ProbeEngine(
+                probeService,
+                pluginService,
+                probeResultsWriter,
+                updateCenterService,
+                gitHub,
+                gitHubUsageService,
+                pluginDocumentationService,
+                probeRunService,
+                probeCadence,
+                httpArchive,
+                pluginLocks,
+                meterRegistry,
+                tracer);
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.probes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import io.jenkins.pluginhealth.scoring.config.EngineConfiguration;
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.service.PluginService;
+
+import hudson.util.VersionNumber;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProbeResultsWriterTest {
+    @Mock
+    private PluginService pluginService;
+
+    @Test
+    void shouldSavePluginsInBatches() throws Exception {
+        final ProbeResultsWriter writer = writer(3, Duration.ofMinutes(1));
+        final List<Plugin> plugins = plugins(3);
+
+        final List<CompletableFuture<Plugin>> futures = plugins.stream().map(writer::submit).toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        writer.destroy();
+
+        verify(pluginService).saveAllProbeResults(plugins);
+        assertThat(futures).extracting(CompletableFuture::join).containsExactlyElementsOf(plugins);
+    }
+
+    @Test
+    void shouldSaveIncompleteBatchAfterInterval() throws Exception {
+        final ProbeResultsWriter writer = writer(10, Duration.ofMillis(50));
+        final List<Plugin> plugins = plugins(2);
+
+        final List<CompletableFuture<Plugin>> futures = plugins.stream().map(writer::submit).toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        writer.destroy();
+
+        verify(pluginService).saveAllProbeResults(plugins);
+    }
+
+    @Test
+    void shouldSaveQueuedPluginsWhenStopped() throws Exception {
+        final ProbeResultsWriter writer = writer(10, Duration.ofMinutes(1));
+        final List<Plugin> plugins = plugins(2);
+
+        final List<CompletableFuture<Plugin>> futures = plugins.stream().map(writer::submit).toList();
+        writer.destroy();
+
+        verify(pluginService).saveAllProbeResults(plugins);
+        assertThat(futures).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+        assertThat(writer.submit(plugins.getFirst())).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldCompletePluginsQueuedWhileStopping() throws Exception {
+        final ProbeResultsWriter writer = writer(2, Duration.ofMinutes(1));
+        final List<Plugin> plugins = plugins(13);
+        final CountDownLatch saving = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+                    if (saving.getCount() > 0) {
+                        saving.countDown();
+                        release.await();
+                    }
+                    return null;
+                })
+                .when(pluginService)
+                .saveAllProbeResults(anyCollection());
+
+        final List<CompletableFuture<Plugin>> futures = new ArrayList<>(
+                plugins.subList(0, 2).stream().map(writer::submit).toList());
+        saving.await();
+        plugins.subList(2, 12).stream().map(writer::submit).forEach(futures::add);
+        final CompletableFuture<CompletableFuture<Plugin>> blocked =
+                CompletableFuture.supplyAsync(() -> writer.submit(plugins.getLast()));
+        final CompletableFuture<Void> destroyed = CompletableFuture.runAsync(() -> {
+            try {
+                writer.destroy();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        release.countDown();
+        destroyed.get(30, TimeUnit.SECONDS);
+        futures.add(blocked.get(30, TimeUnit.SECONDS));
+
+        assertThat(futures).hasSize(13).allMatch(CompletableFuture::isDone);
+    }
+
+    @Test
+    void shouldSavePluginsOneByOneWhenBatchCannotBeSaved() throws Exception {
+        final ProbeResultsWriter writer = writer(2, Duration.ofMinutes(1));
+        final List<Plugin> plugins = plugins(2);
+        doThrow(IllegalStateException.class).when(pluginService).saveAllProbeResults(anyCollection());
+        lenient().doThrow(IllegalStateException.class).when(pluginService).saveProbeResults(plugins.getLast());
+
+        final CompletableFuture<Plugin> saved = writer.submit(plugins.getFirst());
+        final CompletableFuture<Plugin> failed = writer.submit(plugins.getLast());
+        CompletableFuture.allOf(saved, failed).handle((v, t) -> null).join();
+        writer.destroy();
+
+        verify(pluginService).saveProbeResults(plugins.getFirst());
+        assertThat(saved).isCompletedWithValue(plugins.getFirst());
+        assertThat(failed).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldNotSaveWhenNothingWasQueued() throws Exception {
+        writer(10, Duration.ofMillis(10)).destroy();
+
+        verify(pluginService, never()).saveAllProbeResults(anyCollection());
+    }
+
+    private ProbeResultsWriter writer(int batchSize, Duration interval) {
+        return new ProbeResultsWriter(
+                pluginService,
+                new EngineConfiguration(new EngineConfiguration.Probe(batchSize, interval, 10, null, null), null),
+                Tracer.NOOP);
+    }
+
+    private static List<Plugin> plugins(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Plugin("plugin-" + i, new VersionNumber("1.0"), "scm", null))
+                .toList();
+    }
+}
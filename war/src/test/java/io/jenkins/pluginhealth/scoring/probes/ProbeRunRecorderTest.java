@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.probes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+import io.jenkins.pluginhealth.scoring.model.ProbeRun;
+
+import org.junit.jupiter.api.Test;
+
+class ProbeRunRecorderTest {
+    private static final ZonedDateTime NOW = ZonedDateTime.now();
+
+    @Test
+    void shouldComputeProbeStatistics() {
+        final ProbeRunRecorder recorder = new ProbeRunRecorder(NOW.minusMinutes(1));
+        IntStream.rangeClosed(1, 100)
+                .forEach(i -> recorder.recordProbe(
+                        "foo", ProbeResult.success("foo", "bar", 1), true, TimeUnit.MILLISECONDS.toNanos(i)));
+        recorder.recordProbe("foo", ProbeResult.success("foo", "bar", 1), false, 0);
+        recorder.recordProbe("foo", null, true, TimeUnit.MILLISECONDS.toNanos(1));
+        recorder.recordProbe("foo", ProbeResult.error("foo", "bar", 1), true, TimeUnit.MILLISECONDS.toNanos(1));
+
+        final ProbeRun run = recorder.toProbeRun(NOW);
+
+        assertThat(run.getDurationMillis()).isEqualTo(60_000);
+        assertThat(run.getProbes())
+                .containsEntry("foo", new ProbeRun.ProbeStatistics(102, 1, 2, 5_052, 95));
+    }
+
+    @Test
+    void shouldKeepOnlySlowestPlugins() {
+        final ProbeRunRecorder recorder = new ProbeRunRecorder(NOW.minusMinutes(1));
+        IntStream.range(0, 50)
+                .forEach(i -> recorder.recordPlugin("plugin-" + i, TimeUnit.MILLISECONDS.toNanos(i)));
+
+        final ProbeRun run = recorder.toProbeRun(NOW);
+
+        assertThat(run.getPlugins()).isEqualTo(50);
+        assertThat(run.getSlowestPlugins())
+                .hasSize(ProbeRunRecorder.SLOWEST_PLUGINS)
+                .extracting(ProbeRun.PluginDuration::name)
+                .containsExactly(IntStream.iterate(49, i -> i - 1)
+                        .limit(ProbeRunRecorder.SLOWEST_PLUGINS)
+                        .mapToObj(i -> "plugin-" + i)
+                        .toArray(String[]::new));
+    }
+
+    @Test
+    void shouldCountClones() {
+        final ProbeRunRecorder recorder = new ProbeRunRecorder(NOW.minusMinutes(1));
+        recorder.cloned();
+        recorder.cloned();
+        recorder.cloneSkipped();
+        recorder.cloneFailed();
+
+        final ProbeRun run = recorder.toProbeRun(NOW);
+
+        assertThat(run.getClones()).isEqualTo(2);
+        assertThat(run.getSkippedClones()).isEqualTo(1);
+        assertThat(run.getFailedClones()).isEqualTo(1);
+        assertThat(run.getProbes()).isEmpty();
+        assertThat(run.getSlowestPlugins()).isEmpty();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.probes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import io.jenkins.pluginhealth.scoring.config.EngineConfiguration;
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeRun;
+import io.jenkins.pluginhealth.scoring.model.ProbeWorkItem;
+import io.jenkins.pluginhealth.scoring.model.updatecenter.UpdateCenter;
+import io.jenkins.pluginhealth.scoring.scores.ScoringEngine;
+import io.jenkins.pluginhealth.scoring.service.PluginDocumentationService;
+import io.jenkins.pluginhealth.scoring.service.PluginService;
+import io.jenkins.pluginhealth.scoring.service.ProbeRunService;
+import io.jenkins.pluginhealth.scoring.service.ProbeWorkQueueService;
+import io.jenkins.pluginhealth.scoring.service.UpdateCenterService;
+
+import hudson.util.VersionNumber;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProbeWorkerTest {
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(10);
+    private static final EngineConfiguration CONFIGURATION = new EngineConfiguration(
+            new EngineConfiguration.Probe(
+                    10,
+                    Duration.ofMillis(100),
+                    10,
+                    new EngineConfiguration.Queue(
+                            true, 5, LEASE_DURATION, Duration.ofMinutes(1), Duration.ofSeconds(30), 3),
+                    null),
+            null);
+
+    @Mock
+    private ProbeWorkQueueService queueService;
+
+    @Mock
+    private PluginService pluginService;
+
+    @Mock
+    private PluginLocks pluginLocks;
+
+    @Mock
+    private ProbeEngine probeEngine;
+
+    @Mock
+    private ScoringEngine scoringEngine;
+
+    @Mock
+    private UpdateCenterService updateCenterService;
+
+    @Mock
+    private PluginDocumentationService pluginDocumentationService;
+
+    @Mock
+    private ProbeRunService probeRunService;
+
+    private final ZonedDateTime enqueuedAt = ZonedDateTime.now();
+    private final ProbeWorkItem item = new ProbeWorkItem("foo", enqueuedAt);
+    private final Plugin plugin = new Plugin("foo", new VersionNumber("1.0"), null, enqueuedAt);
+
+    @BeforeEach
+    void setup() throws Exception {
+        when(queueService.lease(anyString(), eq(5), eq(LEASE_DURATION)))
+                .thenReturn(List.of(item))
+                .thenReturn(List.of());
+        when(updateCenterService.fetchUpdateCenter()).thenReturn(new UpdateCenter(Map.of(), Map.of(), List.of()));
+        when(pluginDocumentationService.fetchPluginDocumentationUrl()).thenReturn(Map.of());
+    }
+
+    @Test
+    void shouldProbeAndScoreLeasedPlugins() throws Exception {
+        when(pluginLocks.tryLock("foo")).thenReturn(true);
+        when(pluginService.findByName("foo")).thenReturn(Optional.of(plugin));
+        when(probeEngine.runOn(eq(plugin), any(UpdateCenter.class), eq(Map.of()), any(ProbeRunRecorder.class)))
+                .thenReturn(CompletableFuture.completedFuture(plugin));
+        when(queueService.finish(eq(item), anyString(), eq(ProbeWorkItem.Status.DONE)))
+                .thenReturn(true);
+
+        worker().drain();
+
+        verify(scoringEngine).runOn(plugin);
+        verify(pluginLocks).unlock("foo");
+        final ArgumentCaptor<ProbeRun> report = ArgumentCaptor.forClass(ProbeRun.class);
+        verify(probeRunService).save(report.capture());
+        assertThat(report.getValue().getStartedAt()).isEqualTo(enqueuedAt);
+    }
+
+    @Test
+    void shouldMarkItemAsFailedWhenProbesCannotRun() throws Exception {
+        when(pluginLocks.tryLock("foo")).thenReturn(true);
+        when(pluginService.findByName("foo")).thenReturn(Optional.of(plugin));
+        when(probeEngine.runOn(eq(plugin), any(UpdateCenter.class), eq(Map.of()), any(ProbeRunRecorder.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Could not run the probes")));
+        when(queueService.finish(eq(item), anyString(), eq(ProbeWorkItem.Status.FAILED)))
+                .thenReturn(true);
+
+        worker().drain();
+
+        verifyNoInteractions(scoringEngine);
+        verify(pluginLocks).unlock("foo");
+    }
+
+    @Test
+    void shouldReleasePluginLockedByAnotherInstance() throws Exception {
+        when(pluginLocks.tryLock("foo")).thenReturn(false);
+
+        worker().drain();
+
+        verifyNoInteractions(probeEngine, scoringEngine, pluginService);
+        verify(queueService, never()).finish(any(), anyString(), any());
+        verify(queueService).release(eq(item), anyString());
+        verify(queueService).lease(anyString(), eq(5), eq(LEASE_DURATION));
+        verify(pluginLocks, never()).unlock("foo");
+    }
+
+    private ProbeWorker worker() {
+        return new ProbeWorker(
+                queueService,
+                pluginService,
+                pluginLocks,
+                probeEngine,
+                scoringEngine,
+                updateCenterService,
+                pluginDocumentationService,
+                probeRunService,
+                CONFIGURATION,
+                new SimpleMeterRegistry());
+    }
+}
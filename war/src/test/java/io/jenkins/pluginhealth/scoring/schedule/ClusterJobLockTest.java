@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.jenkins.pluginhealth.scoring.config.SchedulerLockConfiguration;
+import io.jenkins.pluginhealth.scoring.service.SchedulerLockService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterJobLockTest {
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration MINIMUM_HOLD = Duration.ofMinutes(1);
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    private ClusterJobLock clusterJobLock;
+
+    @BeforeEach
+    void setup() {
+        clusterJobLock =
+                new ClusterJobLock(schedulerLockService, new SchedulerLockConfiguration(TTL, MINIMUM_HOLD));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clusterJobLock.destroy();
+    }
+
+    @Test
+    void shouldRunJobAndReleaseLock() {
+        when(schedulerLockService.tryAcquire(eq("job"), anyString(), eq(TTL)))
+                .thenReturn(true);
+        final AtomicBoolean ran = new AtomicBoolean();
+
+        assertThat(clusterJobLock.runExclusively("job", () -> ran.set(true))).isTrue();
+
+        assertThat(ran).isTrue();
+        verify(schedulerLockService).tryAcquire("job", clusterJobLock.getOwner(), TTL);
+        verify(schedulerLockService).release("job", clusterJobLock.getOwner(), MINIMUM_HOLD);
+    }
+
+    @Test
+    void shouldNotRunJobLockedByAnotherInstance() {
+        when(schedulerLockService.tryAcquire(eq("job"), anyString(), eq(TTL)))
+                .thenReturn(false);
+        final AtomicBoolean ran = new AtomicBoolean();
+
+        assertThat(clusterJobLock.runExclusively("job", () -> ran.set(true))).isFalse();
+
+        assertThat(ran).isFalse();
+        verify(schedulerLockService, never()).release(anyString(), anyString(), any());
+    }
+
+    @Test
+    void shouldReleaseLockWhenJobFails() {
+        when(schedulerLockService.tryAcquire(eq("job"), anyString(), eq(TTL)))
+                .thenReturn(true);
+
+        assertThatThrownBy(() -> clusterJobLock.runExclusively("job", () -> {
+                    throw new IOException("update-center unreachable");
+                }))
+                .isInstanceOf(IOException.class);
+
+        verify(schedulerLockService).release("job", clusterJobLock.getOwner(), MINIMUM_HOLD);
+    }
+}
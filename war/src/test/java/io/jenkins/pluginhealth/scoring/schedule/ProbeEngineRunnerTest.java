@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.schedule;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import io.jenkins.pluginhealth.scoring.config.EngineConfiguration;
+import io.jenkins.pluginhealth.scoring.probes.ProbeEngine;
+import io.jenkins.pluginhealth.scoring.scores.ScoringEngine;
+import io.jenkins.pluginhealth.scoring.service.ProbeWorkQueueService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProbeEngineRunnerTest {
+    @Mock
+    private ProbeEngine probeEngine;
+
+    @Mock
+    private ScoringEngine scoringEngine;
+
+    @Mock
+    private ProbeWorkQueueService probeWorkQueueService;
+
+    @Test
+    void shouldOnlyEnqueueRunWhenQueueIsEnabled() throws Exception {
+        final EngineConfiguration.Queue queue = new EngineConfiguration.Queue(
+                true, 5, Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofMinutes(1), 3);
+        when(probeWorkQueueService.enqueueRun(any(ZonedDateTime.class), eq(false))).thenReturn(2);
+
+        runner(queue, false).run();
+
+        verifyNoInteractions(probeEngine, scoringEngine);
+    }
+
+    @Test
+    void shouldScoreEachPluginOnceProbedWhenStreaming() throws Exception {
+        runner(null, true).run();
+
+        verify(probeEngine).run(any());
+        verifyNoInteractions(probeWorkQueueService, scoringEngine);
+    }
+
+    @Test
+    void shouldScoreAllPluginsOnceProbed() throws Exception {
+        runner(null, false).run();
+
+        verify(probeEngine).run();
+        verify(scoringEngine).run();
+        verifyNoInteractions(probeWorkQueueService);
+    }
+
+    private ProbeEngineRunner runner(EngineConfiguration.Queue queue, boolean streaming) {
+        return new ProbeEngineRunner(
+                probeEngine,
+                scoringEngine,
+                probeWorkQueueService,
+                new EngineConfiguration(
+                        new EngineConfiguration.Probe(10, Duration.ofMillis(100), 10, queue, null),
+                        new EngineConfiguration.Scoring(10, 0, streaming)));
+    }
+}
@@ -24,6 +24,7 @@
 package io.jenkins.pluginhealth.scoring.schedule;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -62,7 +63,8 @@ class UpdateCenterSchedulerIT extends AbstractDBContainerTest {
                         UpdateCenter.class);
 
         when(ucService.fetchUpdateCenter()).thenReturn(updateCenter);
-        upScheduler = new DefaultUpdateCenterScheduler(ucService, new PluginService(pluginRepository));
+        upScheduler = new DefaultUpdateCenterScheduler(
+                ucService, new PluginService(pluginRepository), mock(ClusterJobLock.class));
     }
 
     @Test
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.scores;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import io.jenkins.pluginhealth.scoring.config.EngineConfiguration;
+import io.jenkins.pluginhealth.scoring.model.Plugin;
+import io.jenkins.pluginhealth.scoring.model.ProbeResult;
+import io.jenkins.pluginhealth.scoring.probes.CodeOwnershipProbe;
+import io.jenkins.pluginhealth.scoring.probes.ContinuousDeliveryProbe;
+import io.jenkins.pluginhealth.scoring.probes.ContributingGuidelinesProbe;
+import io.jenkins.pluginhealth.scoring.probes.DependabotProbe;
+import io.jenkins.pluginhealth.scoring.probes.DependabotPullRequestProbe;
+import io.jenkins.pluginhealth.scoring.probes.DeprecatedPluginProbe;
+import io.jenkins.pluginhealth.scoring.probes.DocumentationMigrationProbe;
+import io.jenkins.pluginhealth.scoring.probes.JenkinsfileProbe;
+import io.jenkins.pluginhealth.scoring.probes.KnownSecurityVulnerabilityProbe;
+import io.jenkins.pluginhealth.scoring.probes.LastCommitDateProbe;
+import io.jenkins.pluginhealth.scoring.probes.MavenDependenciesProbe;
+import io.jenkins.pluginhealth.scoring.probes.MavenPropertiesProbe;
+import io.jenkins.pluginhealth.scoring.probes.PluginDescriptionMigrationProbe;
+import io.jenkins.pluginhealth.scoring.probes.ReleaseDrafterProbe;
+import io.jenkins.pluginhealth.scoring.probes.RepositoryArchivedStatusProbe;
+import io.jenkins.pluginhealth.scoring.probes.UpForAdoptionProbe;
+import io.jenkins.pluginhealth.scoring.probes.UpdateCenterPluginPublicationProbe;
+import io.jenkins.pluginhealth.scoring.service.PluginService;
+import io.jenkins.pluginhealth.scoring.service.ScoreService;
+import io.jenkins.pluginhealth.scoring.service.ScoringService;
+
+import hudson.util.VersionNumber;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Measures the throughput of {@link ScoringEngine#run()} on synthetic plugins, without any database.
+ * <p>
+ * Run with {@code mvn -pl war test -Dtest=ScoringEngineBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@ExtendWith(MockitoExtension.class)
+class ScoringEngineBenchmarkTest {
+    @Mock
+    private PluginService pluginService;
+
+    @Mock
+    private ScoreService scoreService;
+
+    @ParameterizedTest(name = "{0} plugins on {1} thread(s)")
+    @CsvSource({"2000, 1", "2000, 0", "20000, 1", "20000, 0"})
+    void scoringThroughput(int numberOfPlugins, int parallelism) {
+        final ScoringService scoringService = new ScoringService(List.of(
+                new AdoptionScoring(),
+                new DependencyManagementScoring(),
+                new DeprecatedPluginScoring(),
+                new DocumentationScoring(),
+                new JUnit4BanScoring(),
+                new PluginMaintenanceScoring(),
+                new SecurityWarningScoring()));
+        final List<Plugin> plugins =
+                IntStream.range(0, numberOfPlugins).mapToObj(this::plugin).toList();
+
+        when(pluginService.streamAll()).thenAnswer(_ -> plugins.stream());
+        when(scoreService.latestScoresFor(anyList())).thenReturn(Map.of());
+        when(scoreService.saveAll(anyList(), anyList(), anyList())).then(AdditionalAnswers.returnsFirstArg());
+
+        final int threads = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            final ScoringEngine scoringEngine = new ScoringEngine(
+                    scoringService,
+                    pluginService,
+                    scoreService,
+                    new EngineConfiguration(null, new EngineConfiguration.Scoring(500, threads, false)),
+                    executor,
+                    new SimpleMeterRegistry());
+
+            scoringEngine.run(); // warm-up
+            final ScoringEngine.RunSummary summary = scoringEngine.run();
+
+            System.out.printf(
+                    "scoring-engine plugins=%d threads=%d duration=%dms throughput=%.1f plugins/s%n",
+                    summary.plugins(), threads, summary.duration().toMillis(), summary.throughput());
+            assertThat(summary.plugins()).isEqualTo(numberOfPlugins);
+            assertThat(summary.scored()).isEqualTo(numberOfPlugins);
+        }
+    }
+
+    private Plugin plugin(int index) {
+        final ZonedDateTime now = ZonedDateTime.now();
+        final Plugin plugin = new Plugin(
+                "plugin-" + index,
+                new VersionNumber("1." + index),
+                "https://github.com/jenkinsci/plugin-" + index,
+                now.minusDays(index % 2000));
+        List.of(
+                        ProbeResult.success(UpForAdoptionProbe.KEY, "This plugin is not up for adoption.", 1),
+                        ProbeResult.success(
+                                LastCommitDateProbe.KEY,
+                                now.minusDays(index % 3000).format(DateTimeFormatter.ISO_DATE_TIME),
+                                1),
+                        ProbeResult.success(DeprecatedPluginProbe.KEY, "This plugin is NOT deprecated.", 1),
+                        ProbeResult.success(RepositoryArchivedStatusProbe.KEY, index % 50 == 0, 1),
+                        ProbeResult.success(
+                                UpdateCenterPluginPublicationProbe.KEY,
+                                "This plugin is still actively published by the update-center.",
+                                1),
+                        ProbeResult.success(ContributingGuidelinesProbe.KEY, "Contributing guidelines found.", 1),
+                        ProbeResult.success(
+                                DocumentationMigrationProbe.KEY,
+                                "Documentation is located in the plugin repository.",
+                                1),
+                        ProbeResult.success(ContinuousDeliveryProbe.KEY, "JEP-229 workflow definition found.", 1),
+                        ProbeResult.success(ReleaseDrafterProbe.KEY, "Release Drafter is configured.", 1),
+                        ProbeResult.success(
+                                PluginDescriptionMigrationProbe.KEY,
+                                "Plugin seems to have a correct description.",
+                                1),
+                        ProbeResult.success(MavenPropertiesProbe.KEY, Map.of("ban-junit4-imports.skip", "false"), 1),
+                        ProbeResult.success(JenkinsfileProbe.KEY, "Jenkinsfile found", 1),
+                        ProbeResult.success(CodeOwnershipProbe.KEY, "CODEOWNERS file is valid.", 1),
+                        ProbeResult.success(
+                                KnownSecurityVulnerabilityProbe.KEY, "No known security vulnerabilities.", 1),
+                        ProbeResult.success(DependabotProbe.KEY, "Dependabot is configured.", 1),
+                        ProbeResult.success(DependabotPullRequestProbe.KEY, index % 5, 1),
+                        ProbeResult.success(MavenDependenciesProbe.KEY, List.of("org.jenkins-ci.plugins:foo"), 1))
+                .forEach(plugin::addDetails);
+        return plugin;
+    }
+}
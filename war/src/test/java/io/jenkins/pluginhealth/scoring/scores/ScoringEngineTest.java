@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2023-2025 Jenkins Infra
+ * Copyright (c) 2023-2026 Jenkins Infra
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,7 +25,9 @@ package io.jenkins.pluginhealth.scoring.scores;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -33,7 +35,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -41,15 +46,21 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import io.jenkins.pluginhealth.scoring.config.EngineConfiguration;
 import io.jenkins.pluginhealth.scoring.model.Plugin;
 import io.jenkins.pluginhealth.scoring.model.ProbeResult;
 import io.jenkins.pluginhealth.scoring.model.Score;
 import io.jenkins.pluginhealth.scoring.model.ScoreResult;
 import io.jenkins.pluginhealth.scoring.model.ScoringComponentResult;
+import io.jenkins.pluginhealth.scoring.probes.LastCommitDateProbe;
+import io.jenkins.pluginhealth.scoring.probes.UpForAdoptionProbe;
 import io.jenkins.pluginhealth.scoring.service.PluginService;
 import io.jenkins.pluginhealth.scoring.service.ScoreService;
 import io.jenkins.pluginhealth.scoring.service.ScoringService;
 
+import hudson.util.VersionNumber;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.AdditionalAnswers;
@@ -59,6 +70,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class ScoringEngineTest {
+    private static final EngineConfiguration CONFIGURATION =
+            new EngineConfiguration(null, new EngineConfiguration.Scoring(2, 1, false));
+
     @Mock
     private PluginService pluginService;
 
@@ -68,6 +82,8 @@ class ScoringEngineTest {
     @Mock
     private ScoreService scoreService;
 
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Test
     void shouldBeAbleToScoreOnePlugin() {
         final Plugin plugin = mock(Plugin.class);
@@ -78,9 +94,11 @@ class ScoringEngineTest {
         when(scoringB.apply(plugin)).thenReturn(new ScoreResult("scoring-b", 0, 1, Set.of(), 1));
 
         when(scoringService.getScoringList()).thenReturn(List.of(scoringA, scoringB));
-        when(scoreService.save(any(Score.class))).then(AdditionalAnswers.returnsFirstArg());
+        when(scoreService.saveAll(anyList(), anyList(), eq(List.of(plugin))))
+                .then(AdditionalAnswers.returnsFirstArg());
 
-        final ScoringEngine scoringEngine = new ScoringEngine(scoringService, pluginService, scoreService);
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry);
         final Score score = scoringEngine.runOn(plugin);
 
         verify(scoringA).apply(plugin);
@@ -107,8 +125,9 @@ class ScoringEngineTest {
         when(scoringService.getScoringList()).thenReturn(List.of(scoringA, scoringB));
         when(pluginService.streamAll()).thenReturn(Stream.of(pluginA, pluginB, pluginC));
 
-        final ScoringEngine scoringEngine = new ScoringEngine(scoringService, pluginService, scoreService);
-        scoringEngine.run();
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry);
+        final ScoringEngine.RunSummary summary = scoringEngine.run();
 
         final ArgumentCaptor<Plugin> pluginArgumentScoringA = ArgumentCaptor.forClass(Plugin.class);
         verify(scoringA, times(3)).apply(pluginArgumentScoringA.capture());
@@ -118,12 +137,85 @@ class ScoringEngineTest {
         verify(scoringB, times(3)).apply(pluginArgumentScoringB.capture());
         assertThat(pluginArgumentScoringB.getAllValues()).containsExactlyInAnyOrder(pluginA, pluginB, pluginC);
 
-        final ArgumentCaptor<Score> scoreArgument = ArgumentCaptor.forClass(Score.class);
-        verify(scoreService, times(3)).save(scoreArgument.capture());
-        assertThat(scoreArgument.getAllValues())
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<Score>> scoreArgument = ArgumentCaptor.forClass(List.class);
+        verify(scoreService, times(2)).saveAll(scoreArgument.capture(), anyList(), anyList());
+        verify(scoreService, never()).save(any(Score.class));
+        assertThat(scoreArgument.getAllValues().stream().flatMap(List::stream))
                 .filteredOn(
                         score -> Objects.nonNull(score) && score.getDetails().size() == 2 && score.getValue() == 85)
                 .hasSize(3);
+        assertThat(summary.plugins()).isEqualTo(3);
+        assertThat(summary.scored()).isEqualTo(3);
+        assertThat(meterRegistry.get("scoring.engine.plugins").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry
+                        .get("scoring.engine.scores")
+                        .tag("result", "new")
+                        .counter()
+                        .count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void shouldPrefetchLatestScoresOfEachBatch() {
+        final Plugin pluginA = mock(Plugin.class);
+        final Plugin pluginB = mock(Plugin.class);
+        final Plugin pluginC = mock(Plugin.class);
+
+        final Scoring scoringA = mock(Scoring.class);
+        when(scoringA.key()).thenReturn("scoring-a");
+        when(scoringA.version()).thenReturn(1);
+        when(scoringA.apply(any(Plugin.class))).thenReturn(new ScoreResult("scoring-a", 100, 1, Set.of(), 1));
+
+        final Score previousScoreOfB = mock(Score.class);
+        when(previousScoreOfB.getVerifiedAt()).thenReturn(ZonedDateTime.now());
+        when(previousScoreOfB.getDetails()).thenReturn(Set.of(new ScoreResult("scoring-a", 100, 1, Set.of(), 1)));
+
+        when(scoringService.getScoringList()).thenReturn(List.of(scoringA));
+        when(pluginService.streamAll()).thenReturn(Stream.of(pluginA, pluginB, pluginC));
+        when(scoreService.latestScoresFor(List.of(pluginA, pluginB))).thenReturn(Map.of(pluginB, previousScoreOfB));
+        when(scoreService.latestScoresFor(List.of(pluginC))).thenReturn(Map.of());
+
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry);
+        final ScoringEngine.RunSummary summary = scoringEngine.run();
+
+        verify(scoringA).apply(pluginA);
+        verify(scoringA, never()).apply(pluginB);
+        verify(scoringA).apply(pluginC);
+        verify(scoreService, never()).latestScoreFor(any(Plugin.class));
+
+        assertThat(summary.plugins()).isEqualTo(3);
+        assertThat(summary.scored()).isEqualTo(2);
+        assertThat(summary.reused()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOnlyScoreDirtyPluginsAfterFirstRun() {
+        final Plugin pluginA = mock(Plugin.class);
+        final Plugin pluginB = mock(Plugin.class);
+
+        final Scoring scoringA = mock(Scoring.class);
+        when(scoringA.apply(any(Plugin.class))).thenReturn(new ScoreResult("scoring-a", 100, 1, Set.of(), 1));
+
+        when(scoringService.getScoringList()).thenReturn(List.of(scoringA));
+        when(pluginService.streamAll()).thenReturn(Stream.of(pluginA, pluginB));
+        when(pluginService.streamDirty()).thenReturn(Stream.of(pluginB));
+
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry);
+        final ScoringEngine.RunSummary firstRun = scoringEngine.run();
+        final ScoringEngine.RunSummary secondRun = scoringEngine.run();
+
+        verify(pluginService).streamAll();
+        verify(pluginService).streamDirty();
+        verify(scoringA).apply(pluginA);
+        verify(scoringA, times(2)).apply(pluginB);
+        verify(scoreService).saveAll(anyList(), anyList(), eq(List.of(pluginA, pluginB)));
+        verify(scoreService).saveAll(anyList(), anyList(), eq(List.of(pluginB)));
+
+        assertThat(firstRun.plugins()).isEqualTo(2);
+        assertThat(secondRun.plugins()).isEqualTo(1);
     }
 
     @Test
@@ -146,18 +238,20 @@ class ScoringEngineTest {
         when(scoringA.key()).thenReturn(scoringAKey);
 
         final Score oldPluginAScore = mock(Score.class);
-        when(oldPluginAScore.getComputedAt()).thenReturn(ZonedDateTime.now().minusMinutes(5));
+        when(oldPluginAScore.getVerifiedAt()).thenReturn(ZonedDateTime.now().minusMinutes(5));
         when(oldPluginAScore.getDetails()).thenReturn(Set.of(new ScoreResult(scoringAKey, 100, 1, Set.of(), 1)));
 
         when(scoringService.getScoringList()).thenReturn(List.of(scoringA));
         when(scoreService.latestScoreFor(pluginA)).thenReturn(Optional.of(oldPluginAScore));
 
-        final ScoringEngine scoringEngine = new ScoringEngine(scoringService, pluginService, scoreService);
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry);
         final Score score = scoringEngine.runOn(pluginA);
 
         verify(scoringA, times(0)).apply(any(Plugin.class));
 
         verify(scoreService, never()).save(any(Score.class));
+        verify(scoreService).saveAll(List.of(), List.of(), List.of(pluginA));
         assertThat(score).isEqualTo(oldPluginAScore);
     }
 
@@ -183,13 +277,15 @@ class ScoringEngineTest {
         when(scoringA.apply(plugin)).thenReturn(expectedNewScoreResult);
 
         when(previousScore.getDetails()).thenReturn(Set.of(new ScoreResult("scoring-a", 1, 1, Set.of(), 1)));
-        when(previousScore.getComputedAt()).thenReturn(ZonedDateTime.now().minusHours(1));
+        when(previousScore.getVerifiedAt()).thenReturn(ZonedDateTime.now().minusHours(1));
 
         when(scoringService.getScoringList()).thenReturn(List.of(scoringA));
         when(scoreService.latestScoreFor(plugin)).thenReturn(Optional.of(previousScore));
-        when(scoreService.save(any(Score.class))).then(AdditionalAnswers.returnsFirstArg());
+        when(scoreService.saveAll(anyList(), anyList(), eq(List.of(plugin))))
+                .then(AdditionalAnswers.returnsFirstArg());
 
-        final ScoringEngine scoringEngine = new ScoringEngine(scoringService, pluginService, scoreService);
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry);
         final Score score = scoringEngine.runOn(plugin);
 
         verify(scoringA).apply(plugin);
@@ -218,10 +314,11 @@ class ScoringEngineTest {
 
         when(scoringService.getScoringList()).thenReturn(List.of(scoringA, scoringB));
 
-        final ScoringEngine scoringEngine = new ScoringEngine(scoringService, pluginService, scoreService);
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry);
         scoringEngine.runOn(plugin);
 
-        verify(scoringA).apply(plugin);
+        verify(scoringA, never()).apply(plugin);
         verify(scoringB).apply(plugin);
     }
 
@@ -247,13 +344,253 @@ class ScoringEngineTest {
 
         when(scoringService.getScoringList()).thenReturn(List.of(scoringA, scoringB));
 
-        final ScoringEngine scoringEngine = new ScoringEngine(scoringService, pluginService, scoreService);
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry);
         scoringEngine.runOn(plugin);
 
-        verify(scoringA).apply(plugin);
+        verify(scoringA, never()).apply(plugin);
         verify(scoringB).apply(plugin);
     }
 
+    @Test
+    void shouldAlsoScorePluginsNotScoredTodayWithTimeDependentScorings() {
+        final ZonedDateTime now = ZonedDateTime.parse("2024-01-01T10:00:00Z");
+        final Plugin pluginA = mock(Plugin.class);
+        final Scoring scoringA = mock(Scoring.class);
+        when(scoringA.isTimeDependent()).thenReturn(true);
+        when(scoringA.apply(pluginA)).thenReturn(new ScoreResult("scoring-a", 100, 1, Set.of(), 1));
+
+        when(scoringService.getScoringList()).thenReturn(List.of(scoringA));
+        when(pluginService.streamAll()).thenReturn(Stream.of());
+        when(pluginService.streamDirtyOrNotScoredSince(now.truncatedTo(ChronoUnit.DAYS)))
+                .thenReturn(Stream.of(pluginA));
+
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService,
+                pluginService,
+                scoreService,
+                CONFIGURATION,
+                Runnable::run,
+                meterRegistry,
+                Clock.fixed(now.toInstant(), now.getZone()));
+        scoringEngine.run();
+        final ScoringEngine.RunSummary secondRun = scoringEngine.run();
+
+        verify(pluginService, never()).streamDirty();
+        verify(scoringA).apply(pluginA);
+        assertThat(secondRun.plugins()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOnlyComputeScoringsWithNewerProbeResults() {
+        final ZonedDateTime computedAt = ZonedDateTime.now().minusHours(1);
+
+        final Plugin plugin = mock(Plugin.class);
+        when(plugin.getDetails())
+                .thenReturn(Map.of(
+                        "probe-a",
+                        new ProbeResult("probe-a", "", ProbeResult.Status.SUCCESS, computedAt.minusDays(1), 1),
+                        "probe-b",
+                        new ProbeResult("probe-b", "", ProbeResult.Status.SUCCESS, computedAt.plusMinutes(5), 1)));
+
+        final Scoring scoringA = mock(Scoring.class);
+        when(scoringA.key()).thenReturn("scoring-a");
+        when(scoringA.version()).thenReturn(1);
+        when(scoringA.probeKeys()).thenReturn(Set.of("probe-a"));
+
+        final Scoring scoringB = mock(Scoring.class);
+        when(scoringB.key()).thenReturn("scoring-b");
+        when(scoringB.version()).thenReturn(1);
+        when(scoringB.probeKeys()).thenReturn(Set.of("probe-b"));
+        final ScoreResult newScoreResultB = new ScoreResult("scoring-b", 100, 1, Set.of(), 1);
+        when(scoringB.apply(plugin)).thenReturn(newScoreResultB);
+
+        final ScoreResult previousScoreResultA = new ScoreResult("scoring-a", 50, 1, Set.of(), 1);
+        final Score previousScore = mock(Score.class);
+        when(previousScore.getVerifiedAt()).thenReturn(computedAt);
+        when(previousScore.getDetails())
+                .thenReturn(Set.of(previousScoreResultA, new ScoreResult("scoring-b", 0, 1, Set.of(), 1)));
+
+        when(scoringService.getScoringList()).thenReturn(List.of(scoringA, scoringB));
+        when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
+        when(scoreService.latestScoresFor(List.of(plugin))).thenReturn(Map.of(plugin, previousScore));
+
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry);
+        final ScoringEngine.RunSummary summary = scoringEngine.run();
+
+        verify(scoringA, never()).apply(plugin);
+        verify(scoringB).apply(plugin);
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<Score>> scoreArgument = ArgumentCaptor.forClass(List.class);
+        verify(scoreService).saveAll(scoreArgument.capture(), eq(List.of()), eq(List.of(plugin)));
+        assertThat(scoreArgument.getValue()).singleElement().satisfies(score -> {
+            assertThat(score.getDetails()).containsExactlyInAnyOrder(previousScoreResultA, newScoreResultB);
+            assertThat(score.getValue()).isEqualTo(75);
+        });
+        assertThat(summary.scored()).isEqualTo(1);
+        assertThat(summary.reused()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldComputeScoringsWithMissingProbeResultOrNewerRelease() {
+        final ZonedDateTime verifiedAt = ZonedDateTime.now().minusHours(1);
+
+        final Plugin plugin = mock(Plugin.class);
+        when(plugin.getDetails())
+                .thenReturn(Map.of(
+                        "probe-a",
+                        new ProbeResult("probe-a", "", ProbeResult.Status.SUCCESS, verifiedAt.minusDays(1), 1)));
+        when(plugin.getReleaseTimestamp()).thenReturn(verifiedAt.plusMinutes(5));
+        when(plugin.getProbeResultsRemovedAt()).thenReturn(verifiedAt.plusMinutes(1));
+
+        final Scoring scoringA = mock(Scoring.class);
+        when(scoringA.key()).thenReturn("scoring-a");
+        when(scoringA.version()).thenReturn(1);
+        when(scoringA.probeKeys()).thenReturn(Set.of("probe-a"));
+
+        final Scoring scoringB = mock(Scoring.class);
+        when(scoringB.key()).thenReturn("scoring-b");
+        when(scoringB.version()).thenReturn(1);
+        when(scoringB.probeKeys()).thenReturn(Set.of("probe-a", "probe-b"));
+        when(scoringB.apply(plugin)).thenReturn(new ScoreResult("scoring-b", 0, 1, Set.of(), 1));
+
+        final Scoring scoringC = mock(Scoring.class);
+        when(scoringC.key()).thenReturn("scoring-c");
+        when(scoringC.version()).thenReturn(1);
+        when(scoringC.usesReleaseTimestamp()).thenReturn(true);
+        when(scoringC.apply(plugin)).thenReturn(new ScoreResult("scoring-c", 0, 1, Set.of(), 1));
+
+        final Score previousScore = mock(Score.class);
+        when(previousScore.getVerifiedAt()).thenReturn(verifiedAt);
+        when(previousScore.getDetails())
+                .thenReturn(Set.of(
+                        new ScoreResult("scoring-a", 100, 1, Set.of(), 1),
+                        new ScoreResult("scoring-b", 100, 1, Set.of(), 1),
+                        new ScoreResult("scoring-c", 100, 1, Set.of(), 1)));
+        when(scoreService.latestScoreFor(plugin)).thenReturn(Optional.of(previousScore));
+
+        when(scoringService.getScoringList()).thenReturn(List.of(scoringA, scoringB, scoringC));
+
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry);
+        scoringEngine.runOn(plugin);
+
+        verify(scoringA, never()).apply(plugin);
+        verify(scoringB).apply(plugin);
+        verify(scoringC).apply(plugin);
+    }
+
+    @Test
+    void shouldReuseScoringsWithProbeResultStillMissing() {
+        final ZonedDateTime verifiedAt = ZonedDateTime.now().minusHours(1);
+
+        final Plugin plugin = mock(Plugin.class);
+        when(plugin.getDetails())
+                .thenReturn(Map.of(
+                        "probe-a",
+                        new ProbeResult("probe-a", "", ProbeResult.Status.SUCCESS, verifiedAt.minusDays(1), 1)));
+        when(plugin.getProbeResultsRemovedAt()).thenReturn(verifiedAt.minusDays(2));
+
+        final Scoring scoringA = mock(Scoring.class);
+        when(scoringA.key()).thenReturn("scoring-a");
+        when(scoringA.version()).thenReturn(1);
+        when(scoringA.probeKeys()).thenReturn(Set.of("probe-a", "probe-b"));
+
+        final Score previousScore = new Score(plugin, verifiedAt);
+        previousScore.addDetail(new ScoreResult("scoring-a", 100, 1, Set.of(), 1));
+        when(scoreService.latestScoreFor(plugin)).thenReturn(Optional.of(previousScore));
+        when(scoringService.getScoringList()).thenReturn(List.of(scoringA));
+
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry);
+        final Score score = scoringEngine.runOn(plugin);
+
+        verify(scoringA, never()).apply(plugin);
+        assertThat(score).isSameAs(previousScore);
+    }
+
+    @Test
+    void shouldReuseTimeDependentScoringsOnTheDayTheyWereVerified() {
+        final ZonedDateTime verifiedAt = ZonedDateTime.parse("2024-01-01T10:00:00Z");
+        final Plugin plugin = pluginReleasedBefore(verifiedAt);
+        final Score previousScore = new Score(plugin, verifiedAt);
+        previousScore.addDetail(new AdoptionScoring(clockAt(verifiedAt)).apply(plugin));
+        when(scoreService.latestScoreFor(plugin)).thenReturn(Optional.of(previousScore));
+
+        final Clock clock = clockAt(verifiedAt.plusHours(6));
+        when(scoringService.getScoringList()).thenReturn(List.of(new AdoptionScoring(clock)));
+
+        final Score score = new ScoringEngine(
+                        scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry, clock)
+                .runOn(plugin);
+
+        assertThat(score).isSameAs(previousScore);
+        verify(scoreService).saveAll(List.of(), List.of(), List.of(plugin));
+    }
+
+    @Test
+    void shouldLowerTimeDependentScoresAsTimePasses() {
+        final ZonedDateTime verifiedAt = ZonedDateTime.parse("2024-01-01T10:00:00Z");
+        final Plugin plugin = pluginReleasedBefore(verifiedAt);
+        final Score previousScore = new Score(plugin, verifiedAt);
+        previousScore.addDetail(new AdoptionScoring(clockAt(verifiedAt)).apply(plugin));
+        when(scoreService.latestScoreFor(plugin)).thenReturn(Optional.of(previousScore));
+        when(scoreService.saveAll(anyList(), anyList(), eq(List.of(plugin))))
+                .then(AdditionalAnswers.returnsFirstArg());
+
+        final Clock clock = clockAt(verifiedAt.plusMonths(30));
+        when(scoringService.getScoringList()).thenReturn(List.of(new AdoptionScoring(clock)));
+
+        final Score score = new ScoringEngine(
+                        scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry, clock)
+                .runOn(plugin);
+
+        assertThat(previousScore.getValue()).isEqualTo(100);
+        assertThat(score).isNotSameAs(previousScore);
+        assertThat(score.getValue()).isEqualTo(83);
+    }
+
+    @Test
+    void shouldOnlyVerifyLatestScoreWhenResultsDidNotChange() {
+        final Plugin plugin = mock(Plugin.class);
+        when(plugin.getDetails())
+                .thenReturn(Map.of(
+                        "probe-a",
+                        new ProbeResult(
+                                "probe-a",
+                                "",
+                                ProbeResult.Status.SUCCESS,
+                                ZonedDateTime.now().minusMinutes(5),
+                                1)));
+
+        final Scoring scoringA = mock(Scoring.class);
+        when(scoringA.key()).thenReturn("scoring-a");
+        when(scoringA.version()).thenReturn(1);
+        when(scoringA.apply(plugin))
+                .thenReturn(new ScoreResult(
+                        "scoring-a", 100, 1, Set.of(new ScoringComponentResult(100, 1, List.of("reason"))), 1));
+
+        final Score previousScore = new Score(plugin, ZonedDateTime.now().minusHours(1));
+        previousScore.addDetail(new ScoreResult(
+                "scoring-a", 100, 1, Set.of(new ScoringComponentResult(100, 1, List.of("reason"))), 1));
+
+        when(scoringService.getScoringList()).thenReturn(List.of(scoringA));
+        when(pluginService.streamAll()).thenReturn(Stream.of(plugin));
+        when(scoreService.latestScoresFor(List.of(plugin))).thenReturn(Map.of(plugin, previousScore));
+
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry);
+        final ScoringEngine.RunSummary summary = scoringEngine.run();
+
+        verify(scoringA).apply(plugin);
+        verify(scoreService).saveAll(List.of(), List.of(previousScore), List.of(plugin));
+        assertThat(previousScore.getVerifiedAt()).isAfter(previousScore.getComputedAt());
+        assertThat(summary.scored()).isZero();
+        assertThat(summary.verified()).isEqualTo(1);
+    }
+
     @Test
     void shouldNotPreventScoringWhenExceptionOnOnePlugin() {
         final Plugin p1 = mock(Plugin.class);
@@ -277,7 +614,8 @@ class ScoringEngineTest {
         when(scoringService.getScoringList()).thenReturn(List.of(s1, s2));
         when(pluginService.streamAll()).thenReturn(Stream.of(p1, p2));
 
-        final ScoringEngine scoringEngine = new ScoringEngine(scoringService, pluginService, scoreService);
+        final ScoringEngine scoringEngine = new ScoringEngine(
+                scoringService, pluginService, scoreService, CONFIGURATION, Runnable::run, meterRegistry);
         scoringEngine.run();
 
         verify(s1).apply(p1);
@@ -285,4 +623,25 @@ class ScoringEngineTest {
         verify(s2).apply(p1);
         verify(s2).apply(p2);
     }
+
+    private static Plugin pluginReleasedBefore(ZonedDateTime verifiedAt) {
+        final ZonedDateTime release = verifiedAt.minusMonths(6);
+        return new Plugin("foo", new VersionNumber("1.0"), "scm", release)
+                .addDetails(new ProbeResult(
+                        UpForAdoptionProbe.KEY,
+                        "This plugin is not up for adoption.",
+                        ProbeResult.Status.SUCCESS,
+                        verifiedAt.minusDays(1),
+                        1))
+                .addDetails(new ProbeResult(
+                        LastCommitDateProbe.KEY,
+                        release.format(DateTimeFormatter.ISO_DATE_TIME),
+                        ProbeResult.Status.SUCCESS,
+                        verifiedAt.minusDays(1),
+                        1));
+    }
+
+    private static Clock clockAt(ZonedDateTime time) {
+        return Clock.fixed(time.toInstant(), time.getZone());
+    }
 }
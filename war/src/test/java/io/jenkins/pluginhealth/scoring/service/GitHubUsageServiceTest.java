@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jenkins.pluginhealth.scoring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class GitHubUsageServiceTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GitHubUsageService gitHubUsageService = new GitHubUsageService(meterRegistry);
+
+    @Test
+    void shouldCountRequestsByProbeAndOutcome() {
+        try (GitHubUsageService.Scope ignored = gitHubUsageService.attribute("foo", "plugin-a")) {
+            gitHubUsageService.record(GitHubUsageService.Outcome.NETWORK, null);
+            gitHubUsageService.record(GitHubUsageService.Outcome.NETWORK, null);
+            gitHubUsageService.record(GitHubUsageService.Outcome.NOT_MODIFIED, null);
+        }
+        try (GitHubUsageService.Scope ignored = gitHubUsageService.attribute("bar", "plugin-a")) {
+            gitHubUsageService.record(GitHubUsageService.Outcome.CACHED, null);
+        }
+        gitHubUsageService.record(GitHubUsageService.Outcome.NETWORK, null);
+
+        assertThat(count("foo", "network")).isEqualTo(2);
+        assertThat(count("foo", "not_modified")).isEqualTo(1);
+        assertThat(count("bar", "cached")).isEqualTo(1);
+        assertThat(count("none", "network")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRestorePreviousAttribution() {
+        try (GitHubUsageService.Scope ignored = gitHubUsageService.attribute("foo", "plugin-a")) {
+            try (GitHubUsageService.Scope nested = gitHubUsageService.attribute("bar", "plugin-b")) {
+                assertThat(gitHubUsageService.currentAttribution())
+                        .isEqualTo(new GitHubUsageService.Attribution("bar", "plugin-b"));
+            }
+            assertThat(gitHubUsageService.currentAttribution())
+                    .isEqualTo(new GitHubUsageService.Attribution("foo", "plugin-a"));
+        }
+        assertThat(gitHubUsageService.currentAttribution())
+                .isEqualTo(new GitHubUsageService.Attribution("none", "none"));
+    }
+
+    @Test
+    void shouldKeepLatestRateLimitByResource() {
+        final Instant reset = Instant.ofEpochSecond(1_700_000_000);
+        gitHubUsageService.record(
+                GitHubUsageService.Outcome.NETWORK, new GitHubUsageService.RateLimit("core", 5000, 4999, reset));
+        gitHubUsageService.record(
+                GitHubUsageService.Outcome.NOT_MODIFIED, new GitHubUsageService.RateLimit("core", 5000, 4998, reset));
+        gitHubUsageService.record(
+                GitHubUsageService.Outcome.NETWORK, new GitHubUsageService.RateLimit("search", 30, 29, reset));
+
+        assertThat(gitHubUsageService.getRateLimit("core"))
+                .contains(new GitHubUsageService.RateLimit("core", 5000, 4998, reset));
+        assertThat(gitHubUsageService.getRateLimit("graphql")).isEmpty();
+        assertThat(remaining("core")).isEqualTo(4998);
+        assertThat(remaining("search")).isEqualTo(29);
+    }
+
+    @Test
+    void shouldKeepLastErrorUntilApiAnswers() {
+        gitHubUsageService.recordFailure(new IOException("foo"));
+        assertThat(gitHubUsageService.getLastFailure())
+                .map(GitHubUsageService.Failure::error)
+                .contains("java.io.IOException: foo");
+        assertThat(count("none", "error")).isEqualTo(1);
+
+        gitHubUsageService.record(GitHubUsageService.Outcome.CACHED, null);
+        assertThat(gitHubUsageService.getLastFailure()).isPresent();
+
+        gitHubUsageService.record(GitHubUsageService.Outcome.NETWORK, null);
+        assertThat(gitHubUsageService.getLastFailure()).isEmpty();
+    }
+
+    @Test
+    void shouldKeepErrorStatusAsFailure() {
+        final Instant reset = Instant.ofEpochSecond(1_700_000_000);
+        gitHubUsageService.recordFailure(403, new GitHubUsageService.RateLimit("core", 5000, 0, reset));
+
+        assertThat(gitHubUsageService.getLastFailure())
+                .map(GitHubUsageService.Failure::error)
+                .contains("HTTP 403");
+        assertThat(gitHubUsageService.getRateLimit("core"))
+                .contains(new GitHubUsageService.RateLimit("core", 5000, 0, reset));
+        assertThat(count("none", "failed")).isEqualTo(1);
+    }
+
+    private double remaining(String resource) {
+        return meterRegistry
+                .get("github.rate.limit.remaining")
+                .tag("resource", resource)
+                .gauge()
+                .value();
+    }
+
+    private double count(String probe, String outcome) {
+        return meterRegistry
+                .get("github.api.requests")
+                .tag("probe", probe)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Jenkins Infra
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jenkins.pluginhealth.scoring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.jenkins.pluginhealth.scoring.config.HttpArchiveConfiguration;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.util.SystemReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+class HttpArchiveTest {
+    private final JsonMapper mapper = JsonMapper.builder().build();
+
+    @TempDir
+    private Path directory;
+
+    @TempDir
+    private Path clones;
+
+    @AfterEach
+    void resetSystemReader() {
+        SystemReader.setInstance(null);
+    }
+
+    @Test
+    void shouldReplayRecordedResponses() throws IOException {
+        archive(HttpArchiveConfiguration.Mode.RECORD)
+                .record(new HttpArchive.Entry(
+                        "GET",
+                        "https://api.github.com/repos/jenkinsci/foo-plugin",
+                        200,
+                        Map.of("content-type", List.of("application/json")),
+                        "{\"name\":\"foo-plugin\"}".getBytes(StandardCharsets.UTF_8)));
+
+        final HttpArchive replay = archive(HttpArchiveConfiguration.Mode.REPLAY);
+
+        assertThat(replay.replay("GET", "https://api.github.com/repos/jenkinsci/foo-plugin"))
+                .hasValueSatisfying(entry -> {
+                    assertThat(entry.status()).isEqualTo(200);
+                    assertThat(entry.headers()).containsEntry("content-type", List.of("application/json"));
+                    assertThat(new String(entry.body(), StandardCharsets.UTF_8))
+                            .isEqualTo("{\"name\":\"foo-plugin\"}");
+                });
+        assertThat(replay.replay("POST", "https://api.github.com/repos/jenkinsci/foo-plugin")).isEmpty();
+        assertThat(replay.replay("GET", "https://api.github.com/repos/jenkinsci/bar-plugin")).isEmpty();
+    }
+
+    @Test
+    void shouldKeepLastRecordedResponse() throws IOException {
+        final HttpArchive record = archive(HttpArchiveConfiguration.Mode.RECORD);
+        record.record(new HttpArchive.Entry("GET", "https://example.com/foo", 500, Map.of(), new byte[0]));
+        record.record(new HttpArchive.Entry("GET", "https://example.com/foo", 200, Map.of(), new byte[0]));
+
+        assertThat(archive(HttpArchiveConfiguration.Mode.REPLAY).replay("GET", "https://example.com/foo"))
+                .hasValueSatisfying(entry -> assertThat(entry.status()).isEqualTo(200));
+    }
+
+    @Test
+    void shouldOpenRecordedFilesWithoutDownloadingThem() throws IOException {
+        final URI uri = URI.create("https://updates.jenkins.io/current/update-center.actual.json");
+        archive(HttpArchiveConfiguration.Mode.RECORD)
+                .record(new HttpArchive.Entry(
+                        "GET", uri.toString(), 200, Map.of(), "{}".getBytes(StandardCharsets.UTF_8)));
+
+        try (InputStream content = archive(HttpArchiveConfiguration.Mode.REPLAY).open(uri)) {
+            assertThat(content).hasContent("{}");
+        }
+    }
+
+    @Test
+    void shouldFailToOpenFilesWhichWereNotRecorded() {
+        final HttpArchive replay = archive(HttpArchiveConfiguration.Mode.REPLAY);
+        final URI uri = URI.create("https://updates.jenkins.io/current/update-center.actual.json");
+
+        assertThatThrownBy(() -> replay.open(uri))
+                .isInstanceOf(FileNotFoundException.class);
+    }
+
+    @Test
+    void shouldCloneRecordedRepositoriesFromTheArchive() throws Exception {
+        final Path repository = clones.resolve("foo-plugin");
+        try (Git git = Git.init().setDirectory(repository.toFile()).call()) {
+            Files.writeString(repository.resolve("pom.xml"), "<project/>");
+            git.add().addFilepattern("pom.xml").call();
+            git.commit()
+                    .setMessage("Initial commit")
+                    .setAuthor("Jenkins", "jenkins@example.com")
+                    .setCommitter("Jenkins", "jenkins@example.com")
+                    .call();
+        }
+        archive(HttpArchiveConfiguration.Mode.RECORD)
+                .recordRepository("https://github.com/jenkinsci/foo-plugin", repository);
+
+        archive(HttpArchiveConfiguration.Mode.REPLAY);
+
+        final Path replayed = clones.resolve("replayed");
+        try (Git ignored = Git.cloneRepository()
+                .setURI("https://github.com/jenkinsci/foo-plugin")
+                .setDirectory(replayed.toFile())
+                .call()) {
+            assertThat(replayed.resolve("pom.xml")).hasContent("<project/>");
+        }
+        assertThatThrownBy(() -> Git.cloneRepository()
+                        .setURI("https://github.com/jenkinsci/bar-plugin")
+                        .setDirectory(clones.resolve("unrecorded").toFile())
+                        .call())
+                .isInstanceOf(GitAPIException.class);
+    }
+
+    @Test
+    void shouldRestorePreviousSystemReaderWhenDestroyed() throws IOException {
+        final SystemReader previous = SystemReader.getInstance();
+        final HttpArchive replay = archive(HttpArchiveConfiguration.Mode.REPLAY);
+        assertThat(SystemReader.getInstance()).isNotSameAs(previous);
+
+        replay.destroy();
+
+        assertThat(SystemReader.getInstance()).isSameAs(previous);
+    }
+
+    private HttpArchive archive(HttpArchiveConfiguration.Mode mode) {
+        return new HttpArchive(
+                new HttpArchiveConfiguration(mode, directory, Duration.ZERO, 0, Duration.ofHours(1)), mapper);
+    }
+}
@@ -27,9 +27,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
 import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 
 import io.jenkins.pluginhealth.scoring.config.ApplicationConfiguration;
+import io.jenkins.pluginhealth.scoring.config.HttpArchiveConfiguration;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -54,7 +57,7 @@ class PluginDocumentationServiceTest {
                 new ApplicationConfiguration.Jenkins("foo", url.toString()),
                 new ApplicationConfiguration.GitHub("foo", null, "bar"));
 
-        final PluginDocumentationService service = new PluginDocumentationService(mapper, config);
+        final PluginDocumentationService service = new PluginDocumentationService(mapper, config, httpArchive());
         final Map<String, String> map = service.fetchPluginDocumentationUrl();
 
         assertThat(map)
@@ -72,7 +75,7 @@ class PluginDocumentationServiceTest {
                 new ApplicationConfiguration.Jenkins("foo", url.toString()),
                 new ApplicationConfiguration.GitHub("foo", null, "bar"));
 
-        final PluginDocumentationService service = new PluginDocumentationService(mapper, config);
+        final PluginDocumentationService service = new PluginDocumentationService(mapper, config, httpArchive());
         final Map<String, String> map = service.fetchPluginDocumentationUrl();
 
         assertThat(map)
@@ -85,9 +88,20 @@ class PluginDocumentationServiceTest {
         final ApplicationConfiguration config = new ApplicationConfiguration(
                 new ApplicationConfiguration.Jenkins("foo", "https://this-is-not-a-correct-url"),
                 new ApplicationConfiguration.GitHub("foo", null, "bar"));
-        final PluginDocumentationService service = new PluginDocumentationService(mapper, config);
+        final PluginDocumentationService service = new PluginDocumentationService(mapper, config, httpArchive());
         final Map<String, String> map = service.fetchPluginDocumentationUrl();
 
         assertThat(map).isEmpty();
     }
+
+    private HttpArchive httpArchive() {
+        return new HttpArchive(
+                new HttpArchiveConfiguration(
+                        HttpArchiveConfiguration.Mode.OFF,
+                        Path.of("http-archive"),
+                        Duration.ZERO,
+                        0,
+                        Duration.ofHours(1)),
+                mapper);
+    }
 }
@@ -26,10 +26,15 @@ package io.jenkins.pluginhealth.scoring.service;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
 
 import io.jenkins.pluginhealth.scoring.config.ApplicationConfiguration;
+import io.jenkins.pluginhealth.scoring.config.HttpArchiveConfiguration;
 import io.jenkins.pluginhealth.scoring.model.updatecenter.UpdateCenter;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.json.JsonTest;
@@ -49,7 +54,16 @@ class UpdateCenterServiceTest {
                 new ApplicationConfiguration.Jenkins(updateCenterURL.toString(), "foo"),
                 new ApplicationConfiguration.GitHub("foo", null, "bar"));
 
-        UpdateCenterService updateCenterService = new UpdateCenterService(objectMapper, configuration);
+        final HttpArchive httpArchive = new HttpArchive(
+                new HttpArchiveConfiguration(
+                        HttpArchiveConfiguration.Mode.OFF,
+                        Path.of("http-archive"),
+                        Duration.ZERO,
+                        0,
+                        Duration.ofHours(1)),
+                objectMapper);
+        UpdateCenterService updateCenterService = new UpdateCenterService(
+                objectMapper, configuration, httpArchive, new SimpleMeterRegistry(), Tracer.NOOP);
 
         UpdateCenter updateCenter = updateCenterService.fetchUpdateCenter();
         assertThat(updateCenter.plugins()).hasSize(25);